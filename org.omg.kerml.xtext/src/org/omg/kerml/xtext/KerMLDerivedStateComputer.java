@@ -3,21 +3,28 @@ package org.omg.kerml.xtext;
 import org.eclipse.xtext.resource.DerivedStateAwareResource;
 import org.eclipse.xtext.resource.IDerivedStateComputer;
 import org.omg.sysml.util.ElementUtil;
+import org.omg.sysml.util.SysMLLibrarySnapshot;
+import org.omg.sysml.util.SysMLLoadProfile;
+import org.omg.sysml.util.TransformationSnapshot;
 
 public class KerMLDerivedStateComputer implements IDerivedStateComputer {
 
 	@Override
 	public void installDerivedState(DerivedStateAwareResource resource, boolean preLinkingPhase) {
-		if (preLinkingPhase) {
+		if (preLinkingPhase || SysMLLibrarySnapshot.isSnapshotSource(resource)) {
 			return;
 		}
-		ElementUtil.transformAll(resource, false);
+		SysMLLoadProfile.recordFor(resource, SysMLLoadProfile.Phase.DERIVED_STATE, ()->{
+			TransformationSnapshot.restore(resource);
+			ElementUtil.transformAll(resource, false);
+		});
 	}
 	
 	@Override
 	public void discardDerivedState(DerivedStateAwareResource resource) {
-		// TODO Auto-generated method stub
-		
+		// Called before the resource is reparsed, while its old contents are still available. (The snapshot is
+		// also taken if the resource is being unloaded, but it is then removed once the unload is complete.)
+		TransformationSnapshot.capture(resource);
 	}
 
 }
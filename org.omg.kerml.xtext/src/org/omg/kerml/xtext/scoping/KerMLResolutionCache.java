@@ -0,0 +1,295 @@
+/*****************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *****************************************************************************/
+package org.omg.kerml.xtext.scoping;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.omg.sysml.adapter.NamespaceAdapter;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.Namespace;
+import org.omg.sysml.util.ElementUtil;
+
+/**
+ * A cache of the results of resolving qualified names in the local scope of a Namespace (see
+ * {@link KerMLScope}), including negative results for names that could not be resolved. The entries
+ * for a Namespace are held in its NamespaceAdapter. Each entry records the modification counts of
+ * all the Namespaces traversed during the resolution it caches, and it is only used as long as none
+ * of those Namespaces have changed (in their owned memberships, imports or specializations). An entry
+ * that is found to be out of date is removed.
+ * <p>
+ * Lookups are counted per resource set, in an instance of this class that is an adapter on the
+ * resource set of the Namespace (see {@link #getExistingCache(ResourceSet)}).
+ */
+public class KerMLResolutionCache extends AdapterImpl {
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * The key for a resolution, giving the qualified name being resolved and the other
+	 * scope parameters that can affect the result of the resolution.
+	 */
+	public static class Key {
+
+		private final QualifiedName qualifiedName;
+		private final EClass referenceType;
+		private final boolean isInsideScope;
+		private final boolean isRedefinition;
+		private final boolean includeAll;
+		private final Element element;
+		private final int hashCode;
+
+		/**
+		 * Create a resolution key.
+		 *
+		 * @param 	qualifiedName	the qualified name being resolved
+		 * @param 	referenceType	the metatype of the elements being resolved
+		 * @param 	isInsideScope	whether non-public members are visible
+		 * @param 	isRedefinition	whether the resolution is for the target of a Redefinition
+		 * @param 	includeAll		whether all members are visible, regardless of visibility
+		 * @param 	element			a context Element the result depends on (or null if none)
+		 */
+		public Key(QualifiedName qualifiedName, EClass referenceType, boolean isInsideScope, boolean isRedefinition, boolean includeAll, Element element) {
+			this.qualifiedName = qualifiedName;
+			this.referenceType = referenceType;
+			this.isInsideScope = isInsideScope;
+			this.isRedefinition = isRedefinition;
+			this.includeAll = includeAll;
+			this.element = element;
+			this.hashCode = Objects.hash(qualifiedName, referenceType, isInsideScope, isRedefinition, includeAll, element);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			} else if (!(object instanceof Key)) {
+				return false;
+			} else {
+				Key other = (Key)object;
+				return hashCode == other.hashCode &&
+					   referenceType == other.referenceType &&
+					   isInsideScope == other.isInsideScope &&
+					   isRedefinition == other.isRedefinition &&
+					   includeAll == other.includeAll &&
+					   element == other.element &&
+					   qualifiedName.equals(other.qualifiedName);
+			}
+		}
+
+	}
+
+	/**
+	 * A cached resolution result.
+	 */
+	public static class Entry {
+
+		private final List<IEObjectDescription> result;
+		private final boolean isShadowing;
+		private final NamespaceAdapter[] adapters;
+		private final int[] modificationCounts;
+
+		/**
+		 * Create a resolution entry.
+		 *
+		 * @param 	result			the descriptions resolved (empty if the name could not be resolved)
+		 * @param 	isShadowing		whether a shadowing name was found during the resolution
+		 * @param 	namespaces		the Namespaces traversed during the resolution
+		 */
+		public Entry(List<IEObjectDescription> result, boolean isShadowing, Collection<Namespace> namespaces) {
+			this.result = Collections.unmodifiableList(result);
+			this.isShadowing = isShadowing;
+			this.adapters = new NamespaceAdapter[namespaces.size()];
+			this.modificationCounts = new int[adapters.length];
+			int i = 0;
+			for (Namespace namespace: namespaces) {
+				adapters[i] = (NamespaceAdapter)ElementUtil.getElementAdapter(namespace);
+				modificationCounts[i] = adapters[i].getModificationCount();
+				i++;
+			}
+		}
+
+		public List<IEObjectDescription> getResult() {
+			return result;
+		}
+
+		public boolean isShadowing() {
+			return isShadowing;
+		}
+
+		/**
+		 * Check whether none of the Namespaces traversed in computing this entry have changed since.
+		 *
+		 * @return	whether this entry is up to date
+		 */
+		public boolean isCurrent() {
+			for (int i = 0; i < adapters.length; i++) {
+				if (adapters[i].getModificationCount() != modificationCounts[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Check whether this (up to date) entry can be used for a resolution that excludes the given
+		 * Element from the search. It cannot if the excluded Element (or its owner) was one of the
+		 * Namespaces traversed in computing it.
+		 *
+		 * @param 	skip			an Element to be excluded from the search (may be null)
+		 * @return	whether this entry can be used
+		 */
+		public boolean isValidFor(Element skip) {
+			if (skip != null) {
+				EObject skipOwner = skip.eContainer();
+				for (NamespaceAdapter adapter: adapters) {
+					Element target = adapter.getTarget();
+					if (target == skip || target == skipOwner) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+
+	}
+
+	/**
+	 * Get a valid cached resolution for the given key in the given Namespace. Entries are only cached
+	 * for complete resolutions, which did not encounter any Element excluded from the search, so they
+	 * do not depend on the visited Elements of the search. But a search excluding visited Elements
+	 * (i.e., one nested in another search on the same thread) may not find what a cached entry contains,
+	 * so the cache is not used if there are any visited Elements. A cached entry that is out of date
+	 * is removed.
+	 *
+	 * @param 	namespace		the Namespace in which the resolution is done
+	 * @param 	key				the key for the resolution
+	 * @param 	skip			an Element to be excluded from the search (may be null)
+	 * @param 	visited			the Elements already excluded from searches on the current thread
+	 * @return	the cached entry, or null if there is no valid one
+	 */
+	public static Entry get(Namespace namespace, Key key, Element skip, Set<Element> visited) {
+		KerMLResolutionCache cache = getCache(namespace);
+		if (!visited.isEmpty()) {
+			cache.misses.incrementAndGet();
+			return null;
+		}
+		Map<Object, Object> entries = getAdapter(namespace).getResolutionCache();
+		Entry entry = (Entry)entries.get(key);
+		if (entry != null && !entry.isCurrent()) {
+			entries.remove(key, entry);
+			entry = null;
+		}
+		if (entry != null && entry.isValidFor(skip)) {
+			cache.hits.incrementAndGet();
+			return entry;
+		} else {
+			cache.misses.incrementAndGet();
+			return null;
+		}
+	}
+
+	/**
+	 * Cache a resolution for the given key in the given Namespace.
+	 *
+	 * @param 	namespace		the Namespace in which the resolution is done
+	 * @param 	key				the key for the resolution
+	 * @param 	entry			the resolution entry to be cached
+	 */
+	public static void put(Namespace namespace, Key key, Entry entry) {
+		getAdapter(namespace).getResolutionCache().put(key, entry);
+	}
+
+	private static NamespaceAdapter getAdapter(Namespace namespace) {
+		return (NamespaceAdapter)ElementUtil.getElementAdapter(namespace);
+	}
+
+	/**
+	 * Get the cache counting lookups for the given resource set, if one has been created.
+	 *
+	 * @param 	resourceSet		the resource set
+	 * @return	the cache for the resource set, or null if there is none
+	 */
+	public static KerMLResolutionCache getExistingCache(ResourceSet resourceSet) {
+		return (KerMLResolutionCache)EcoreUtil.getExistingAdapter(resourceSet, KerMLResolutionCache.class);
+	}
+
+	/**
+	 * Get the cache counting lookups for the resource set of the given Namespace. If the Namespace is
+	 * not in a resource set, a new cache is returned, so its lookups are not counted anywhere.
+	 */
+	private static KerMLResolutionCache getCache(Namespace namespace) {
+		Resource resource = namespace.eResource();
+		ResourceSet resourceSet = resource == null? null: resource.getResourceSet();
+		if (resourceSet == null) {
+			return new KerMLResolutionCache();
+		}
+		KerMLResolutionCache cache = getExistingCache(resourceSet);
+		if (cache == null) {
+			synchronized (resourceSet) {
+				cache = getExistingCache(resourceSet);
+				if (cache == null) {
+					cache = new KerMLResolutionCache();
+					resourceSet.eAdapters().add(cache);
+				}
+			}
+		}
+		return cache;
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == KerMLResolutionCache.class;
+	}
+
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	public void resetCounts() {
+		hits.set(0);
+		misses.set(0);
+	}
+
+}
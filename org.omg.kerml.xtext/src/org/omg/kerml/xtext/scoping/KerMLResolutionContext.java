@@ -0,0 +1,165 @@
+/*****************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *****************************************************************************/
+package org.omg.kerml.xtext.scoping;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.xtext.naming.QualifiedName;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.Namespace;
+
+/**
+ * The state of a single resolution search in a {@link KerMLScope}. A new context is created for each
+ * search, so that no mutable search state is held by the scope or its scope provider, and searches
+ * on different threads do not interfere with each other.
+ * <p>
+ * The set of visited Elements is shared by all the contexts for searches on the same thread (see
+ * {@link KerMLScopeProvider#getVisited()}), since it is used to exclude Elements from nested searches
+ * caused by proxy resolution during an enclosing search.
+ */
+public class KerMLResolutionContext {
+
+	/**
+	 * The QualifiedName being resolved. If null, then return all Elements in the scope.
+	 */
+	private final QualifiedName targetqn;
+
+	/**
+	 * If targetqn != null, then whether only the first Element found for the targetqn
+	 * should be returned, or all matching Elements should be returned.
+	 */
+	private final boolean findFirst;
+
+	/**
+	 * The Memberships, Imports and other Elements excluded from the search to avoid circular resolution.
+	 */
+	private final Set<Element> visited;
+
+	/**
+	 * A map of Elements to the QualifiedNames found for them in the scope.
+	 */
+	private final Map<Element, Set<QualifiedName>> elements = new HashMap<>();
+
+	/**
+	 * The QualifiedNames that have already been seen during the search.
+	 */
+	private final Set<QualifiedName> visitedqns = new HashSet<>();
+
+	/**
+	 * The Namespaces traversed during the search.
+	 */
+	private final Set<Namespace> traversed = new HashSet<>();
+
+	/**
+	 * The set of Packages traversed in an import chain during the search.
+	 * (Should be empty again at the end of the search.)
+	 */
+	private final Set<org.omg.sysml.lang.sysml.Package> importingPackages = new HashSet<>();
+
+	/**
+	 * Whether a shadowing name has been found during the search.
+	 */
+	private boolean isShadowing = false;
+
+	/**
+	 * Whether the search was not truncated by an unresolved proxy or an Element excluded to avoid
+	 * circular resolution, so its result can be cached.
+	 */
+	private boolean isComplete = true;
+
+	/**
+	 * Create a context for a resolution search.
+	 *
+	 * @param 	targetqn		the qualified name to be resolved (or null to find all Elements)
+	 * @param 	findFirst		whether only the first Element found for the targetqn should be returned
+	 * @param 	visited			the Elements to be excluded from the search, for the current thread
+	 */
+	public KerMLResolutionContext(QualifiedName targetqn, boolean findFirst, Set<Element> visited) {
+		this.targetqn = targetqn;
+		this.findFirst = findFirst;
+		this.visited = visited;
+	}
+
+	public QualifiedName getTargetqn() {
+		return targetqn;
+	}
+
+	public boolean isFindFirst() {
+		return findFirst;
+	}
+
+	public Map<Element, Set<QualifiedName>> getElements() {
+		return elements;
+	}
+
+	public Set<QualifiedName> getVisitedqns() {
+		return visitedqns;
+	}
+
+	public Set<Namespace> getTraversed() {
+		return traversed;
+	}
+
+	public Set<org.omg.sysml.lang.sysml.Package> getImportingPackages() {
+		return importingPackages;
+	}
+
+	public boolean isShadowing() {
+		return isShadowing;
+	}
+
+	public void setShadowing(boolean isShadowing) {
+		this.isShadowing = isShadowing;
+	}
+
+	public boolean isComplete() {
+		return isComplete;
+	}
+
+	public void setComplete(boolean isComplete) {
+		this.isComplete = isComplete;
+	}
+
+	/**
+	 * Check whether the given Element has been excluded from the search to avoid circular resolution.
+	 * If so, the result of the search is incomplete.
+	 */
+	public boolean isVisited(Element element) {
+		if (visited.contains(element)) {
+			isComplete = false;
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	public void addVisited(Element element) {
+		visited.add(element);
+	}
+
+	public void removeVisited(Element element) {
+		visited.remove(element);
+	}
+
+}
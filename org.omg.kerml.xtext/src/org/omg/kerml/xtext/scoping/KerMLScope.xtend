@@ -28,7 +28,7 @@
  *****************************************************************************/
 package org.omg.kerml.xtext.scoping
 
-import java.util.Map
+import java.util.List
 import java.util.Set
 import org.eclipse.xtext.naming.QualifiedName
 import org.eclipse.xtext.resource.EObjectDescription
@@ -54,6 +54,8 @@ import org.omg.sysml.lang.sysml.util.ISysMLScope
 import com.google.inject.Inject
 import org.eclipse.xtext.naming.IQualifiedNameConverter
 import org.eclipse.emf.ecore.util.EcoreUtil
+import org.omg.sysml.lang.sysml.Redefinition
+import org.omg.sysml.util.NamespaceUtil
 
 class KerMLScope extends AbstractScope implements ISysMLScope {
 	
@@ -104,41 +106,15 @@ class KerMLScope extends AbstractScope implements ISysMLScope {
 	 */
 	protected val Element element
 	
-	/**
-	 * The set of Packages traversed in an import chain during a resolution search.
-	 * (Should be empty again at the end of each search.)
-	 */
-	protected val Set<org.omg.sysml.lang.sysml.Package> importingPackages = new HashSet()
-
 	/* 
-	 * The following fields are reset for each resolution search.
-	 */
-	 
-	/**
-	 * The QualifiedName being resolved. If null, then return all Elements in the scope.
-	 */
-	protected QualifiedName targetqn;
-	
-	/**
-	 * A map of Elements to the QualifiedNames found for them in the scope.
-	 */
-	protected Map<Element, Set<QualifiedName>> elements
-	
-	/**
-	 * The QualifiedNames that have already been seen during a resolution search.
+	 * The following field accumulates over all resolution searches. (All other search state is
+	 * held in a KerMLResolutionContext created for each search.)
 	 */
-	protected Set<QualifiedName> visitedqns
 	
 	/**
-	 * If targetqn != null, then whether only the first Element found for the targetqn
-	 * should be returned, or all matching Elements should be returned.
+	 * Whether a shadowing name has been found during any resolution search in this scope.
 	 */
-	protected boolean findFirst = false;
-	
-	/**
-	 * Whether a shadowing name has been found during the current resolution search.
-	 */
-	protected boolean isShadowing = false;
+	protected volatile boolean isShadowing = false;
 
 	new(IScope parent, Namespace ns, EClass referenceType, KerMLScopeProvider scopeProvider, boolean isInsideScope, boolean isFirstScope, boolean isRedefinition, Element element, Element skip) {
 		super(parent, false)
@@ -188,50 +164,95 @@ class KerMLScope extends AbstractScope implements ISysMLScope {
 	 * truncated). [Called when "XPECT scope" is used in an Xpect test.]
 	 */
 	def resolveInScope(QualifiedName targetqn, boolean findFirst) {
-		this.targetqn = targetqn;
-		this.findFirst = findFirst	
-		this.elements = newHashMap
-		this.visitedqns = newHashSet
-		resolve()
-		elements.keySet.flatMap[key |
-			elements.get(key).map[qn | EObjectDescription.create(qn, key)]
-		]
+		if (targetqn !== null && findFirst && !(skip instanceof Redefinition)) {
+			resolveCached(targetqn)
+		} else {
+			resolveUncached(targetqn, findFirst)
+		}
+	}
+	
+	/**
+	 * Resolve targetqn for the first matching element, using a result cached for the same resolution
+	 * parameters in this scope's namespace, if there is a valid one. Otherwise, do the resolution and,
+	 * if it was complete, cache the result along with the namespaces traversed to compute it.
+	 */
+	protected def resolveCached(QualifiedName targetqn) {
+		val key = new KerMLResolutionCache.Key(targetqn, referenceType, isInsideScope, isRedefinition, isIncludeAll, 
+			// The context element is only relevant if its effective name might differ from its declared name.
+			if (isFirstScope && element instanceof Feature && element.declaredName === null && element.declaredShortName === null) element else null)
+		val entry = KerMLResolutionCache.get(ns, key, skip, scopeProvider.visited)
+		if (entry !== null) {
+			if (entry.isShadowing) {
+				isShadowing = true
+			}
+			entry.result
+		} else {
+			val context = newContext(targetqn, true)
+			val result = context.resolve.toList
+			if (context.isComplete) {
+				KerMLResolutionCache.put(ns, key, new KerMLResolutionCache.Entry(result, context.isShadowing, context.traversed))
+			}
+			result
+		}
+	}
+	
+	protected def resolveUncached(QualifiedName targetqn, boolean findFirst) {
+		newContext(targetqn, findFirst).resolve
+	}
+	
+	/**
+	 * Create a new context for a resolution search in this scope, using the visited set
+	 * of the scope provider for the current thread.
+	 */
+	protected def newContext(QualifiedName targetqn, boolean findFirst) {
+		new KerMLResolutionContext(targetqn, findFirst, scopeProvider.visited)
+	}
+	
+	protected def isIncludeAll() {
+		referenceType === SysMLPackage.eINSTANCE.membership && element instanceof Import && (element as Import).isImportAll
 	}
 	
-	protected def void resolve() {
+	protected def resolve(KerMLResolutionContext context) {
+		val targetqn = context.targetqn
 		if (targetqn !== null && skip !== null) {
-			scopeProvider.addVisited(skip)
+			context.addVisited(skip)
 		}
 		if (ns instanceof Type && isRedefinition) {
 			// For a redefinition within a type, start resolution search with inherited members.
-			ns.gen(QualifiedName.create(), newHashSet, null, true, true)
+			ns.gen(context, QualifiedName.create(), newHashSet, null, true, true)
 		} else {
-			val includeAll = referenceType === SysMLPackage.eINSTANCE.membership && element instanceof Import && (element as Import).isImportAll
-			ns.resolve(QualifiedName.create(), newHashSet, newHashSet, newHashSet, false, isInsideScope, true, true, includeAll)
+			ns.resolve(context, QualifiedName.create(), newHashSet, newHashSet, newHashSet, false, isInsideScope, true, true, isIncludeAll)
 		}
 		if (targetqn !== null && skip !== null) {
-			scopeProvider.removeVisited(skip)
+			context.removeVisited(skip)
 		}
+		if (context.isShadowing) {
+			isShadowing = true
+		}
+		val elements = context.elements
+		elements.keySet.flatMap[key |
+			elements.get(key).map[qn | EObjectDescription.create(qn, key)]
+		]
 	}
 	
-	protected def boolean resolve(Namespace ns, QualifiedName qn, Set<Namespace> ownedVisited, Set<Namespace> visited, Set<Element> redefined, 
+	protected def boolean resolve(Namespace ns, KerMLResolutionContext context, QualifiedName qn, Set<Namespace> ownedVisited, Set<Namespace> visited, Set<Element> redefined, 
 		boolean checkIfAdded, boolean isInsideScope, boolean isInheriting, boolean includeImplicitGen, boolean includeAll) {
-		ns.owned(qn, ownedVisited, visited, redefined, checkIfAdded, isInsideScope, isInheriting, includeImplicitGen, includeAll) ||
-		ns.gen(qn, visited, redefined, isInheriting, includeImplicitGen) ||
-		ns.imp(qn, visited, isInsideScope, includeImplicitGen, includeAll)
+		ns.owned(context, qn, ownedVisited, visited, redefined, checkIfAdded, isInsideScope, isInheriting, includeImplicitGen, includeAll) ||
+		ns.gen(context, qn, visited, redefined, isInheriting, includeImplicitGen) ||
+		ns.imp(context, qn, visited, isInsideScope, includeImplicitGen, includeAll)
 	}
 	
-	protected def boolean addName(QualifiedName qn, Membership mem, Element elm) {
+	protected def boolean addName(KerMLResolutionContext context, QualifiedName qn, Membership mem, Element elm) {
 		var el = elm
 		if (referenceType !== SysMLPackage.eINSTANCE.membership && !referenceType.isInstance(el)) {
 			return false
 		} else {
-			if (findFirst && referenceType === SysMLPackage.eINSTANCE.membership) {
+			if (context.findFirst && referenceType === SysMLPackage.eINSTANCE.membership) {
 				el = mem
 			}
-			val qns = elements.get(el)
+			val qns = context.elements.get(el)
 			if (qns === null) {
-				elements.put(el, newHashSet(qn))
+				context.elements.put(el, newHashSet(qn))
 			} else {
 				qns.add(qn)
 			}
@@ -239,47 +260,52 @@ class KerMLScope extends AbstractScope implements ISysMLScope {
 		}
 	}
 	
-	protected def boolean isIncludeAsMember(Element el) {
+	protected def boolean isIncludeAsMember(KerMLResolutionContext context, Element el) {
+		val importingPackages = context.importingPackages
+		if (!importingPackages.isEmpty && el instanceof Namespace) {
+			context.traversed.add(el as Namespace)
+		}
 		importingPackages.forall[includeAsMember(el)]
 	}
 	
-	protected def boolean owned(Namespace ns, QualifiedName qn, Set<Namespace> ownedvisited, Set<Namespace> visited, Set<Element> redefined, 
+	protected def boolean owned(Namespace ns, KerMLResolutionContext context, QualifiedName qn, Set<Namespace> ownedvisited, Set<Namespace> visited, Set<Element> redefined, 
 		boolean checkIfAdded, boolean isInsideScope, boolean isInheriting, boolean includeImplicitGen, boolean includeAll) {		
 		if (!ownedvisited.contains(ns)) {
-			if (targetqn === null) {
+			context.traversed.add(ns)
+			if (context.targetqn === null) {
 				ownedvisited.add(ns)		
 			}
 			
-			for (mem: ns.ownedMembership.clone) { // Clone to avoid any possible ConcurrentModificationException.
-				if (!scopeProvider.visited.contains(mem)) {
+			for (mem: ns.ownedMembershipsFor(context, qn)) {
+				if (!context.isVisited(mem)) {
 					if (includeAll || isInsideScope || mem.visibility == VisibilityKind.PUBLIC || 
 						     mem.visibility == VisibilityKind.PROTECTED && isInheriting) {
 
 						// Note: Proxy resolution may result in recursive name resolution. In this case, the
 						// membership mem should be excluded from the scope, to avoid a cyclic linking error.
-						scopeProvider.addVisited(mem)
+						context.addVisited(mem)
 						
 						var memberName = 
 							if (mem instanceof OwningMembership && isFirstScope && ns == this.ns && mem.memberElement === element) 
 								mem.memberElement?.declaredName // Note: Don't use effective name.
 							else mem.memberName
 					
-						if (checkElementName(memberName, qn, mem, ownedvisited, visited, redefined, checkIfAdded, includeImplicitGen, includeAll)) {
+						if (context.checkElementName(memberName, qn, mem, ownedvisited, visited, redefined, checkIfAdded, includeImplicitGen, includeAll)) {
 							return true
 						}
 						
-						scopeProvider.addVisited(mem) // In case it was removed during the previous checkElementName call.
+						context.addVisited(mem) // In case it was removed during the previous checkElementName call.
 						
 						var memberShortName = 
 							if (mem instanceof OwningMembership && isFirstScope && ns == this.ns && mem.memberElement === element) 
 								mem.memberElement?.declaredShortName // Note: Don't use effective shortName.
 							else mem.memberShortName
 					
-						if (checkElementName(memberShortName, qn, mem, ownedvisited, visited, redefined, checkIfAdded, includeImplicitGen, includeAll)) {
+						if (context.checkElementName(memberShortName, qn, mem, ownedvisited, visited, redefined, checkIfAdded, includeImplicitGen, includeAll)) {
 							return true
 						}
 					
-						scopeProvider.removeVisited(mem)						
+						context.removeVisited(mem)						
 					}					
 				}
 			}
@@ -287,20 +313,36 @@ class KerMLScope extends AbstractScope implements ISysMLScope {
 		}
 		return false
 	}
-	
-	protected def checkElementName(String elementName, QualifiedName qn, Membership mem, 
+
+	/**
+	 * Get the owned memberships of ns that need to be checked when searching with the qualification qn.
+	 * When resolving a targetqn, only those memberships that may have the next segment of targetqn
+	 * as their name are checked, as found from the membership index of ns.
+	 */
+	protected def List<Membership> ownedMembershipsFor(Namespace ns, KerMLResolutionContext context, QualifiedName qn) {
+		val targetqn = context.targetqn
+		if (targetqn === null)
+			ns.ownedMembership.clone // Clone to avoid any possible ConcurrentModificationException.
+		else if (qn.segmentCount < targetqn.segmentCount)
+			NamespaceUtil.getOwnedMembershipsNamed(ns, targetqn.getSegment(qn.segmentCount))
+		else
+			emptyList
+	}
+
+	protected def checkElementName(KerMLResolutionContext context, String elementName, QualifiedName qn, Membership mem, 
 		Set<Namespace> ownedvisited, Set<Namespace> visited, Set<Element> redefined,
 		boolean checkIfAdded, boolean includeImplicitGen, boolean includeAll) {
 		if (elementName !== null) {
 			val elementqn = qn.append(elementName)
-			if (checkQualifiedName(elementqn, checkIfAdded)) {
+			if (context.checkQualifiedName(elementqn, checkIfAdded)) {
 			    // Delay proxy resolution of memberElement for as long as possible (if not caused by getting memberName).
 			    // This can prevent the proxy from being spuriously marked as unresolvable during an earlier phase of the search. 
 			    val memberElement = mem.memberElement
-				scopeProvider.removeVisited(mem)
-			    if (memberElement !== null && !memberElement.eIsProxy && 
-			    	!redefined.contains(memberElement) && 
-			    	visitQualifiedName(elementqn, mem, memberElement, ownedvisited, visited, includeImplicitGen, includeAll)) {
+				context.removeVisited(mem)
+			    if (memberElement === null || memberElement.eIsProxy) {
+			    	context.complete = false
+			    } else if (!redefined.contains(memberElement) && 
+			    	context.visitQualifiedName(elementqn, mem, memberElement, ownedvisited, visited, includeImplicitGen, includeAll)) {
 					return true
 				}
 			}
@@ -308,19 +350,21 @@ class KerMLScope extends AbstractScope implements ISysMLScope {
 		return false
 	}
 	
-	protected def checkQualifiedName(QualifiedName elementqn, boolean checkIfAdded) {
+	protected def checkQualifiedName(KerMLResolutionContext context, QualifiedName elementqn, boolean checkIfAdded) {
+		val targetqn = context.targetqn
 		(targetqn === null || targetqn.startsWith(elementqn)) &&
-		(!checkIfAdded || !visitedqns.contains(elementqn))
+		(!checkIfAdded || !context.visitedqns.contains(elementqn))
 	}
 	
-	protected def addQualifiedName(QualifiedName elementqn, Membership mem, Element memberElement) {
-		visitedqns.add(elementqn)
+	protected def addQualifiedName(KerMLResolutionContext context, QualifiedName elementqn, Membership mem, Element memberElement) {
+		val targetqn = context.targetqn
+		context.visitedqns.add(elementqn)
 		if (targetqn === null || targetqn == elementqn) {
-			if (addName(elementqn, mem, memberElement)) {
+			if (context.addName(elementqn, mem, memberElement)) {
 				if (targetqn != elementqn && memberElement instanceof Namespace) {
-					isShadowing = true
+					context.shadowing = true
 				}
-				if (findFirst && targetqn == elementqn) {
+				if (context.findFirst && targetqn == elementqn) {
 					return true
 				}
 			}
@@ -328,18 +372,18 @@ class KerMLScope extends AbstractScope implements ISysMLScope {
 		false
 	}
 	
-	protected def visitQualifiedName(QualifiedName elementqn, Membership mem, Element memberElement, Set<Namespace> ownedVisited, Set<Namespace> visited, 
+	protected def visitQualifiedName(KerMLResolutionContext context, QualifiedName elementqn, Membership mem, Element memberElement, Set<Namespace> ownedVisited, Set<Namespace> visited, 
 		boolean includeImplicitGen, boolean includeAll) {
-		if (!memberElement.includeAsMember) {
+		if (!context.isIncludeAsMember(memberElement)) {
 			return false
 		}
-		if (addQualifiedName(elementqn, mem, memberElement)) {
+		if (context.addQualifiedName(elementqn, mem, memberElement)) {
 			return true
 		}		
-		if (targetqn != elementqn) {
+		if (context.targetqn != elementqn) {
 			if (memberElement instanceof Namespace) {
-				isShadowing = true;
- 				if (memberElement.resolve(elementqn, ownedVisited, visited, newHashSet, false, false, false, includeImplicitGen, includeAll)) {
+				context.shadowing = true;
+ 				if (memberElement.resolve(context, elementqn, ownedVisited, visited, newHashSet, false, false, false, includeImplicitGen, includeAll)) {
  					return true;
  				}
 			}
@@ -347,13 +391,14 @@ class KerMLScope extends AbstractScope implements ISysMLScope {
 		false
 	}
 	
-	protected def boolean gen(Namespace ns, QualifiedName qn, Set<Namespace> visited, Set<Element> redefined, boolean isInheriting, boolean includeImplicit) {
+	protected def boolean gen(Namespace ns, KerMLResolutionContext context, QualifiedName qn, Set<Namespace> visited, Set<Element> redefined, boolean isInheriting, boolean includeImplicit) {
 		if (ns instanceof Type) {
+			context.traversed.add(ns)
 			val conjugator = ns.ownedConjugator
-			if (conjugator !== null && !scopeProvider.visited.contains(conjugator)) {
-				scopeProvider.addVisited(conjugator)
-				val found = conjugator.originalType.resolveIfUnvisited(qn, false, visited, newHashSet, false, false, includeImplicit, false)
-				scopeProvider.removeVisited(conjugator)
+			if (conjugator !== null && !context.isVisited(conjugator)) {
+				context.addVisited(conjugator)
+				val found = conjugator.originalType.resolveIfUnvisited(context, qn, false, visited, newHashSet, false, false, includeImplicit, false)
+				context.removeVisited(conjugator)
 				if (found) {
 					return true
 				}
@@ -361,26 +406,26 @@ class KerMLScope extends AbstractScope implements ISysMLScope {
 			val newRedefined = new HashSet()
 			if (redefined !== null) {
 				newRedefined.addAll(redefined)
-				newRedefined.addAll(ns.redefinedFeatures)
+				newRedefined.addAll(ns.redefinedFeatures(context))
 			}
 			for (e: ns.ownedSpecialization) {
-				if (!scopeProvider.visited.contains(e)) {
+				if (!context.isVisited(e)) {
 					// NOTE: Exclude the generalization e to avoid possible circular name resolution
 					// when resolving a proxy for e.general.
-					scopeProvider.addVisited(e)
-					val found = e.general.resolveIfUnvisited(qn, false, visited, newRedefined, isInheriting, false, includeImplicit, false)
-					scopeProvider.removeVisited(e)
+					context.addVisited(e)
+					val found = e.general.resolveIfUnvisited(context, qn, false, visited, newRedefined, isInheriting, false, includeImplicit, false)
+					context.removeVisited(e)
 					if (found) {
 						return true
 					}
 				}
 			}
-			if (includeImplicit && !scopeProvider.visited.contains(ns)) {
-				scopeProvider.addVisited(ns);
+			if (includeImplicit && !context.isVisited(ns)) {
+				context.addVisited(ns);
 				var implicitTypes = TypeUtil.getImplicitGeneralTypesFor(ns);
-				scopeProvider.removeVisited(ns)
+				context.removeVisited(ns)
 				for (type : implicitTypes) {
-					val found = type.resolveIfUnvisited(qn, false, visited, newRedefined, isInheriting, false, true, false)
+					val found = type.resolveIfUnvisited(context, qn, false, visited, newRedefined, isInheriting, false, true, false)
 					if (found) {
 						return true
 					}
@@ -389,7 +434,7 @@ class KerMLScope extends AbstractScope implements ISysMLScope {
 			if (ns instanceof Feature) {
 				val chainingFeature = FeatureUtil.getLastChainingFeatureOf(ns)
 				if (chainingFeature !== null && 
-					chainingFeature.resolveIfUnvisited(qn, false, visited, newRedefined, isInheriting, false, true, false)) {
+					chainingFeature.resolveIfUnvisited(context, qn, false, visited, newRedefined, isInheriting, false, true, false)) {
 					return true;
 				}
 			}
@@ -397,26 +442,28 @@ class KerMLScope extends AbstractScope implements ISysMLScope {
 		return false
 	}
 	
-	protected def Set<Feature> redefinedFeatures(Type type) {
-		type.ownedFeature.
-			flatMap[feature|FeatureUtil.getRedefinedFeaturesWithComputedOf(feature, skip)].toSet
+	protected def Set<Feature> redefinedFeatures(Type type, KerMLResolutionContext context) {
+		val features = type.ownedFeature
+		context.traversed.addAll(features)
+		features.flatMap[feature|FeatureUtil.getRedefinedFeaturesWithComputedOf(feature, skip)].toSet
 	}
 	
-	protected def boolean imp(Namespace ns, QualifiedName qn, Set<Namespace> visited, boolean isInsideScope, boolean includeImplicitGen, boolean includeAll) {
+	protected def boolean imp(Namespace ns, KerMLResolutionContext context, QualifiedName qn, Set<Namespace> visited, boolean isInsideScope, boolean includeImplicitGen, boolean includeAll) {
+		context.traversed.add(ns)
 		for (e: ns.ownedImport) {
-			if (!scopeProvider.visited.contains(e)) {
+			if (!context.isVisited(e)) {
 				if (includeAll || isInsideScope || e.visibility == VisibilityKind.PUBLIC) {
 					if (ns instanceof org.omg.sysml.lang.sysml.Package) {
 						if (!ns.filterCondition.isEmpty) {
-							importingPackages.add(ns)
+							context.importingPackages.add(ns)
 						}
 					}
 					// NOTE: Exclude the import e to avoid possible circular name resolution
 					// when resolving a proxy for e.importedNamespace.
-					scopeProvider.addVisited(e)
-					val found = e.resolveImport(qn, visited, includeImplicitGen)
-					scopeProvider.removeVisited(e)
-					importingPackages.remove(ns)
+					context.addVisited(e)
+					val found = e.resolveImport(context, qn, visited, includeImplicitGen)
+					context.removeVisited(e)
+					context.importingPackages.remove(ns)
 					if (found) return true
 				}
 			}
@@ -424,63 +471,65 @@ class KerMLScope extends AbstractScope implements ISysMLScope {
 		return false
 	}
 	
-	protected def boolean resolveImport(Import imp, QualifiedName qn, Set<Namespace> visited, boolean includeImplicitGen) {
+	protected def boolean resolveImport(Import imp, KerMLResolutionContext context, QualifiedName qn, Set<Namespace> visited, boolean includeImplicitGen) {
 		if (imp instanceof NamespaceImport) {
-			return imp.importedNamespace.resolveIfUnvisited(qn, true, visited, newHashSet, false, imp.isRecursive, includeImplicitGen, imp.isImportAll)
+			return imp.importedNamespace.resolveIfUnvisited(context, qn, true, visited, newHashSet, false, imp.isRecursive, includeImplicitGen, imp.isImportAll)
 		} else {
 			val mem = (imp as MembershipImport).importedMembership
 			
 			// Check if the targetqn resolves via the imported membership.
 			val elm = mem.memberElement
-			if (resolveForName(mem, elm, mem.memberName, qn, visited, includeImplicitGen, imp.isImportAll)) {
+			if (context.resolveForName(mem, elm, mem.memberName, qn, visited, includeImplicitGen, imp.isImportAll)) {
 				return true
 			}
-			if (resolveForName(mem, elm, mem.memberShortName, qn, visited, includeImplicitGen, imp.isImportAll)) {
+			if (context.resolveForName(mem, elm, mem.memberShortName, qn, visited, includeImplicitGen, imp.isImportAll)) {
 				return true
 			}
 							
 			// If recursive, check recursively.
 			if (elm instanceof Namespace && imp.isRecursive) {
-				return (elm as Namespace).resolveIfUnvisited(qn, true, visited, newHashSet, false, true, false, imp.isImportAll)
+				return (elm as Namespace).resolveIfUnvisited(context, qn, true, visited, newHashSet, false, true, false, imp.isImportAll)
 			}
 				
 			return false
 		}			
 	}
 	
-	protected def boolean resolveForName(Membership mem, Element elm, String name, QualifiedName qn, Set<Namespace> visited, 
+	protected def boolean resolveForName(KerMLResolutionContext context, Membership mem, Element elm, String name, QualifiedName qn, Set<Namespace> visited, 
 		boolean includeImplicitGen, boolean includeAll) {
 		if (name !== null) {
 			var elementqn = qn.append(name)			
-			if (elementqn.checkQualifiedName(true) && 
-				elementqn.visitQualifiedName(mem, elm, newHashSet, visited, includeImplicitGen, includeAll)) {
+			if (context.checkQualifiedName(elementqn, true) && 
+				context.visitQualifiedName(elementqn, mem, elm, newHashSet, visited, includeImplicitGen, includeAll)) {
 				return true
 			}
 		}	
 		return false
 	}
 	
-	protected def boolean resolveIfUnvisited(Namespace ns, QualifiedName qn, boolean checkIfAdded, Set<Namespace> visited, Set<Element> redefined, 
+	protected def boolean resolveIfUnvisited(Namespace ns, KerMLResolutionContext context, QualifiedName qn, boolean checkIfAdded, Set<Namespace> visited, Set<Element> redefined, 
 		boolean isInheriting, boolean isRecursive, boolean includeImplicitGen, boolean includeAll) {
 		var found = false
-		if (ns !== null && !ns.eIsProxy && !visited.contains(ns)) {
+		if (ns === null || ns.eIsProxy) {
+			context.complete = false
+		} else if (!visited.contains(ns)) {
 			visited.add(ns)
-			found = ns.resolve(qn, newHashSet, visited, redefined, checkIfAdded, false, isInheriting, !isRecursive && includeImplicitGen, includeAll)
+			found = ns.resolve(context, qn, newHashSet, visited, redefined, checkIfAdded, false, isInheriting, !isRecursive && includeImplicitGen, includeAll)
 			if (!found && isRecursive) {
-				found = resolveRecursive(ns, qn, visited, includeAll)
+				found = ns.resolveRecursive(context, qn, visited, includeAll)
 			}
 			visited.remove(ns)
 		}
 		found
 	}
 	
-	protected def boolean resolveRecursive(Namespace ns, QualifiedName qn, Set<Namespace> visited, boolean includeAll) {
+	protected def boolean resolveRecursive(Namespace ns, KerMLResolutionContext context, QualifiedName qn, Set<Namespace> visited, boolean includeAll) {
 		for (r: ns.ownedRelationship) {
 			if (r instanceof OwningMembership) {
 				if (r.visibility == VisibilityKind.PUBLIC) {
 					val memberElement = r.ownedMemberElement
 					if (memberElement instanceof Namespace) {
-						if (memberElement.resolveIfUnvisited(qn, false, visited, newHashSet, false, true, false, includeAll))
+						if (memberElement.resolveIfUnvisited(context, qn, false, visited, newHashSet, false, true, false, includeAll))
 							return true
 					}
 				}					
@@ -54,23 +54,25 @@ class KerMLScopeProvider extends AbstractKerMLScopeProvider {
 	@Inject
 	IGlobalScopeProvider globalScope
 
-	// Used to record visited Memberships and Imports.
-	Set<Element> visited = newHashSet
+	// Used to record visited Memberships and Imports. Since proxy resolution during a resolution search
+	// may cause nested searches on the same thread, which must exclude the Elements visited by enclosing 
+	// searches, the visited set is kept per thread, so that resources can be linked concurrently.
+	val ThreadLocal<Set<Element>> visited = ThreadLocal.withInitial[newHashSet]
 	
 	def getVisited() {
-		visited
+		visited.get
 	}
 	
 	def setVisited(Set<Element> visited) {
-		this.visited = visited
+		this.visited.set(visited)
 	}
 	
 	def addVisited(Element element) {
-		visited.add(element)
+		visited.get.add(element)
 	}
 	
 	def removeVisited(Element element) {
-		visited.remove(element)
+		visited.get.remove(element)
 	}
 	
 	override getScope(EObject context, EReference reference) {
@@ -175,6 +175,13 @@ public class KerML2XMI extends SysMLUtil {
 			String arg = args[0];
 			if ("-g".equals(arg)) {
 				isAddImplicitElements = true;
+			} else if ("-p".equals(arg)) {
+				this.setParallelism(Runtime.getRuntime().availableProcessors());
+			} else if ("-c".equals(arg)) {
+				if (args.length > 1) {
+					this.setIndexCacheDirectory(new File(args[1]));
+					args = Arrays.copyOfRange(args, 1, args.length);
+				}
 			} else if ("-o".equals(arg)) {
 				if (args.length > 1) {
 					outputDirectoryBase = args[1];
@@ -208,7 +215,10 @@ public class KerML2XMI extends SysMLUtil {
 	public void run(String[] args) {
 		try {
 			args = processOptions(args);			
-			this.read(args);			
+			this.read(args);
+			if (this.getIndexCache() != null) {
+				System.out.println(this.getIndexCache().getStatistics());
+			}
 			this.write();
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -221,11 +231,13 @@ public class KerML2XMI extends SysMLUtil {
 	 * 
 	 * <p>Usage:
 	 * 
-	 * <p>Kerml2XMI [-g] [-o output-path] input-path [library-path library-path...]
+	 * <p>Kerml2XMI [-g] [-p] [-c cache-path] [-o output-path] input-path [library-path library-path...]
 	 * 
 	 * <p>where:
 	 * 
 	 * <li>-g                     specifies that implicit elements should be generated (the default is not to)</li>
+	 * <li>-p                     specifies that source files should be parsed in parallel (the default is not to)</li>
+	 * <li>-c cache-path          is a path for a directory used to cache index information for unchanged source files (and report the cache hit rate)</li>
 	 * <li>-o output-path         is a path for the output directory to be used to write resources</li>
 	 * <li>input-path             is a path for reading input resources</li>
 	 * <li>library-paths          are paths for reading library resources</li>
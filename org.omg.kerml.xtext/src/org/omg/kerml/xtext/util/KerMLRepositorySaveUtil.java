@@ -25,6 +25,7 @@
  *****************************************************************************/
 package org.omg.kerml.xtext.util;
 
+import java.io.File;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Date;
@@ -106,6 +107,8 @@ public class KerMLRepositorySaveUtil extends KerMLTraversalUtil {
 	 * <li> Set the library path if the "-l" option is present.</li>
 	 * <li> Set flag to add implicit elements if the "-g" option is present.</li>
 	 * <li> Set flag for verbose mode if the "-v" option is present.</li>
+	 * <li> Set parallel parsing if the "-p" option is present.</li>
+	 * <li> Set the index cache directory if the "-c" option is present.</li>
 	 * <li> Return the list of arguments with any options removed and the
 	 *      library path (if any) prepended to all arguments other than the
 	 *      first.</li>
@@ -120,7 +123,7 @@ public class KerMLRepositorySaveUtil extends KerMLTraversalUtil {
 		if (n > 0) {
 			int i = 0;
 			while(("-b".equals(args[i]) || "-l".equals(args[i]) || "-d".equals(args[i]) ||
-				   "-g".equals(args[i]) || "-v".equals(args[i])) && 
+				   "-g".equals(args[i]) || "-v".equals(args[i]) || "-p".equals(args[i]) || "-c".equals(args[i])) && 
 					i + 1 < n) {
 				if ("-b".equals(args[i])) {
 					this.basePath = args[++i];
@@ -135,6 +138,10 @@ public class KerMLRepositorySaveUtil extends KerMLTraversalUtil {
 					this.isAddImplicitElements = true;
 				} else if ("-v".equals(args[i])) {
 					this.setVerbose(true);
+				} else if ("-p".equals(args[i])) {
+					this.setParallelism(Runtime.getRuntime().availableProcessors());
+				} else if ("-c".equals(args[i])) {
+					this.setIndexCacheDirectory(new File(args[++i]));
 				}
 				i++;
 			}
@@ -202,6 +209,9 @@ public class KerMLRepositorySaveUtil extends KerMLTraversalUtil {
 			
 			this.initialize(args);				
 			this.read(args);
+			if (this.getIndexCache() != null) {
+				System.out.println(this.getIndexCache().getStatistics());
+			}
 			
 			System.out.println("Transforming" + 
 					(this.isAddImplicitElements? " (adding implicit generalizations)... ": "..."));
@@ -223,7 +233,7 @@ public class KerMLRepositorySaveUtil extends KerMLTraversalUtil {
 	 * 
 	 * <p>Usage:
 	 * 
-	 * <p>KerMLRepositorySaveUtil [-b base-path-url] [-l library-base-path] [-d] [-g] [-v] input-path [library-path library-path...]
+	 * <p>KerMLRepositorySaveUtil [-b base-path-url] [-l library-base-path] [-d] [-g] [-v] [-p] [-c cache-path] input-path [library-path library-path...]
 	 * 
 	 * <p>where:
 	 * 
@@ -233,6 +243,8 @@ public class KerMLRepositorySaveUtil extends KerMLTraversalUtil {
 	 * <li>-d                     specifies that derived attributes should be included (the default is not to)</li>
 	 * <li>-g                     specifies that implicit elements should be generated (the default is not to)</li>
 	 * <li>-v                     specifies verbose mode (the default is non-verbose)</li>
+	 * <li>-p                     specifies that source files should be parsed in parallel (the default is not to)</li>
+	 * <li>-c cache-path          is a path for a directory used to cache index information for unchanged source files (and report the cache hit rate)</li>
 	 * <li>input-path             is a path for reading input resources</li>
 	 * <li>library-paths          are paths for reading library resources, relative to the library-base-path (if one is given)</li>
 	 * </ul>
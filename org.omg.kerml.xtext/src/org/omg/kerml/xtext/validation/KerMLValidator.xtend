@@ -299,7 +299,6 @@ class KerMLValidator extends AbstractKerMLValidator {
 				checkDistinguishibility(mem, aliasMemberships, INVALID_NAMESPACE_DISTINGUISHABILITY_MSG_1)
 			}
 			if (namesp instanceof Type) {
-				ElementUtil.clearCachesOf(namesp) // Force recomputation of inherited memberships.
 				val inheritedMemberships = namesp.inheritedMembership
 				for (mem: ownedMemberships) {
 					checkDistinguishibility(mem, inheritedMemberships, INVALID_NAMESPACE_DISTINGUISHABILITY_MSG_2)
@@ -371,7 +370,7 @@ class KerMLValidator extends AbstractKerMLValidator {
 	// Note: This check is not in the spec as a single constraint.
 	@Check
 	def checkClassifier(Classifier c){
-		val defaultSupertype = ImplicitGeneralizationMap.getDefaultSupertypeFor(c.getClass())
+		val defaultSupertype = ImplicitGeneralizationMap.getDefaultSupertypeFor(c.eClass)
 		if (!TypeUtil.conforms(c, SysMLLibraryUtil.getLibraryType(c, defaultSupertype)))
 			error(INVALID_CLASSIFIER_DEFAULT_SUPERTYPE_MSG.replace("{supertype}", defaultSupertype), c, SysMLPackage.eINSTANCE.classifier_OwnedSubclassification, INVALID_CLASSIFIER_DEFAULT_SUPERTYPE)
 			
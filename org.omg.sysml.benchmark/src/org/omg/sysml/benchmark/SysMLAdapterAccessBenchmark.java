@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+
+package org.omg.sysml.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.omg.sysml.adapter.ElementAdapter;
+import org.omg.sysml.adapter.ElementAdapterFactory;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.SysMLFactory;
+
+/**
+ * A micro-benchmark comparing the time taken to get the ElementAdapters of Elements using the adapter
+ * slot of ElementImpl (as done by ElementAdapterFactory) with the time taken by searching the adapter
+ * list of each Element.
+ */
+public class SysMLAdapterAccessBenchmark {
+
+	private final List<Element> elements = new ArrayList<>();
+
+	public SysMLAdapterAccessBenchmark(int numberOfElements) {
+		for (int i = 0; i < numberOfElements; i++) {
+			Element element = SysMLFactory.eINSTANCE.createPartUsage();
+			ElementAdapterFactory.getAdapter(element);
+			elements.add(element);
+		}
+	}
+
+	public long searchAdapters() {
+		long count = 0;
+		for (Element element: elements) {
+			if (element.eAdapters().stream().
+					filter(ElementAdapter.class::isInstance).
+					map(ElementAdapter.class::cast).
+					findFirst().isPresent()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	public long slotAdapters() {
+		long count = 0;
+		for (Element element: elements) {
+			if (ElementAdapterFactory.getAdapter(element) != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	public static void main(String[] args) {
+		int numberOfElements = args.length > 0? Integer.parseInt(args[0]): 10000;
+		int iterations = args.length > 1? Integer.parseInt(args[1]): 100;
+
+		SysMLAdapterAccessBenchmark benchmark = new SysMLAdapterAccessBenchmark(numberOfElements);
+
+		// Warm up both access paths before timing them.
+		long count = benchmark.searchAdapters() + benchmark.slotAdapters();
+
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			count += benchmark.searchAdapters();
+		}
+		long searchTime = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			count += benchmark.slotAdapters();
+		}
+		long slotTime = System.nanoTime() - start;
+
+		long accesses = (long)numberOfElements * iterations;
+		System.out.println("Adapter accesses: " + accesses + " (" + count + " found)");
+		System.out.println(String.format("Adapter list search: %.2f ns/access", (double)searchTime / accesses));
+		System.out.println(String.format("Adapter slot: %.2f ns/access", (double)slotTime / accesses));
+	}
+
+}
@@ -0,0 +1,512 @@
+/*****************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *****************************************************************************/
+
+
+package org.omg.sysml.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.ref.Reference;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.resource.XtextResource;
+import org.omg.sysml.adapter.DependencyTrackedCache;
+import org.omg.sysml.adapter.ElementAdapter;
+import org.omg.sysml.adapter.TypeAdapter;
+import org.omg.sysml.lang.sysml.Element;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * An estimate of the heap retained by the elements of loaded models, broken down by metaclass and by
+ * {@link Category}: the element objects themselves, their other attribute values, the lists of their
+ * stored and cached derived features, their adapters (with the implicit general types of TypeAdapters
+ * reported separately) and the nodes of the parse tree for which they are the semantic elements.
+ * <p>
+ * Sizes are estimated by reflectively walking the objects reachable from each element, its lists, its
+ * adapters and its nodes, assuming a 64-bit JVM with compressed references (12-byte object headers, 4-byte
+ * references and 8-byte alignment). The walk does not go into other elements, nodes, adapters or notifiers
+ * (e.g., resources and metamodel objects), and each object is counted only once, for the first element
+ * from which it is reached. The estimate is therefore of the heap that would be released if the measured
+ * resources were unloaded, which is not necessarily the same as the heap retained by any one element.
+ */
+public class SysMLHeapFootprint {
+
+	private static final int HEADER_SIZE = 12;
+	private static final int ARRAY_HEADER_SIZE = 16;
+	private static final int REFERENCE_SIZE = 4;
+	private static final int ALIGNMENT = 8;
+	private static final int HASH_ENTRY_SIZE = 32;
+
+	private static final String NO_METACLASS = "(none)";
+
+	public enum Category {
+		ELEMENT("element"),
+		ATTRIBUTES("attributes"),
+		LISTS("lists"),
+		DERIVED_LISTS("derivedLists"),
+		ADAPTERS("adapters"),
+		IMPLICIT_GENERAL_TYPES("implicitGeneralTypes"),
+		NODE_MODEL("nodeModel");
+
+		private final String name;
+
+		private Category(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	/**
+	 * The numbers of instances of a metaclass and the bytes retained by them in each category.
+	 */
+	public static class Record {
+
+		private final String metaclass;
+		private int count = 0;
+		private final long[] bytes = new long[Category.values().length];
+
+		private Record(String metaclass) {
+			this.metaclass = metaclass;
+		}
+
+		public String getMetaclass() {
+			return metaclass;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public long getBytes(Category category) {
+			return bytes[category.ordinal()];
+		}
+
+		public long getTotalBytes() {
+			long total = 0;
+			for (long b: bytes) {
+				total += b;
+			}
+			return total;
+		}
+
+		private void add(Record record) {
+			count += record.count;
+			for (int i = 0; i < bytes.length; i++) {
+				bytes[i] += record.bytes[i];
+			}
+		}
+
+	}
+
+	/**
+	 * A root of the walk, which is the object from which the objects reachable from it are measured
+	 * and for which they are counted.
+	 */
+	private static class Root {
+
+		private final Record record;
+		private final Category category;
+
+		private Root(Record record, Category category) {
+			this.record = record;
+			this.category = category;
+		}
+
+	}
+
+	private final Map<String, Record> records = new HashMap<>();
+	private final Map<Object, Root> roots = new IdentityHashMap<>();
+	private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Map<Class<?>, List<Field>> fields = new HashMap<>();
+	private final Map<Class<?>, Long> shallowSizes = new HashMap<>();
+	private final Set<Class<?>> opaqueClasses = Collections.newSetFromMap(new IdentityHashMap<>());
+	private int resourceCount = 0;
+
+	/**
+	 * Measure the heap retained by the elements of the given resources, adding the results to this
+	 * footprint. Objects already counted for previously measured resources are not counted again.
+	 *
+	 * @param 	resources		the resources to be measured
+	 */
+	public void measure(Collection<Resource> resources) {
+		List<Object> newRoots = new ArrayList<>();
+		for (Resource resource: resources) {
+			resourceCount++;
+			for (Iterator<EObject> contents = resource.getAllContents(); contents.hasNext();) {
+				EObject object = contents.next();
+				if (object instanceof Element) {
+					addRootsFor((Element)object, newRoots);
+				}
+			}
+			if (resource instanceof XtextResource && ((XtextResource)resource).getParseResult() != null) {
+				ICompositeNode rootNode = ((XtextResource)resource).getParseResult().getRootNode();
+				for (INode node: rootNode.getAsTreeIterable()) {
+					EObject semanticElement = node.getSemanticElement();
+					addRoot(node, getRecord(semanticElement instanceof Element? semanticElement.eClass().getName(): NO_METACLASS),
+							Category.NODE_MODEL, newRoots);
+				}
+			}
+		}
+		for (Object root: newRoots) {
+			walk(root);
+		}
+	}
+
+	private void addRootsFor(Element element, List<Object> newRoots) {
+		Record record = getRecord(element.eClass().getName());
+		record.count++;
+		addRoot(element, record, Category.ELEMENT, newRoots);
+		for (Class<?> c = element.getClass(); c != null; c = c.getSuperclass()) {
+			for (Field field: c.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers()) && EList.class.isAssignableFrom(field.getType())) {
+					Object list = get(field, element);
+					if (list != null) {
+						EStructuralFeature feature = element.eClass().getEStructuralFeature(field.getName());
+						addRoot(list, record, feature != null && feature.isDerived()? Category.DERIVED_LISTS: Category.LISTS, newRoots);
+					}
+				}
+			}
+		}
+		for (Adapter adapter: element.eAdapters()) {
+			if (!(adapter instanceof INode)) {
+				addRoot(adapter, record, Category.ADAPTERS, newRoots);
+				if (adapter instanceof ElementAdapter) {
+					for (Class<?> c = adapter.getClass(); c != ElementAdapter.class.getSuperclass(); c = c.getSuperclass()) {
+						for (Field field: c.getDeclaredFields()) {
+							if (!Modifier.isStatic(field.getModifiers())) {
+								if (c == TypeAdapter.class && "implicitGeneralTypes".equals(field.getName())) {
+									addRoot(get(field, adapter), record, Category.IMPLICIT_GENERAL_TYPES, newRoots);
+								} else if (DependencyTrackedCache.class.isAssignableFrom(field.getType())) {
+									addRoot(get(field, adapter), record, Category.ADAPTERS, newRoots);
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private void addRoot(Object object, Record record, Category category, List<Object> newRoots) {
+		if (object != null && !visited.contains(object) && !roots.containsKey(object)) {
+			roots.put(object, new Root(record, category));
+			newRoots.add(object);
+		}
+	}
+
+	private Record getRecord(String metaclass) {
+		return records.computeIfAbsent(metaclass, Record::new);
+	}
+
+	/**
+	 * Add the sizes of all the objects reachable from the given root, other than other roots and objects
+	 * that are not owned by any element, to the record for the root.
+	 */
+	private void walk(Object root) {
+		Root rootEntry = roots.get(root);
+		int category = rootEntry.category.ordinal();
+		int attributes = rootEntry.category == Category.ELEMENT? Category.ATTRIBUTES.ordinal(): category;
+		long[] bytes = rootEntry.record.bytes;
+		Deque<Object> stack = new ArrayDeque<>();
+		stack.push(root);
+		while (!stack.isEmpty()) {
+			Object object = stack.pop();
+			if (visited.add(object)) {
+				bytes[object == root? category: attributes] += sizeOf(object);
+				for (Object child: childrenOf(object)) {
+					if (child != null && !visited.contains(child) && !isExcluded(child)) {
+						stack.push(child);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Objects that are other roots, or that belong to the resource set, the metamodel or the runtime rather
+	 * than to any element, are not walked into.
+	 */
+	private boolean isExcluded(Object object) {
+		return roots.containsKey(object) ||
+				object instanceof Notifier || object instanceof Adapter || object instanceof INode ||
+				object instanceof Class || object instanceof ClassLoader || object instanceof Thread ||
+				object instanceof Enum;
+	}
+
+	private Iterable<Object> childrenOf(Object object) {
+		Class<?> c = object.getClass();
+		List<Object> children = new ArrayList<>();
+		if (c.isArray()) {
+			if (!c.getComponentType().isPrimitive()) {
+				Collections.addAll(children, (Object[])object);
+			}
+		} else if (object instanceof String) {
+			// The characters of a String are included in its size.
+		} else if (isOpaque(c)) {
+			if (object instanceof Map) {
+				for (Map.Entry<?, ?> entry: ((Map<?, ?>)object).entrySet()) {
+					children.add(entry.getKey());
+					children.add(entry.getValue());
+				}
+			} else if (object instanceof Collection) {
+				children.addAll((Collection<?>)object);
+			}
+		} else {
+			for (Field field: fieldsOf(c)) {
+				if (!(object instanceof Reference && "referent".equals(field.getName()))) {
+					children.add(get(field, object));
+				}
+			}
+		}
+		return children;
+	}
+
+	/**
+	 * Get the non-static reference fields of the given class, or null if they cannot be accessed (e.g., for
+	 * a JDK class in a module that is not open to reflection).
+	 */
+	private List<Field> fieldsOf(Class<?> c) {
+		return fields.computeIfAbsent(c, k->{
+			List<Field> referenceFields = new ArrayList<>();
+			try {
+				for (Class<?> s = k; s != null; s = s.getSuperclass()) {
+					for (Field field: s.getDeclaredFields()) {
+						if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+							field.setAccessible(true);
+							referenceFields.add(field);
+						}
+					}
+				}
+			} catch (RuntimeException e) {
+				return null;
+			}
+			return referenceFields;
+		});
+	}
+
+	private boolean isOpaque(Class<?> c) {
+		if (opaqueClasses.contains(c)) {
+			return true;
+		} else if (fieldsOf(c) == null) {
+			opaqueClasses.add(c);
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	private static Object get(Field field, Object object) {
+		try {
+			field.setAccessible(true);
+			return field.get(object);
+		} catch (RuntimeException | IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Estimate the shallow size of the given object. Strings include their characters (assuming compact
+	 * Latin-1 strings). For maps and collections whose internals cannot be accessed, the size includes an
+	 * estimate of their entries or backing array.
+	 */
+	private long sizeOf(Object object) {
+		Class<?> c = object.getClass();
+		if (c.isArray()) {
+			Class<?> componentType = c.getComponentType();
+			return align(ARRAY_HEADER_SIZE + (long)Array.getLength(object) * sizeOf(componentType));
+		} else if (object instanceof String) {
+			return 24 + align(ARRAY_HEADER_SIZE + ((String)object).length());
+		} else {
+			long size = shallowSizes.computeIfAbsent(c, k->{
+				long fieldBytes = HEADER_SIZE;
+				for (Class<?> s = k; s != null; s = s.getSuperclass()) {
+					for (Field field: s.getDeclaredFields()) {
+						if (!Modifier.isStatic(field.getModifiers())) {
+							fieldBytes += sizeOf(field.getType());
+						}
+					}
+				}
+				return align(fieldBytes);
+			});
+			if (isOpaque(c)) {
+				if (object instanceof Map || object instanceof Set) {
+					int n = object instanceof Map? ((Map<?, ?>)object).size(): ((Set<?>)object).size();
+					int capacity = Integer.highestOneBit(Math.max(n * 4 / 3, 1) * 2 - 1);
+					size += align(ARRAY_HEADER_SIZE + (long)capacity * REFERENCE_SIZE) + (long)n * HASH_ENTRY_SIZE;
+				} else if (object instanceof Collection) {
+					size += align(ARRAY_HEADER_SIZE + (long)((Collection<?>)object).size() * REFERENCE_SIZE);
+				}
+			}
+			return size;
+		}
+	}
+
+	private static int sizeOf(Class<?> type) {
+		return type == long.class || type == double.class? 8:
+			   type == int.class || type == float.class? 4:
+			   type == short.class || type == char.class? 2:
+			   type == byte.class || type == boolean.class? 1:
+			   REFERENCE_SIZE;
+	}
+
+	private static long align(long size) {
+		return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+	}
+
+	// Report
+
+	/**
+	 * Get the records for the measured metaclasses, in decreasing order of total bytes.
+	 *
+	 * @return	the metaclass records
+	 */
+	public List<Record> getRecords() {
+		List<Record> list = new ArrayList<>(records.values());
+		list.sort(Comparator.comparingLong(Record::getTotalBytes).reversed().thenComparing(Record::getMetaclass));
+		return list;
+	}
+
+	/**
+	 * Get a record with the totals for all the measured metaclasses.
+	 *
+	 * @return	the total record
+	 */
+	public Record getTotal() {
+		Record total = new Record("TOTAL");
+		for (Record record: records.values()) {
+			total.add(record);
+		}
+		return total;
+	}
+
+	public int getResourceCount() {
+		return resourceCount;
+	}
+
+	/**
+	 * Get this footprint as a JSON object, with a "metaclasses" array giving the record for each
+	 * metaclass and a "totals" object giving the totals for all metaclasses.
+	 *
+	 * @return	the JSON report
+	 */
+	public JsonObject toJsonTree() {
+		JsonArray recordArray = new JsonArray();
+		for (Record record: getRecords()) {
+			recordArray.add(toJsonTree(record));
+		}
+		JsonObject report = new JsonObject();
+		report.addProperty("resources", resourceCount);
+		report.add("metaclasses", recordArray);
+		report.add("totals", toJsonTree(getTotal()));
+		return report;
+	}
+
+	private static JsonObject toJsonTree(Record record) {
+		JsonObject object = new JsonObject();
+		object.addProperty("metaclass", record.getMetaclass());
+		object.addProperty("count", record.getCount());
+		for (Category category: Category.values()) {
+			object.addProperty(category.getName(), record.getBytes(category));
+		}
+		object.addProperty("total", record.getTotalBytes());
+		return object;
+	}
+
+	/**
+	 * Get this footprint as a JSON report string.
+	 *
+	 * @return	the JSON report
+	 */
+	public String toJson() {
+		Gson gson = new GsonBuilder().setPrettyPrinting().create();
+		return gson.toJson(toJsonTree());
+	}
+
+	/**
+	 * Get this footprint as a CSV report, with a header line, a line for each metaclass and a final line
+	 * with the totals.
+	 *
+	 * @return	the CSV report
+	 */
+	public String toCsv() {
+		StringBuilder csv = new StringBuilder("metaclass,count");
+		for (Category category: Category.values()) {
+			csv.append(',').append(category.getName());
+		}
+		csv.append(",total\n");
+		List<Record> lines = getRecords();
+		lines.add(getTotal());
+		for (Record record: lines) {
+			csv.append(record.getMetaclass()).append(',').append(record.getCount());
+			for (Category category: Category.values()) {
+				csv.append(',').append(record.getBytes(category));
+			}
+			csv.append(',').append(record.getTotalBytes()).append('\n');
+		}
+		return csv.toString();
+	}
+
+	/**
+	 * Write this footprint to the given file, as a CSV report if the file name ends with ".csv" and as a
+	 * JSON report otherwise.
+	 *
+	 * @param 	file			the file to be written
+	 * @throws 	IOException		if the file cannot be written
+	 */
+	public void write(File file) throws IOException {
+		try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			writer.write(file.getName().endsWith(".csv")? toCsv(): toJson());
+		}
+	}
+
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+
+package org.omg.sysml.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.omg.kerml.xtext.KerMLStandaloneSetup;
+import org.omg.sysml.util.SysMLUtil;
+import org.omg.sysml.xtext.SysMLStandaloneSetup;
+
+/**
+ * A benchmark of the heap used by loaded models. It reads a model library and a set of models, links
+ * and transforms them as they would be for use, and then reports the estimated heap retained by the
+ * elements of each metaclass (see {@link SysMLHeapFootprint}), along with the overall increase in
+ * used heap. The report can be written as JSON and/or CSV, so that it can be compared across versions.
+ * <p>
+ * The usual benchmark is to read the sysml.library as the library and the sysml/src/examples and
+ * sysml/src/training models as inputs.
+ */
+public class SysMLHeapFootprintBenchmark extends SysMLUtil {
+
+	public SysMLHeapFootprintBenchmark() {
+		super();
+		KerMLStandaloneSetup.doSetup();
+		SysMLStandaloneSetup.doSetup();
+		this.addExtension(".kerml");
+		this.addExtension(".sysml");
+	}
+
+	/**
+	 * Read the library from the given library path and the models from the given input paths, then
+	 * link and transform all the resources that have been read.
+	 *
+	 * @param 	libraryPath		the path for reading the library resources
+	 * @param 	inputPaths		the paths for reading input resources
+	 */
+	public void load(String libraryPath, List<String> inputPaths) {
+		println("Reading library " + libraryPath + "...");
+		this.readAll(libraryPath, false);
+		for (String path: inputPaths) {
+			println("Reading " + path + "...");
+			this.readAll(path, true);
+		}
+		println("Linking...");
+		this.loadLazyResources();
+		for (Resource resource: new ArrayList<>(this.getResourceSet().getResources())) {
+			if (!this.isInputResource(resource)) {
+				EcoreUtil.resolveAll(resource);
+			}
+		}
+		this.resolveAllInputResources();
+		println("Transforming...");
+		this.transformAll(true);
+	}
+
+	/**
+	 * Measure the heap retained by the elements of all the resources that have been read.
+	 *
+	 * @return	the heap footprint
+	 */
+	public SysMLHeapFootprint measure() {
+		SysMLHeapFootprint footprint = new SysMLHeapFootprint();
+		footprint.measure(this.getLibraryResources());
+		footprint.measure(this.getInputResources());
+		return footprint;
+	}
+
+	private static long getUsedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * The main program takes optional report arguments followed by the library path and the input paths.
+	 * 
+	 * @param 	args	[-json <REPORT FILE>] [-csv <REPORT FILE>] <LIBRARY PATH> <INPUT PATH>...
+	 */
+	public static void main(String[] args) throws IOException {
+		String jsonFile = null;
+		String csvFile = null;
+		int i = 0;
+		for (; i + 1 < args.length && args[i].startsWith("-"); i += 2) {
+			if ("-json".equals(args[i])) {
+				jsonFile = args[i + 1];
+			} else if ("-csv".equals(args[i])) {
+				csvFile = args[i + 1];
+			}
+		}
+		if (i >= args.length) {
+			System.out.println("Usage: ");
+			System.out.println("SysMLHeapFootprintBenchmark [-json <REPORT FILE>] [-csv <REPORT FILE>] <LIBRARY PATH> <INPUT PATH>...");
+			return;
+		}
+		List<String> inputPaths = new ArrayList<>();
+		for (int j = i + 1; j < args.length; j++) {
+			inputPaths.add(args[j]);
+		}
+		
+		SysMLHeapFootprintBenchmark benchmark = new SysMLHeapFootprintBenchmark();
+		long initialHeap = getUsedHeap();
+		benchmark.load(args[i], inputPaths);
+		long loadedHeap = getUsedHeap();
+		
+		SysMLHeapFootprint footprint = benchmark.measure();
+		SysMLHeapFootprint.Record total = footprint.getTotal();
+		System.out.println(footprint.getResourceCount() + " resources, " + total.getCount() + " elements");
+		System.out.println("Used heap increase: " + (loadedHeap - initialHeap) + " bytes");
+		System.out.println("Estimated retained heap: " + total.getTotalBytes() + " bytes");
+		for (SysMLHeapFootprint.Category category: SysMLHeapFootprint.Category.values()) {
+			System.out.println(String.format("  %-22s %12d", category.getName(), total.getBytes(category)));
+		}
+		
+		if (jsonFile != null) {
+			footprint.write(new File(jsonFile));
+			System.out.println("JSON report written to " + jsonFile);
+		}
+		if (csvFile != null) {
+			footprint.write(new File(csvFile));
+			System.out.println("CSV report written to " + csvFile);
+		}
+	}
+
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.omg.sysml.adapter.ElementAdapter;
+import org.omg.sysml.adapter.ElementAdapterFactory;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.SysMLFactory;
+import org.omg.sysml.lang.sysml.impl.ElementImpl;
+
+/**
+ * Checks that the adapter slot of an ElementImpl tracks the ElementAdapter added to it, as the adapter
+ * is set and unset on its target. See SysMLAdapterAccessBenchmark for the time taken to access adapters
+ * using the slot.
+ */
+public class AdapterAccessTest {
+
+	@Test
+	public void testAdapterSlot() {
+		Element element = SysMLFactory.eINSTANCE.createPartUsage();
+		assertNull(((ElementImpl)element).getElementAdapter());
+		ElementAdapter adapter = ElementAdapterFactory.getAdapter(element);
+		assertNotNull(adapter);
+		assertSame(adapter, ((ElementImpl)element).getElementAdapter());
+		assertSame(adapter, ElementAdapterFactory.getAdapter(element));
+		ElementAdapterFactory.removeAdapter(element);
+		assertNull(((ElementImpl)element).getElementAdapter());
+		assertNotSame(adapter, ElementAdapterFactory.getAdapter(element));
+	}
+
+	@Test
+	public void testAdapterSlotTracksTarget() {
+		Element element = SysMLFactory.eINSTANCE.createPartUsage();
+		ElementAdapter adapter = new ElementAdapter(element);
+
+		element.eAdapters().add(adapter);
+		assertSame(element, adapter.getTarget());
+		assertSame(adapter, ((ElementImpl)element).getElementAdapter());
+
+		element.eAdapters().remove(adapter);
+		assertNull(adapter.getTarget());
+		assertNull(((ElementImpl)element).getElementAdapter());
+
+		// Re-adding the same adapter restores the slot.
+		element.eAdapters().add(adapter);
+		assertSame(adapter, ((ElementImpl)element).getElementAdapter());
+		assertSame(adapter, ElementAdapterFactory.getAdapter(element));
+	}
+
+	@Test
+	public void testAdapterSlotOnOtherTarget() {
+		Element element1 = SysMLFactory.eINSTANCE.createPartUsage();
+		Element element2 = SysMLFactory.eINSTANCE.createPartUsage();
+		ElementAdapter adapter1 = ElementAdapterFactory.getAdapter(element1);
+
+		// Removing an adapter from an element whose slot holds a different adapter leaves the slot alone.
+		ElementAdapter adapter2 = new ElementAdapter(element1);
+		element1.eAdapters().add(adapter2);
+		assertSame(adapter2, ((ElementImpl)element1).getElementAdapter());
+		element1.eAdapters().remove(adapter1);
+		assertSame(adapter2, ((ElementImpl)element1).getElementAdapter());
+
+		// An adapter's slot is set on each target it is added to.
+		element2.eAdapters().add(adapter1);
+		assertSame(adapter1, ((ElementImpl)element2).getElementAdapter());
+		assertSame(adapter2, ((ElementImpl)element1).getElementAdapter());
+	}
+
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.UUID;
+
+import org.junit.Test;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.SysMLFactory;
+import org.omg.sysml.lang.sysml.impl.ElementImpl;
+
+/**
+ * Checks that the String form of an elementId stored as a UUID is constructed once and kept consistent
+ * with the elementId when it is changed.
+ */
+public class ElementIdTest {
+
+	@Test
+	public void testGeneratedElementId() {
+		Element element = SysMLFactory.eINSTANCE.createPartUsage();
+		String id = element.getElementId();
+		assertNotNull(id);
+		assertSame(id, element.getElementId());
+		assertEquals(UUID.fromString(id), ((ElementImpl)element).getElementUUID());
+	}
+
+	@Test
+	public void testSetElementId() {
+		Element element = SysMLFactory.eINSTANCE.createPartUsage();
+		String oldId = element.getElementId();
+
+		String uuidId = UUID.randomUUID().toString();
+		element.setElementId(uuidId);
+		assertEquals(uuidId, element.getElementId());
+		assertSame(element.getElementId(), element.getElementId());
+
+		element.setElementId("not-a-uuid");
+		assertEquals("not-a-uuid", element.getElementId());
+
+		element.setElementId(oldId);
+		assertEquals(oldId, element.getElementId());
+	}
+
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.junit.Test;
+import org.omg.sysml.adapter.ElementAdapter;
+import org.omg.sysml.adapter.TypeAdapter;
+import org.omg.sysml.interactive.SysMLInteractive;
+import org.omg.sysml.lang.sysml.Conjugation;
+import org.omg.sysml.lang.sysml.Specialization;
+import org.omg.sysml.lang.sysml.Type;
+import org.omg.sysml.util.ElementUtil;
+
+/**
+ * Checks that the implicit general types found to be unnecessary using supertype closures (see
+ * {@link TypeAdapter#getUnnecessaryImplicitGeneralTypes()}) are the same as those found by checking
+ * conformance for every pair of general types, for all the types in the model library and the example
+ * models. Conformance is checked by a separate search of the owned specializations, conjugators and
+ * implicit general types of each type, which does not use the cached supertype closures or TypeUtil.
+ * For each type, the implicit general types are recomputed before the check and pruned again after it.
+ */
+public class ImplicitGeneralTypePruningTest {
+
+	@Test
+	public void testLibraryAndExamples() {
+		SysMLInteractive instance = SysMLInteractive.createInstance();
+		instance.setVerbose(false);
+		instance.loadLibrary(System.getProperty("libraryPath"));
+		String examplesPath = System.getProperty("examplesPath");
+		if (examplesPath != null) {
+			instance.readAll(examplesPath, true, SysMLInteractive.SYSML_EXTENSION);
+		}
+		instance.loadLazyResources();
+		instance.transformAll(false);
+		
+		int checked = 0;
+		List<Resource> resources = new ArrayList<>(instance.getResourceSet().getResources());
+		for (Resource resource: resources) {
+			for (Iterator<EObject> contents = resource.getAllContents(); contents.hasNext();) {
+				EObject object = contents.next();
+				if (object instanceof Type && !((Type)object).isConjugated()) {
+					TypeAdapter adapter = (TypeAdapter)ElementUtil.getElementAdapter((Type)object);
+					adapter.setIsAddImplicitGeneralTypes(true);
+					adapter.resetImplicitGeneralTypes();
+					adapter.computeImplicitGeneralTypes();
+					assertEquals(String.valueOf(resource.getURI()) + ": " + ((Type)object).getQualifiedName(), 
+							getUnnecessaryImplicitGeneralTypesByPairs(adapter), 
+							adapter.getUnnecessaryImplicitGeneralTypes());
+					adapter.removeUnnecessaryImplicitGeneralTypes();
+					checked++;
+				}
+			}
+		}
+		assertTrue("No types checked", checked > 0);
+	}
+	
+	/**
+	 * Find the unnecessary implicit general types of the target of the given adapter by checking whether
+	 * each one is conformed to by any owned general type or any other implicit general type of the target.
+	 */
+	private static Set<Type> getUnnecessaryImplicitGeneralTypesByPairs(TypeAdapter adapter) {
+		Type target = adapter.getTarget();
+		List<Type> generals = target.getOwnedSpecialization().stream().
+				filter(spec->spec.getSpecific() == target && spec.getGeneral() != target).
+				map(Specialization::getGeneral).
+				collect(Collectors.toList());
+		List<Type> implicitGenerals = new ArrayList<>();
+		for (EClass eClass: adapter.getImplicitGeneralTypeKinds()) {
+			implicitGenerals.addAll(adapter.getImplicitGeneralTypesOnly(eClass));
+		}
+		Set<Type> unnecessaryGenerals = new HashSet<>();
+		for (Type gen: implicitGenerals) {
+			if (generals.stream().anyMatch(type->conforms(target, type, gen)) ||
+				implicitGenerals.stream().anyMatch(type->type != gen && conforms(target, type, gen))) {
+				unnecessaryGenerals.add(gen);
+			}
+		}
+		return unnecessaryGenerals;
+	}
+	
+	/**
+	 * Check whether the given subtype conforms to the given supertype, without going through the target.
+	 */
+	private static boolean conforms(Type target, Type subtype, Type supertype) {
+		Set<Type> visited = new HashSet<>();
+		visited.add(target);
+		Deque<Type> stack = new ArrayDeque<>();
+		stack.push(subtype);
+		while (!stack.isEmpty()) {
+			Type type = stack.pop();
+			if (type == supertype) {
+				return true;
+			} else if (visited.add(type)) {
+				getGeneralTypes(type).forEach(stack::push);
+			}
+		}
+		return false;
+	}
+	
+	private static List<Type> getGeneralTypes(Type type) {
+		List<Type> generals = new ArrayList<>();
+		if (type.isConjugated()) {
+			Conjugation conjugator = type.getOwnedConjugator();
+			Type originalType = conjugator == null? null: conjugator.getOriginalType();
+			if (originalType != null) {
+				generals.add(originalType);
+			}
+		} else {
+			for (Specialization specialization: type.getOwnedSpecialization()) {
+				if (specialization.getSpecific() == type && specialization.getGeneral() != null) {
+					generals.add(specialization.getGeneral());
+				}
+			}
+			ElementAdapter adapter = ElementUtil.getElementAdapter(type);
+			if (adapter instanceof TypeAdapter) {
+				generals.addAll(((TypeAdapter)adapter).getImplicitGeneralTypes());
+			}
+		}
+		return generals;
+	}
+
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.resource.XtextResource;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.omg.sysml.adapter.TypeAdapter;
+import org.omg.sysml.interactive.SysMLInteractive;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.Namespace;
+import org.omg.sysml.lang.sysml.Type;
+import org.omg.sysml.util.ElementUtil;
+import org.omg.sysml.util.SysMLSharedLibrary;
+import org.omg.sysml.util.TransformationSnapshot;
+
+/**
+ * Checks that, when a resource is reparsed, the implicit general types of the types that are unchanged are
+ * restored rather than recomputed, and that the result is the same as transforming the new text from scratch.
+ * Also checks that no snapshot is kept for a resource that is unloaded.
+ */
+public class IncrementalTransformTest extends SysMLInteractiveTest {
+
+	private static final String SOURCE = 
+			"package P {\n" +
+			"    part def A { attribute a; }\n" +
+			"    part def B :> A { attribute b; }\n" +
+			"    part def C { part c; }\n" +
+			"    part def D :> C { part d; }\n" +
+			"}";
+	
+	private static final String CHANGED_SOURCE = 
+			"package P {\n" +
+			"    part def A { attribute a; }\n" +
+			"    part def B :> A { attribute b; }\n" +
+			"    part def C { part c; part e; }\n" +
+			"    part def D :> C { part d; }\n" +
+			"}";
+	
+	private static SysMLSharedLibrary library;
+
+	@BeforeClass
+	public static void createSharedLibrary() {
+		library = SysMLInteractive.createSharedLibrary(System.getProperty("libraryPath"));
+	}
+
+	protected SysMLInteractive createSession() {
+		SysMLInteractive instance = SysMLInteractive.createInstance(library);
+		instance.setVerbose(false);
+		return instance;
+	}
+
+	@Test
+	public void testReparse() throws Exception {
+		SysMLInteractive session = createSession();
+		process(session, SOURCE);
+		XtextResource resource = session.getResource();
+		List<Type> originalTypes = getTypes(resource.getContents().get(0));
+		resource.reparse(CHANGED_SOURCE);
+		List<Type> reparsedTypes = getTypes(resource.getContents().get(0));
+
+		// Unchanged types are either restored or, if the reparse was partial, retained.
+		Namespace pkg = (Namespace)((Namespace)resource.getContents().get(0)).getOwnedMember().get(0);
+		for (Element member: pkg.getOwnedMember()) {
+			boolean isRestored = isRestored(member);
+			if ("A".equals(member.getDeclaredName()) || "B".equals(member.getDeclaredName())) {
+				assertTrue(member.getDeclaredName() + " not restored", isRestored || originalTypes.contains(member));
+			} else {
+				assertFalse(member.getDeclaredName() + " restored", isRestored);
+			}
+		}
+		
+		SysMLInteractive freshSession = createSession();
+		process(freshSession, CHANGED_SOURCE);
+		List<Type> freshTypes = getTypes(freshSession.getResource().getContents().get(0));
+		
+		assertEquals(freshTypes.size(), reparsedTypes.size());
+		for (int i = 0; i < freshTypes.size(); i++) {
+			for (Type general: getImplicitGeneralTypes(reparsedTypes.get(i))) {
+				assertNotNull(general.eResource());
+				assertFalse(general.eIsProxy());
+			}
+			assertEquals(freshTypes.get(i).getQualifiedName(),
+					getImplicitGeneralTypeNames(freshTypes.get(i)), 
+					getImplicitGeneralTypeNames(reparsedTypes.get(i)));
+		}
+	}
+	
+	@Test
+	public void testUnload() throws Exception {
+		SysMLInteractive session = createSession();
+		process(session, SOURCE);
+		XtextResource resource = session.getResource();
+		resource.getContents();
+		resource.unload();
+		assertNull(EcoreUtil.getExistingAdapter(resource, TransformationSnapshot.class));
+	}
+	
+	private static List<Type> getTypes(EObject root) {
+		List<Type> types = new ArrayList<>();
+		for (Iterator<EObject> contents = root.eAllContents(); contents.hasNext();) {
+			EObject object = contents.next();
+			if (object instanceof Type) {
+				types.add((Type)object);
+			}
+		}
+		return types;
+	}
+	
+	private static boolean isRestored(Element element) {
+		return ((TypeAdapter)ElementUtil.getElementAdapter(element)).isImplicitGeneralTypesRestored();
+	}
+	
+	private static List<Type> getImplicitGeneralTypes(Type type) {
+		return ((TypeAdapter)ElementUtil.getElementAdapter(type)).getImplicitGeneralTypes();
+	}
+	
+	private static List<String> getImplicitGeneralTypeNames(Type type) {
+		return getImplicitGeneralTypes(type).stream().
+				map(Type::getQualifiedName).
+				collect(Collectors.toList());
+	}
+
+}
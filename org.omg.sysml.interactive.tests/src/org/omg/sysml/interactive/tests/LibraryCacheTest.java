@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.omg.sysml.interactive.SysMLInteractive;
+import org.omg.sysml.interactive.SysMLInteractiveResult;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.Namespace;
+import org.omg.sysml.lang.sysml.util.SysMLLibraryCache;
+
+/**
+ * Checks that library elements cached for a resource set (including names for which no element was
+ * found) are invalidated when the index of the resource set changes.
+ */
+public class LibraryCacheTest extends SysMLInteractiveTest {
+
+	private Namespace processUnindexedPackage(SysMLInteractive instance, String input) {
+		SysMLInteractiveResult result = instance.process(input, false);
+		assertFalse(result.toString(), result.hasErrors());
+		return (Namespace)((Namespace)result.getRootElement()).getOwnedMember().get(0);
+	}
+
+	@Test
+	public void testNotFoundInvalidatedOnIndexChange() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = processUnindexedPackage(instance, "package LibraryCache1 { part def A; }");
+		Element a = pkg.getOwnedMember().get(0);
+
+		assertNull(SysMLLibraryCache.getElement(pkg, "LibraryCache1::A"));
+		assertNull(SysMLLibraryCache.getElement(pkg, "LibraryCache1::A"));
+
+		instance.addResourceToIndex(instance.getResource());
+		assertSame(a, SysMLLibraryCache.getElement(pkg, "LibraryCache1::A"));
+	}
+
+	@Test
+	public void testIndexedNotFoundInvalidatedOnIndexChange() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = processUnindexedPackage(instance, "package LibraryCache2 { part def A; part def B; }");
+		Element b = pkg.getOwnedMember().get(1);
+
+		assertNull(SysMLLibraryCache.getElement(pkg, 1, 2, "LibraryCache2::B"));
+		assertNull(SysMLLibraryCache.getElement(pkg, 1, 2, "LibraryCache2::B"));
+
+		instance.addResourceToIndex(instance.getResource());
+		assertSame(b, SysMLLibraryCache.getElement(pkg, 1, 2, "LibraryCache2::B"));
+	}
+
+	@Test
+	public void testCountsPerCache() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = processUnindexedPackage(instance, "package LibraryCache3 { part def A; }");
+		instance.addResourceToIndex(instance.getResource());
+
+		assertNotNull(SysMLLibraryCache.getElement(pkg, "LibraryCache3::A"));
+		SysMLLibraryCache cache = SysMLLibraryCache.getExistingCache(instance.getResourceSet());
+		assertNotNull(cache);
+
+		cache.resetCounts();
+		SysMLLibraryCache.getElement(pkg, "LibraryCache3::A");
+		SysMLLibraryCache.getElement(pkg, "LibraryCache3::A");
+		assertEquals(2, cache.getHitCount());
+		assertEquals(0, cache.getMissCount());
+
+		SysMLLibraryCache.indexChanged(instance.getResourceSet());
+		SysMLLibraryCache.getElement(pkg, "LibraryCache3::A");
+		assertEquals(2, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+
+}
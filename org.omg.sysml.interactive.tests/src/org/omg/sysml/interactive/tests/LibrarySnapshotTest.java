@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.omg.sysml.adapter.TypeAdapter;
+import org.omg.sysml.interactive.SysMLInteractive;
+import org.omg.sysml.lang.sysml.Type;
+import org.omg.sysml.util.ElementUtil;
+import org.omg.sysml.util.SysMLLibrarySnapshot;
+import org.omg.sysml.util.SysMLSharedLibrary;
+
+/**
+ * Checks that a library snapshot is only read if it was written by the same implementation, that its
+ * source files are in a portable order, that the resources read from it are transformed just like the
+ * same resources read from source, and that a snapshot that cannot be completely read leaves no
+ * resources or index entries behind.
+ */
+public class LibrarySnapshotTest {
+
+	private static final String ROOT = "lib";
+	private static final String EXTENSION = ".sysml";
+
+	private static SysMLSharedLibrary library;
+
+	private File directory;
+
+	@BeforeClass
+	public static void createSharedLibrary() {
+		library = SysMLInteractive.createSharedLibrary(System.getProperty("libraryPath"));
+	}
+
+	@Before
+	public void createLibrary() throws IOException {
+		directory = Files.createTempDirectory("snapshot").toFile();
+		File root = new File(directory, ROOT);
+		write(new File(root, "b/B.sysml"), "package B { private import A::*; part def Y :> X; }");
+		write(new File(root, "a/A.sysml"), "package A { part def X; }");
+		write(new File(root, "C.sysml"), "package C { private import B::*; part def Z :> Y; }");
+	}
+
+	@After
+	public void deleteLibrary() throws IOException {
+		Files.walk(directory.toPath()).
+			map(java.nio.file.Path::toFile).
+			sorted((f1, f2)->f2.getPath().compareTo(f1.getPath())).
+			forEach(File::delete);
+	}
+
+	private static void write(File file, String text) throws IOException {
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private SysMLLibrarySnapshot createSnapshot() {
+		SysMLLibrarySnapshot snapshot = new SysMLLibrarySnapshot(directory.getPath());
+		snapshot.addRoot(ROOT, EXTENSION);
+		return snapshot;
+	}
+
+	private static SysMLInteractive createInstance() {
+		SysMLInteractive instance = SysMLInteractive.createInstance();
+		instance.setVerbose(false);
+		return instance;
+	}
+
+	private void writeSnapshot() throws IOException {
+		SysMLInteractive writer = SysMLInteractive.createInstance(library);
+		writer.setVerbose(false);
+		writer.readAll(new File(directory, ROOT).getPath(), false, EXTENSION);
+		createSnapshot().write(writer);
+	}
+
+	@Test
+	public void testSourceFileOrder() {
+		List<String> names = new ArrayList<>();
+		for (File file: createSnapshot().getSourceFiles()) {
+			names.add(file.getName());
+		}
+		assertEquals(3, names.size());
+		assertEquals("C.sysml", names.get(0));
+		assertEquals("A.sysml", names.get(1));
+		assertEquals("B.sysml", names.get(2));
+	}
+
+	@Test
+	public void testRead() throws IOException {
+		writeSnapshot();
+		SysMLInteractive reader = createInstance();
+		assertTrue(createSnapshot().read(reader));
+		for (File file: createSnapshot().getSourceFiles()) {
+			Resource resource = reader.getResourceSet().getResource(URI.createFileURI(file.getPath()), false);
+			assertNotNull(file.getName(), resource);
+			assertNotNull(file.getName(), reader.getResourceDescription(resource));
+		}
+	}
+
+	@Test
+	public void testImplicitGeneralTypes() throws IOException {
+		writeSnapshot();
+		SysMLInteractive reader = SysMLInteractive.createInstance(library);
+		reader.setVerbose(false);
+		assertTrue(createSnapshot().read(reader));
+		SysMLInteractive sourceReader = SysMLInteractive.createInstance(library);
+		sourceReader.setVerbose(false);
+		sourceReader.readAll(new File(directory, ROOT).getPath(), false, EXTENSION);
+		
+		for (File file: createSnapshot().getSourceFiles()) {
+			URI uri = URI.createFileURI(file.getPath());
+			Map<String, List<String>> implicitGeneralTypes = getImplicitGeneralTypes(reader.getResourceSet().getResource(uri, false));
+			assertFalse(file.getName(), implicitGeneralTypes.isEmpty());
+			assertEquals(file.getName(), 
+					getImplicitGeneralTypes(sourceReader.getResourceSet().getResource(uri, false)), 
+					implicitGeneralTypes);
+		}
+	}
+	
+	/**
+	 * Get the implicit general types of the types in the given resource (as "kind:URI"), keyed by the
+	 * URI fragment of each type.
+	 */
+	private static Map<String, List<String>> getImplicitGeneralTypes(Resource resource) {
+		Map<String, List<String>> implicitGeneralTypes = new TreeMap<>();
+		for (Iterator<EObject> i = resource.getAllContents(); i.hasNext();) {
+			EObject object = i.next();
+			if (object instanceof Type) {
+				List<String> generals = new ArrayList<>();
+				((TypeAdapter)ElementUtil.getElementAdapter((Type)object)).forEachImplicitGeneralType((kind, general)->
+					generals.add(kind.getName() + ":" + EcoreUtil.getURI(general)));
+				if (!generals.isEmpty()) {
+					Collections.sort(generals);
+					implicitGeneralTypes.put(resource.getURIFragment(object), generals);
+				}
+			}
+		}
+		return implicitGeneralTypes;
+	}
+
+	@Test
+	public void testImplementationKey() throws IOException {
+		writeSnapshot();
+		File snapshotFile = createSnapshot().getSnapshotFile();
+		byte[] bytes = Files.readAllBytes(snapshotFile.toPath());
+		String key = SysMLLibrarySnapshot.getImplementationKey();
+		
+		// Replace the implementation key in the header with a different one of the same length.
+		int offset = 8 + 2;
+		String otherKey = key.substring(0, key.length() - 1) + (key.endsWith("0")? "1": "0");
+		byte[] otherKeyBytes = otherKey.getBytes(StandardCharsets.UTF_8);
+		System.arraycopy(otherKeyBytes, 0, bytes, offset, otherKeyBytes.length);
+		try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(snapshotFile.toPath()))) {
+			out.write(bytes);
+		}
+		
+		SysMLInteractive reader = createInstance();
+		assertFalse(createSnapshot().read(reader));
+		assertNoLibraryResources(reader);
+	}
+
+	@Test
+	public void testRollback() throws IOException {
+		writeSnapshot();
+		File snapshotFile = createSnapshot().getSnapshotFile();
+		
+		// Truncate the last entry, so that the earlier resources are read before the error is found.
+		try (RandomAccessFile file = new RandomAccessFile(snapshotFile, "rw")) {
+			file.setLength(file.length() - 16);
+		}
+		
+		SysMLInteractive reader = createInstance();
+		assertFalse(createSnapshot().read(reader));
+		assertNoLibraryResources(reader);
+		
+		reader = createInstance();
+		assertFalse(createSnapshot().readIndex(reader));
+		assertNoLibraryResources(reader);
+	}
+
+	private void assertNoLibraryResources(SysMLInteractive instance) {
+		for (File file: createSnapshot().getSourceFiles()) {
+			URI uri = URI.createFileURI(file.getPath());
+			assertNull(file.getName(), instance.getResourceSet().getResource(uri, false));
+			assertTrue(file.getName(), instance.getResourceSet().getResources().stream().
+					noneMatch(resource->uri.equals(resource.getURI())));
+		}
+	}
+
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.validation.Issue;
+import org.junit.Test;
+import org.omg.sysml.interactive.SysMLInteractive;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.Feature;
+import org.omg.sysml.lang.sysml.Import;
+import org.omg.sysml.lang.sysml.Membership;
+import org.omg.sysml.lang.sysml.Namespace;
+import org.omg.sysml.lang.sysml.SysMLFactory;
+import org.omg.sysml.lang.sysml.Type;
+import org.omg.sysml.util.NamespaceUtil;
+import org.omg.sysml.util.TypeUtil;
+
+/**
+ * Checks that the cached inherited and imported memberships of a Namespace are updated when a general
+ * type or imported Namespace changes, without the caches being cleared explicitly.
+ */
+public class MembershipCacheTest extends SysMLInteractiveTest {
+
+	private static Element getMember(Namespace namespace, String name) {
+		return namespace.getOwnedMember().stream().
+				filter(member->name.equals(member.getDeclaredName())).
+				findFirst().get();
+	}
+
+	private static List<String> namesOf(List<Membership> memberships) {
+		return memberships.stream().map(Membership::getMemberName).collect(Collectors.toList());
+	}
+
+	@Test
+	public void testInheritedMembershipOfChangedGeneral() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = (Namespace)process(instance, 
+				"package MembershipCache1 { part def A { part a1; } part def B :> A; }").get(0);
+		Type a = (Type)getMember(pkg, "A");
+		Type b = (Type)getMember(pkg, "B");
+
+		assertTrue(namesOf(b.getInheritedMembership()).contains("a1"));
+		assertFalse(namesOf(b.getInheritedMembership()).contains("a2"));
+
+		Feature a2 = SysMLFactory.eINSTANCE.createPartUsage();
+		a2.setDeclaredName("a2");
+		TypeUtil.addOwnedFeatureTo(a, a2);
+		assertTrue(namesOf(b.getInheritedMembership()).contains("a2"));
+
+		getMember(a, "a1").setDeclaredName("a3");
+		assertFalse(namesOf(b.getInheritedMembership()).contains("a1"));
+		assertTrue(namesOf(b.getInheritedMembership()).contains("a3"));
+	}
+
+	@Test
+	public void testInheritedMembershipOfRemovedSpecialization() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = (Namespace)process(instance, 
+				"package MembershipCache2 { part def A { part a1; } part def B :> A; }").get(0);
+		Type b = (Type)getMember(pkg, "B");
+
+		assertTrue(namesOf(b.getInheritedMembership()).contains("a1"));
+
+		b.getOwnedRelationship().remove(b.getOwnedSpecialization().get(0));
+		assertFalse(namesOf(b.getInheritedMembership()).contains("a1"));
+	}
+
+	@Test
+	public void testImportedMembershipOfChangedNamespace() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		List<Element> members = process(instance, 
+				"package MembershipCache3 { part def X; } package MembershipCache4 { public import MembershipCache3::*; }");
+		Namespace imported = (Namespace)members.get(0);
+		Namespace importing = (Namespace)members.get(1);
+
+		assertTrue(namesOf(importing.getImportedMembership()).contains("X"));
+		assertFalse(namesOf(importing.getImportedMembership()).contains("Y"));
+
+		Element y = SysMLFactory.eINSTANCE.createPartDefinition();
+		y.setDeclaredName("Y");
+		NamespaceUtil.addOwnedMemberTo(imported, y);
+		assertTrue(namesOf(importing.getImportedMembership()).contains("Y"));
+
+		Import imp = importing.getOwnedImport().get(0);
+		importing.getOwnedRelationship().remove(imp);
+		assertFalse(namesOf(importing.getImportedMembership()).contains("X"));
+	}
+
+	@Test
+	public void testValidationOfChangedGeneral() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = (Namespace)process(instance, 
+				"package MembershipCache5 { part def A { part a1; } part def B :> A { part b1; } }").get(0);
+		Type a = (Type)getMember(pkg, "A");
+		int warnings = countWarnings(instance.validate());
+
+		// The inherited memberships of B were computed by the first validation, so the new warning for
+		// b1 hiding an inherited member is only found if they were invalidated by the change to A.
+		Feature b1 = SysMLFactory.eINSTANCE.createPartUsage();
+		b1.setDeclaredName("b1");
+		TypeUtil.addOwnedFeatureTo(a, b1);
+		assertTrue(countWarnings(instance.validate()) > warnings);
+	}
+
+	private static int countWarnings(List<Issue> issues) {
+		return (int)issues.stream().filter(issue->issue.getSeverity() == Severity.WARNING).count();
+	}
+
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.omg.sysml.interactive.SysMLInteractive;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.Membership;
+import org.omg.sysml.lang.sysml.Namespace;
+import org.omg.sysml.util.NamespaceUtil;
+
+/**
+ * Checks that the index of the owned memberships of a Namespace by name is rebuilt when the names of
+ * its members change, and that members with computed names are always included in lookups.
+ */
+public class MembershipIndexTest extends SysMLInteractiveTest {
+
+	private static Element getMember(Namespace namespace, String name) {
+		return namespace.getOwnedMember().stream().
+				filter(member->name.equals(member.getDeclaredName())).
+				findFirst().get();
+	}
+
+	private static Element getUnnamedMember(Namespace namespace) {
+		return namespace.getOwnedMember().stream().
+				filter(member->member.getDeclaredName() == null).
+				findFirst().get();
+	}
+
+	@Test
+	public void testRenamedMember() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = (Namespace)process(instance, "package MembershipIndex1 { part def A; part def B; }").get(0);
+		Element a = getMember(pkg, "A");
+		Membership membership = a.getOwningMembership();
+
+		assertEquals(1, NamespaceUtil.getOwnedMembershipsNamed(pkg, "A").size());
+		assertTrue(NamespaceUtil.getOwnedMembershipsNamed(pkg, "C").isEmpty());
+
+		a.setDeclaredName("C");
+		assertTrue(NamespaceUtil.getOwnedMembershipsNamed(pkg, "A").isEmpty());
+		List<Membership> memberships = NamespaceUtil.getOwnedMembershipsNamed(pkg, "C");
+		assertEquals(1, memberships.size());
+		assertSame(membership, memberships.get(0));
+		assertSame(membership, NamespaceUtil.getNamedMembershipFor(pkg, "C"));
+	}
+
+	@Test
+	public void testAddedShortName() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = (Namespace)process(instance, "package MembershipIndex2 { part def A; }").get(0);
+		Element a = getMember(pkg, "A");
+		Membership membership = a.getOwningMembership();
+
+		assertTrue(NamespaceUtil.getOwnedMembershipsNamed(pkg, "a").isEmpty());
+
+		a.setDeclaredShortName("a");
+		List<Membership> memberships = NamespaceUtil.getOwnedMembershipsNamed(pkg, "a");
+		assertEquals(1, memberships.size());
+		assertSame(membership, memberships.get(0));
+		assertSame(membership, NamespaceUtil.getNamedMembershipFor(pkg, "a"));
+		assertSame(membership, NamespaceUtil.getOwnedMembershipsNamed(pkg, "A").get(0));
+	}
+
+	@Test
+	public void testComputedName() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = (Namespace)process(instance,
+				"package MembershipIndex3 { part def A { part p; part q; } part def B :> A { part :>> p; part r; } }").get(0);
+		Namespace b = (Namespace)getMember(pkg, "B");
+		Element p = getUnnamedMember(b);
+		Membership membership = p.getOwningMembership();
+
+		// The unnamed redefining feature has the computed name "p", so it is not indexed by name, but
+		// it is always included in the result.
+		assertTrue(NamespaceUtil.getOwnedMembershipsNamed(b, "p").contains(membership));
+		assertTrue(NamespaceUtil.getOwnedMembershipsNamed(b, "q").contains(membership));
+		assertFalse(NamespaceUtil.getOwnedMembershipsNamed(b, "p").contains(getMember(b, "r").getOwningMembership()));
+		assertSame(membership, NamespaceUtil.getNamedMembershipFor(b, "p"));
+		assertNotNull(NamespaceUtil.getNamedMembershipFor(b, "r"));
+	}
+
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.common.util.EList;
+import org.junit.Test;
+import org.omg.sysml.adapter.FeatureAdapter;
+import org.omg.sysml.expressions.util.EvaluationUtil;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.Expression;
+import org.omg.sysml.lang.sysml.MetadataFeature;
+import org.omg.sysml.lang.sysml.Namespace;
+import org.omg.sysml.lang.sysml.Type;
+import org.omg.sysml.util.ElementUtil;
+import org.omg.sysml.util.FeatureUtil;
+import org.omg.sysml.util.TypeUtil;
+
+/**
+ * Checks that the base types given by semantic metadata are cached for each metadata usage, that the
+ * cached base types are the same as those given by evaluating the baseType value expressions and that
+ * they are recomputed when the metadata usage is changed.
+ */
+public class MetadataBaseTypeTest extends SysMLInteractiveTest {
+
+	private static final String SOURCE = 
+			"package P {\n" +
+			"    private import Metaobjects::SemanticMetadata;\n" +
+			"    part parts[*];\n" +
+			"    metadata def <p> PartMetadata :> SemanticMetadata {\n" +
+			"        :>> baseType = parts meta SysML::Usage;\n" +
+			"    }\n" +
+			"    #p part x;\n" +
+			"    #p part y;\n" +
+			"}";
+
+	@Test
+	public void testBaseTypes() {
+		Namespace p = (Namespace)process(SOURCE).get(0);
+		Type parts = (Type)getMember(p, "parts");
+		for (String name: new String[] {"x", "y"}) {
+			Type type = (Type)getMember(p, name);
+			assertTrue(name + " does not conform to parts", TypeUtil.conforms(type, parts));
+			
+			MetadataFeature metadataFeature = getMetadataFeature(type);
+			FeatureAdapter adapter = (FeatureAdapter)ElementUtil.getElementAdapter(metadataFeature);
+			List<Type> baseTypes = adapter.getMetadataBaseTypes(type);
+			assertEquals(Collections.singletonList(parts), baseTypes);
+			assertSame(baseTypes, adapter.getMetadataBaseTypes(type));
+			
+			// Check the cached base type against full evaluation of the baseType value expression.
+			Expression expression = getBaseTypeExpression(metadataFeature);
+			EList<Element> results = expression.evaluate(type);
+			assertNotNull(results);
+			assertFalse(results.isEmpty());
+			assertSame(EvaluationUtil.getMetaclassReferenceOf(results.get(0)), baseTypes.get(0));
+			
+			ElementUtil.clearCachesOf(metadataFeature);
+			List<Type> recomputedBaseTypes = adapter.getMetadataBaseTypes(type);
+			assertNotSame(baseTypes, recomputedBaseTypes);
+			assertEquals(baseTypes, recomputedBaseTypes);
+		}
+	}
+	
+	private static Element getMember(Namespace namespace, String name) {
+		Element member = namespace.getOwnedMember().stream().
+				filter(m->name.equals(m.getDeclaredName())).
+				findFirst().orElse(null);
+		assertNotNull("No member " + name, member);
+		return member;
+	}
+	
+	private static MetadataFeature getMetadataFeature(Type type) {
+		List<MetadataFeature> metadataFeatures = ElementUtil.getAllMetadataFeaturesOf(type);
+		assertEquals(1, metadataFeatures.size());
+		return metadataFeatures.get(0);
+	}
+	
+	private static Expression getBaseTypeExpression(MetadataFeature metadataFeature) {
+		Expression expression = metadataFeature.getFeature().stream().
+				filter(f->"baseType".equals(f.getName())).
+				map(FeatureUtil::getValueExpressionFor).
+				filter(e->e != null).
+				findFirst().orElse(null);
+		assertNotNull("No baseType value", expression);
+		return expression;
+	}
+
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.junit.Test;
+import org.omg.sysml.interactive.SysMLInteractive;
+import org.omg.sysml.util.NamePool;
+import org.omg.sysml.util.SysMLLoadProfile;
+
+/**
+ * Checks that equal names in a parsed library resource share String instances from the NamePool, and
+ * that name reports are included in load profiles.
+ */
+public class NamePoolTest extends SysMLInteractiveTest {
+
+	private Resource getLibraryResource(SysMLInteractive instance, String fileName) {
+		Resource resource = instance.getResourceSet().getResources().stream().
+				filter(r->fileName.equals(r.getURI().lastSegment())).
+				findFirst().orElse(null);
+		assertNotNull(fileName, resource);
+		return resource;
+	}
+
+	@Test
+	public void testLibraryNamesArePooled() {
+		Resource resource = getLibraryResource(getSysMLInteractiveInstance(), "ScalarFunctions.kerml");
+		NamePool.Report report = NamePool.reportFor(resource);
+		assertTrue(report.toString(), report.getReferenceCount() > 0);
+		assertTrue(report.toString(), report.getInstanceCount() < report.getReferenceCount());
+		assertTrue(report.toString(), report.getSavedBytes() > 0);
+	}
+
+	@Test
+	public void testNameReportInProfile() {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Resource resource = getLibraryResource(instance, "ScalarFunctions.kerml");
+		SysMLLoadProfile profile = new SysMLLoadProfile();
+		profile.reportNames(Collections.singletonList(resource));
+		profile.reportNames(Collections.singletonList(resource));
+		assertEquals(1, profile.getNameReports().size());
+
+		assertTrue(profile.toJson().contains("\"names\""));
+	}
+
+}
@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.resource.DerivedStateAwareResource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.omg.sysml.adapter.ElementAdapter;
+import org.omg.sysml.interactive.SysMLInteractive;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.Namespace;
+import org.omg.sysml.lang.sysml.SysMLFactory;
+import org.omg.sysml.lang.sysml.Type;
+import org.omg.sysml.util.SysMLUtil;
+import org.omg.sysml.util.TypeUtil;
+
+/**
+ * Checks reading, linking and transforming resources that import each other, in parallel and
+ * sequentially. Resources parsed in parallel must not be initialized before they are added to the
+ * resource set, and the results must be the same as for sequential processing.
+ */
+public class ParallelLoadingTest {
+
+	private static final String[][] SOURCES = {
+		{"A.sysml", "package A { private import B::*; part def X; part def W :> Z; }"},
+		{"B.sysml", "package B { private import A::*; part def Y :> X; part def Z; }"},
+		{"C.sysml", "package C { private import B::*; part def V :> Y, Z; }"},
+		{"D.sysml", "package D { part def U; }"},
+		{"E.sysml", "package E { part def T; }"},
+		{"F.sysml", "package F { public import E::*; alias TT for T; }"},
+		{"G.sysml", "package G { private import F::*; part def S :> TT; }"},
+	};
+
+	private static final int PARALLELISM = 4;
+
+	private File directory;
+
+	private static class TestUtil extends SysMLUtil {
+
+		private final List<String> parsed = new ArrayList<>();
+
+		TestUtil(int parallelism) {
+			this.setVerbose(false);
+			this.setParallelism(parallelism);
+			this.addExtension(SysMLInteractive.SYSML_EXTENSION);
+		}
+
+		@Override
+		protected Resource parseResource(URI uri) {
+			Resource resource = super.parseResource(uri);
+			// The resource must not have been attached or initialized on the pool thread.
+			assertNull(resource.getResourceSet());
+			if (resource instanceof DerivedStateAwareResource) {
+				assertFalse(uri.toString(), ((DerivedStateAwareResource)resource).isFullyInitialized());
+			}
+			synchronized (parsed) {
+				parsed.add(uri.lastSegment());
+			}
+			return resource;
+		}
+
+		List<List<String>> groupInputsByNames() {
+			List<Resource> resources = new ArrayList<>(getInputResources());
+			resources.sort(Comparator.comparing(resource->resource.getURI().lastSegment()));
+			return groupByNames(resources).stream().
+					map(group->group.stream().map(resource->resource.getURI().lastSegment()).collect(Collectors.toList())).
+					collect(Collectors.toList());
+		}
+
+	}
+
+	@BeforeClass
+	public static void setup() {
+		// Ensure that the Xtext languages are registered.
+		SysMLInteractive.createInstance();
+	}
+
+	@Before
+	public void createFiles() throws IOException {
+		directory = Files.createTempDirectory("parallel").toFile();
+		for (String[] source: SOURCES) {
+			Files.write(new File(directory, source[0]).toPath(), source[1].getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	@After
+	public void deleteFiles() {
+		for (File file: directory.listFiles()) {
+			file.delete();
+		}
+		directory.delete();
+	}
+
+	@Test
+	public void testSessionParallelism() {
+		assertEquals(1, SysMLInteractive.createInstance().getParallelism());
+	}
+
+	@Test
+	public void testParallelParsing() {
+		TestUtil util = new TestUtil(PARALLELISM);
+		util.readAll(directory.getPath(), true);
+		assertEquals(SOURCES.length, util.parsed.size());
+		for (Resource resource: util.getInputResources()) {
+			assertTrue(resource.getResourceSet() == util.getResourceSet());
+		}
+	}
+
+	@Test
+	public void testGroupByNames() {
+		TestUtil util = new TestUtil(PARALLELISM);
+		util.readAll(directory.getPath(), true);
+		assertEquals(Arrays.asList(
+				Arrays.asList("A.sysml", "B.sysml", "C.sysml"), 
+				Arrays.asList("D.sysml"),
+				Arrays.asList("E.sysml", "F.sysml", "G.sysml")), 
+				util.groupInputsByNames());
+	}
+
+	@Test
+	public void testParallelLinkingAndTransformation() {
+		TestUtil sequential = load(1);
+		TestUtil parallel = load(PARALLELISM);
+		for (String[] source: SOURCES) {
+			Resource sequentialResource = getResource(sequential, source[0]);
+			Resource parallelResource = getResource(parallel, source[0]);
+			assertFalse(source[0], describe(parallelResource).contains("<proxy>"));
+			assertEquals(source[0], describe(sequentialResource), describe(parallelResource));
+		}
+		Namespace c = (Namespace)getResource(parallel, "C.sysml").getContents().get(0);
+		Namespace a = (Namespace)getResource(parallel, "A.sysml").getContents().get(0);
+		Type v = (Type)getMember((Namespace)c.getOwnedMember().get(0), "V");
+		Type x = (Type)getMember((Namespace)a.getOwnedMember().get(0), "X");
+		assertTrue(TypeUtil.conforms(v, x));
+
+		// G only references E through an alias in F, which is imported from F.
+		Namespace e = (Namespace)getResource(parallel, "E.sysml").getContents().get(0);
+		Namespace g = (Namespace)getResource(parallel, "G.sysml").getContents().get(0);
+		Type s = (Type)getMember((Namespace)g.getOwnedMember().get(0), "S");
+		Type t = (Type)getMember((Namespace)e.getOwnedMember().get(0), "T");
+		assertTrue(TypeUtil.conforms(s, t));
+	}
+
+	@Test
+	public void testTransformOnAnotherThread() {
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		ElementAdapter adapter = new ElementAdapter(SysMLFactory.eINSTANCE.createPartDefinition()) {
+			@Override
+			public void doTransform() {
+				// A recursive request on the same thread returns without transforming again.
+				transform();
+				Thread thread = new Thread(()->{
+					try {
+						transform();
+					} catch (Throwable e) {
+						failure.set(e);
+					}
+				});
+				thread.start();
+				try {
+					thread.join();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+		adapter.transform();
+		assertTrue(String.valueOf(failure.get()), failure.get() instanceof IllegalStateException);
+		assertTrue(adapter.isTransformed());
+
+		// Once the transformation is complete, requests on any thread return.
+		adapter.transform();
+	}
+
+	private TestUtil load(int parallelism) {
+		TestUtil util = new TestUtil(parallelism);
+		util.readAll(directory.getPath(), true);
+		util.resolveAllInputResources();
+		util.transformAll(false);
+		return util;
+	}
+
+	private Resource getResource(SysMLUtil util, String name) {
+		Resource resource = util.getResourceSet().getResource(URI.createFileURI(new File(directory, name).getPath()), false);
+		assertNotNull(name, resource);
+		return resource;
+	}
+
+	private static Element getMember(Namespace namespace, String name) {
+		Element member = namespace.getOwnedMember().stream().
+				filter(m->name.equals(m.getDeclaredName())).
+				findFirst().orElse(null);
+		assertNotNull("No member " + name, member);
+		return member;
+	}
+
+	/**
+	 * Describe the (non-derived) cross references of the elements of the given resource by the names of
+	 * the referenced elements, so that the results for different resource sets can be compared. Unresolved
+	 * proxies are described as such.
+	 */
+	private static String describe(Resource resource) {
+		List<String> lines = new ArrayList<>();
+		for (Iterator<EObject> contents = resource.getAllContents(); contents.hasNext();) {
+			EObject object = contents.next();
+			for (EReference reference: object.eClass().getEAllReferences()) {
+				if (!reference.isContainment() && !reference.isContainer() && 
+						!reference.isDerived() && !reference.isTransient()) {
+					Object value = object.eGet(reference, false);
+					List<?> values = value instanceof List? (List<?>)value: Collections.singletonList(value);
+					for (Object referenced: values) {
+						if (referenced instanceof EObject) {
+							lines.add(name(object) + "." + reference.getName() + " -> " + 
+									(((EObject)referenced).eIsProxy()? "<proxy>": name((EObject)referenced)));
+						}
+					}
+				}
+			}
+		}
+		lines.sort(null);
+		return String.join("\n", lines);
+	}
+
+	private static String name(EObject object) {
+		return object instanceof Element? String.valueOf(((Element)object).getQualifiedName()): object.eClass().getName();
+	}
+
+}
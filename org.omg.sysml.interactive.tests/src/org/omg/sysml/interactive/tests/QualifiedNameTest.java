@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.omg.sysml.interactive.SysMLInteractive;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.Namespace;
+import org.omg.sysml.util.ElementUtil;
+
+/**
+ * Checks that the cached qualified names of Elements are updated when an Element, one of its owners,
+ * or its owning Namespace changes, without the caches being cleared explicitly.
+ */
+public class QualifiedNameTest extends SysMLInteractiveTest {
+
+	private static Element getMember(Namespace namespace, String name) {
+		return namespace.getOwnedMember().stream().
+				filter(member->name.equals(member.getDeclaredName())).
+				findFirst().get();
+	}
+
+	@Test
+	public void testRenamedOwner() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = (Namespace)process(instance,
+				"package QualifiedName1 { package P { part def A { part x; } } }").get(0);
+		Namespace p = (Namespace)getMember(pkg, "P");
+		Namespace a = (Namespace)getMember(p, "A");
+		Element x = getMember(a, "x");
+
+		assertEquals("QualifiedName1::P::A::x", x.getQualifiedName());
+		assertEquals("QualifiedName1::P::A::x", ElementUtil.getQualifiedNameOf(x));
+
+		p.setDeclaredName("Q");
+		assertEquals("QualifiedName1::Q::A", a.getQualifiedName());
+		assertEquals("QualifiedName1::Q::A::x", x.getQualifiedName());
+		assertEquals("QualifiedName1::Q::A::x", ElementUtil.getQualifiedNameOf(x));
+
+		pkg.setDeclaredName("QualifiedName1a");
+		assertEquals("QualifiedName1a::Q::A::x", x.getQualifiedName());
+	}
+
+	@Test
+	public void testRenamedElement() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = (Namespace)process(instance,
+				"package QualifiedName2 { part def A { part x; } }").get(0);
+		Namespace a = (Namespace)getMember(pkg, "A");
+		Element x = getMember(a, "x");
+
+		assertEquals("QualifiedName2::A::x", x.getQualifiedName());
+
+		x.setDeclaredName("y");
+		assertEquals("QualifiedName2::A::y", x.getQualifiedName());
+	}
+
+	@Test
+	public void testReparentedElement() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = (Namespace)process(instance,
+				"package QualifiedName3 { package P { part def A { part x; } } package R; }").get(0);
+		Namespace p = (Namespace)getMember(pkg, "P");
+		Namespace r = (Namespace)getMember(pkg, "R");
+		Namespace a = (Namespace)getMember(p, "A");
+		Element x = getMember(a, "x");
+
+		assertEquals("QualifiedName3::P::A", a.getQualifiedName());
+		assertEquals("QualifiedName3::P::A::x", x.getQualifiedName());
+
+		r.getOwnedRelationship().add(a.getOwningRelationship());
+		assertEquals("QualifiedName3::R::A", a.getQualifiedName());
+		assertEquals("QualifiedName3::R::A::x", x.getQualifiedName());
+		assertEquals("QualifiedName3::R::A::x", ElementUtil.getQualifiedNameOf(x));
+	}
+
+}
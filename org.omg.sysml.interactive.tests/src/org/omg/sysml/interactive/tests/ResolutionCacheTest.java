@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.omg.sysml.interactive.SysMLInteractive;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.Namespace;
+
+/**
+ * Checks that cached name resolutions are invalidated when the Namespaces they were resolved in are
+ * changed, without the caches being cleared explicitly.
+ */
+public class ResolutionCacheTest extends SysMLInteractiveTest {
+
+	private Namespace processPackage(SysMLInteractive instance, String input) {
+		List<Element> members = process(instance, input);
+		return (Namespace)members.get(0);
+	}
+
+	private static Element getMember(Namespace namespace, String name) {
+		return namespace.getOwnedMember().stream().
+				filter(member->name.equals(member.getDeclaredName())).
+				findFirst().get();
+	}
+
+	@Test
+	public void testRenamedMember() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = processPackage(instance, "package ResolutionCache1 { part def A; part def B; }");
+		Element a = getMember(pkg, "A");
+
+		assertSame(a, instance.resolve("ResolutionCache1::A"));
+		assertSame(a, instance.resolve("ResolutionCache1::A"));
+		assertNull(instance.resolve("ResolutionCache1::C"));
+
+		a.setDeclaredName("C");
+		assertNull(instance.resolve("ResolutionCache1::A"));
+		assertSame(a, instance.resolve("ResolutionCache1::C"));
+	}
+
+	@Test
+	public void testAddedShortName() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = processPackage(instance, "package ResolutionCache2 { part def A; }");
+		Element a = getMember(pkg, "A");
+
+		assertNull(instance.resolve("ResolutionCache2::a"));
+
+		a.setDeclaredShortName("a");
+		assertSame(a, instance.resolve("ResolutionCache2::a"));
+	}
+
+	@Test
+	public void testRemovedMember() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = processPackage(instance, "package ResolutionCache3 { part def A; part def B; }");
+		Element b = getMember(pkg, "B");
+
+		assertSame(b, instance.resolve("ResolutionCache3::B"));
+
+		pkg.getOwnedRelationship().remove(b.getOwningRelationship());
+		assertNull(instance.resolve("ResolutionCache3::B"));
+		assertNotNull(instance.resolve("ResolutionCache3::A"));
+	}
+
+	@Test
+	public void testRenamedImportedMember() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = processPackage(instance, "package ResolutionCache4 { part def A; }");
+		processPackage(instance, "package ResolutionCache5 { public import ResolutionCache4::*; }");
+		Element a = getMember(pkg, "A");
+
+		assertSame(a, instance.resolve("ResolutionCache5::A"));
+
+		a.setDeclaredName("C");
+		assertNull(instance.resolve("ResolutionCache5::A"));
+		assertSame(a, instance.resolve("ResolutionCache5::C"));
+	}
+
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.junit.Test;
+import org.omg.sysml.lang.sysml.SysMLFactory;
+import org.omg.sysml.lang.sysml.SysMLPackage;
+
+/**
+ * Checks that the setting delegates of derived features are held in static fields shared by all the
+ * instances of a metaclass, rather than in fields of each instance, and that each shared field holds
+ * the setting delegate of one of the features of the metaclass.
+ */
+public class SettingDelegateTest {
+
+	@Test
+	public void testSharedSettingDelegates() throws Exception {
+		int n = 0;
+		for (EClassifier classifier: SysMLPackage.eINSTANCE.getEClassifiers()) {
+			if (classifier instanceof EClass && !((EClass)classifier).isAbstract() && !((EClass)classifier).isInterface()) {
+				EClass eClass = (EClass)classifier;
+				Set<Object> settingDelegates = Collections.newSetFromMap(new IdentityHashMap<>());
+				for (EStructuralFeature feature: eClass.getEAllStructuralFeatures()) {
+					settingDelegates.add(((EStructuralFeature.Internal)feature).getSettingDelegate());
+				}
+				Class<?> implClass = SysMLFactory.eINSTANCE.create(eClass).getClass();
+				for (Class<?> c = implClass; c != null; c = c.getSuperclass()) {
+					for (Field field: c.getDeclaredFields()) {
+						if (field.getType() == EStructuralFeature.Internal.SettingDelegate.class) {
+							String name = c.getSimpleName() + "." + field.getName();
+							assertTrue(name + " is not static", Modifier.isStatic(field.getModifiers()));
+							assertTrue(name + " is not final", Modifier.isFinal(field.getModifiers()));
+							field.setAccessible(true);
+							Object settingDelegate = field.get(null);
+							assertNotNull(name + " is null", settingDelegate);
+							assertTrue(name + " is not the setting delegate of a feature of " + eClass.getName(),
+									settingDelegates.contains(settingDelegate));
+							n++;
+						}
+					}
+				}
+			}
+		}
+		assertTrue("No setting delegate fields", n > 0);
+	}
+
+}
@@ -0,0 +1,118 @@
+/*****************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *****************************************************************************/
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.omg.sysml.interactive.SysMLInteractive;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.Feature;
+import org.omg.sysml.lang.sysml.Type;
+import org.omg.sysml.util.SysMLSharedLibrary;
+
+public class SharedLibraryTest extends SysMLInteractiveTest {
+
+	private static SysMLSharedLibrary library;
+
+	@BeforeClass
+	public static void createSharedLibrary() {
+		library = SysMLInteractive.createSharedLibrary(System.getProperty("libraryPath"));
+	}
+
+	protected SysMLInteractive createSession() {
+		SysMLInteractive instance = SysMLInteractive.createInstance(library);
+		instance.setVerbose(false);
+		return instance;
+	}
+
+	@Test
+	public void testLibraryResolution() throws Exception {
+		SysMLInteractive session1 = createSession();
+		SysMLInteractive session2 = createSession();
+
+		Element integer = session1.resolve("ScalarValues::Integer");
+		assertNotNull(integer);
+		assertSame(integer, session2.resolve("ScalarValues::Integer"));
+		assertEquals(library.getResourceSet(), integer.eResource().getResourceSet());
+
+		List<Element> members = process(session1, "attribute x : ScalarValues::Integer;");
+		assertSame(integer, ((Feature)members.get(0)).getType().get(0));
+		assertEquals(0, session1.getResourceSet().getResources().stream().
+				filter(r->library.getResource(r.getURI()) != null).count());
+	}
+
+	@Test
+	public void testSessionIsolation() throws Exception {
+		SysMLInteractive session1 = createSession();
+		SysMLInteractive session2 = createSession();
+
+		process(session1, "attribute y = 1;");
+		process(session2, "attribute z = 2;");
+
+		assertNotNull(session1.resolve("y"));
+		assertNull(session1.resolve("z"));
+		assertNotNull(session2.resolve("z"));
+		assertNull(session2.resolve("y"));
+		assertEquals("LiteralInteger 2", session2.eval("z", null).split(" \\(")[0]);
+	}
+
+	@Test
+	public void testSessionCollection() throws Exception {
+		List<WeakReference<ResourceSet>> resourceSets = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			resourceSets.add(new WeakReference<>(processAndDiscardSession()));
+		}
+		for (int i = 0; i < 20 && resourceSets.stream().anyMatch(r->r.get() != null); i++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+		for (WeakReference<ResourceSet> resourceSet: resourceSets) {
+			assertNull("Discarded session was not garbage collected", resourceSet.get());
+		}
+	}
+
+	/**
+	 * Process a model using the shared library in a new session, so that caches in the session depend on
+	 * library Namespaces, then discard the session, returning its resource set.
+	 */
+	private ResourceSet processAndDiscardSession() throws Exception {
+		SysMLInteractive session = createSession();
+		List<Element> members = process(session, 
+				"part def P :> Parts::Part { attribute x : ScalarValues::Integer; } part p : P;");
+		for (Element member: members) {
+			((Type)member).getInheritedMembership();
+			((Type)member).getImportedMembership();
+		}
+		return session.getResourceSet();
+	}
+
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.HashSet;
+
+import org.junit.Test;
+import org.omg.sysml.interactive.SysMLInteractive;
+import org.omg.sysml.lang.sysml.Classifier;
+import org.omg.sysml.lang.sysml.ConjugatedPortDefinition;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.Namespace;
+import org.omg.sysml.lang.sysml.PortDefinition;
+import org.omg.sysml.lang.sysml.Subclassification;
+import org.omg.sysml.lang.sysml.SysMLFactory;
+import org.omg.sysml.lang.sysml.Type;
+import org.omg.sysml.util.TypeUtil;
+
+/**
+ * Checks that the cached supertype closure of a Type, as used by TypeUtil.conforms, is updated when
+ * the specializations of the Type or of one of its supertypes change, and that it follows conjugation.
+ */
+public class SupertypeClosureTest extends SysMLInteractiveTest {
+
+	private static Element getMember(Namespace namespace, String name) {
+		return namespace.getOwnedMember().stream().
+				filter(member->name.equals(member.getDeclaredName())).
+				findFirst().get();
+	}
+
+	private static void assertConforms(boolean expected, Type subtype, Type supertype) {
+		assertEquals(expected, TypeUtil.conforms(subtype, supertype));
+		assertEquals(expected, TypeUtil.getAllSupertypesOf(subtype).contains(supertype));
+		// The uncached search must agree with the cached closure.
+		assertEquals(expected, TypeUtil.conforms(subtype, supertype, new HashSet<>()));
+	}
+
+	@Test
+	public void testAddedSpecialization() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = (Namespace)process(instance,
+				"package SupertypeClosure1 { part def A; part def B; part def C :> B; }").get(0);
+		Classifier a = (Classifier)getMember(pkg, "A");
+		Classifier b = (Classifier)getMember(pkg, "B");
+		Classifier c = (Classifier)getMember(pkg, "C");
+
+		assertConforms(true, c, b);
+		assertConforms(false, c, a);
+
+		Subclassification subclassification = SysMLFactory.eINSTANCE.createSubclassification();
+		subclassification.setSuperclassifier(a);
+		b.getOwnedRelationship().add(subclassification);
+		assertConforms(true, b, a);
+		assertConforms(true, c, a);
+	}
+
+	@Test
+	public void testRemovedSpecialization() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = (Namespace)process(instance,
+				"package SupertypeClosure2 { part def A; part def B :> A; part def C :> B; }").get(0);
+		Classifier a = (Classifier)getMember(pkg, "A");
+		Classifier b = (Classifier)getMember(pkg, "B");
+		Classifier c = (Classifier)getMember(pkg, "C");
+
+		assertConforms(true, c, a);
+
+		b.getOwnedRelationship().remove(b.getOwnedSpecialization().get(0));
+		assertConforms(false, b, a);
+		assertConforms(false, c, a);
+		assertConforms(true, c, b);
+	}
+
+	@Test
+	public void testConjugation() throws Exception {
+		SysMLInteractive instance = getSysMLInteractiveInstance();
+		Namespace pkg = (Namespace)process(instance,
+				"package SupertypeClosure3 { port def P; port def Q :> P; port def R; }").get(0);
+		PortDefinition p = (PortDefinition)getMember(pkg, "P");
+		PortDefinition q = (PortDefinition)getMember(pkg, "Q");
+		PortDefinition r = (PortDefinition)getMember(pkg, "R");
+		ConjugatedPortDefinition conjugatedQ = q.getConjugatedPortDefinition();
+		assertNotNull(conjugatedQ);
+
+		assertConforms(true, conjugatedQ, q);
+		assertConforms(true, conjugatedQ, p);
+		assertConforms(false, conjugatedQ, r);
+		assertConforms(false, q, conjugatedQ);
+
+		Subclassification subclassification = SysMLFactory.eINSTANCE.createSubclassification();
+		subclassification.setSuperclassifier(r);
+		q.getOwnedRelationship().add(subclassification);
+		assertConforms(true, conjugatedQ, r);
+	}
+
+}
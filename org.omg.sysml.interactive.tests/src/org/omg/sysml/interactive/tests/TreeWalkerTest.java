@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.omg.sysml.util.TreeWalker;
+
+/**
+ * Checks that TreeWalker visits nodes in the same order as a recursive walk, that it handles early
+ * cutoff and that it can walk trees too deep to be walked recursively.
+ */
+public class TreeWalkerTest {
+
+	private static final int DEPTH = 1000000;
+
+	private static class Node {
+		private final String name;
+		private final List<Node> children = new ArrayList<>();
+
+		private Node(String name, Node... children) {
+			this.name = name;
+			Collections.addAll(this.children, children);
+		}
+	}
+
+	private static final TreeWalker<Node> walker = TreeWalker.of(node->node.children);
+
+	private static Node tree() {
+		return new Node("a", 
+				new Node("b", new Node("c"), new Node("d")), 
+				new Node("e", new Node("f", new Node("g"))), 
+				new Node("h"));
+	}
+
+	private static void recursiveWalk(Node node, List<String> events) {
+		events.add("pre " + node.name);
+		for (Node child: node.children) {
+			recursiveWalk(child, events);
+		}
+		events.add("post " + node.name);
+	}
+
+	@Test
+	public void testOrder() {
+		List<String> expected = new ArrayList<>();
+		recursiveWalk(tree(), expected);
+		List<String> events = new ArrayList<>();
+		assertTrue(walker.walk(tree(), 
+				node->{
+					events.add("pre " + node.name);
+					return TreeWalker.Action.CONTINUE;
+				}, 
+				node->events.add("post " + node.name)));
+		assertEquals(expected, events);
+	}
+
+	@Test
+	public void testCutoff() {
+		List<String> events = new ArrayList<>();
+		assertTrue(walker.walk(tree(), 
+				node->{
+					events.add("pre " + node.name);
+					return node.name.equals("b")? TreeWalker.Action.SKIP_CHILDREN:
+						   node.name.equals("e")? TreeWalker.Action.SKIP:
+						   TreeWalker.Action.CONTINUE;
+				}, 
+				node->events.add("post " + node.name)));
+		assertEquals(Arrays.asList("pre a", "pre b", "post b", "pre e", "pre h", "post h", "post a"), events);
+		
+		events.clear();
+		assertFalse(walker.walk(tree(), 
+				node->{
+					events.add("pre " + node.name);
+					return node.name.equals("d")? TreeWalker.Action.STOP: TreeWalker.Action.CONTINUE;
+				}, 
+				node->events.add("post " + node.name)));
+		assertEquals(Arrays.asList("pre a", "pre b", "pre c", "post c", "pre d"), events);
+	}
+
+	@Test
+	public void testChildrenAddedDuringWalk() {
+		// Children added to a node after it is pre-visited are walked, as they would be by a recursive walk.
+		List<String> events = new ArrayList<>();
+		Node root = new Node("a");
+		walker.walk(root, 
+				node->{
+					events.add("pre " + node.name);
+					if (node == root) {
+						root.children.add(new Node("b"));
+					}
+					return TreeWalker.Action.CONTINUE;
+				}, 
+				node->events.add("post " + node.name));
+		assertEquals(Arrays.asList("pre a", "pre b", "post b", "post a"), events);
+	}
+
+	@Test
+	public void testDeepTree() {
+		Node root = new Node("0");
+		Node node = root;
+		for (int i = 1; i < DEPTH; i++) {
+			Node child = new Node(Integer.toString(i));
+			node.children.add(child);
+			node = child;
+		}
+		int[] counts = new int[2];
+		assertTrue(walker.walk(root, 
+				n->{
+					counts[0]++;
+					return TreeWalker.Action.CONTINUE;
+				}, 
+				n->counts[1]++));
+		assertEquals(DEPTH, counts[0]);
+		assertEquals(DEPTH, counts[1]);
+	}
+
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+package org.omg.sysml.interactive.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.omg.sysml.util.UUIDDigest;
+
+/**
+ * Checks that the name-based UUIDs generated by UUIDDigest, which encodes names as UTF-8 by hand, are the
+ * same as those generated by hashing the result of String.getBytes(UTF_8), as previously done.
+ */
+public class UUIDDigestTest {
+
+	private static final UUID NAMESPACE = UUID.fromString("e8d0e5b3-8d5e-4c2a-9f4e-3a1b2c3d4e5f");
+
+	private static final String[] NAMES = {
+		"",
+		"ScalarValues::Integer",
+		"Base::Anything::self",
+		"'unrestricted name'::'with \\'quotes\\''",
+		"caf\u00E9::\u00FCber",
+		"\u4E2D\u6587::\u540D\u79F0",
+		"smile::\uD83D\uDE00::\uD835\uDC00",
+		"unpaired::\uD800high",
+		"unpaired::low\uDC00",
+		"unpaired::trailing\uD83D",
+		"reversed::\uDE00\uD83D",
+	};
+
+	private static UUID referenceHash(UUID namespace, String name) throws Exception {
+		MessageDigest md = MessageDigest.getInstance("SHA-1");
+		ByteBuffer nsBuffer = ByteBuffer.allocate(16);
+		nsBuffer.putLong(namespace.getMostSignificantBits());
+		nsBuffer.putLong(namespace.getLeastSignificantBits());
+		md.update(nsBuffer.array());
+		md.update(name.getBytes(StandardCharsets.UTF_8));
+		ByteBuffer bb = ByteBuffer.wrap(md.digest());
+		long msb = (bb.getLong() & (-1L ^ (0x0F << 12))) | (5 << 12);
+		long lsb = (bb.getLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+		return new UUID(msb, lsb);
+	}
+
+	@Test
+	public void testNames() throws Exception {
+		UUIDDigest digest = new UUIDDigest(5, "SHA-1");
+		for (String name: NAMES) {
+			assertEquals(name, referenceHash(NAMESPACE, name), digest.hash(NAMESPACE, name));
+		}
+	}
+
+	@Test
+	public void testLongName() throws Exception {
+		UUIDDigest digest = new UUIDDigest(5, "SHA-1");
+		StringBuilder name = new StringBuilder();
+		for (int i = 0; i < 200; i++) {
+			name.append("\uD83D\uDE00\u00E9a");
+		}
+		assertEquals(referenceHash(NAMESPACE, name.toString()), digest.hash(NAMESPACE, name.toString()));
+	}
+
+	@Test
+	public void testRandomNames() throws Exception {
+		UUIDDigest digest = new UUIDDigest(5, "SHA-1");
+		Random random = new Random(42);
+		for (int i = 0; i < 1000; i++) {
+			char[] chars = new char[random.nextInt(40)];
+			for (int j = 0; j < chars.length; j++) {
+				// Bias towards surrogates so that unpaired and paired surrogates are both common.
+				chars[j] = random.nextBoolean()? (char)(0xD800 + random.nextInt(0x800)): (char)random.nextInt(0x10000);
+			}
+			String name = new String(chars);
+			assertEquals(referenceHash(NAMESPACE, name), digest.hash(NAMESPACE, name));
+		}
+	}
+
+}
@@ -29,6 +29,7 @@
 package org.omg.sysml.interactive;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -40,6 +41,7 @@ import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.nodemodel.ICompositeNode;
 import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
 import org.eclipse.xtext.parser.IParseResult;
@@ -67,6 +69,9 @@ import org.omg.sysml.lang.sysml.ViewUsage;
 import org.omg.sysml.lang.sysml.util.SysMLLibraryUtil;
 import org.omg.sysml.plantuml.SysML2PlantUMLLinkProvider;
 import org.omg.sysml.plantuml.SysML2PlantUMLSvc;
+import org.omg.sysml.util.SysMLLibrarySnapshot;
+import org.omg.sysml.util.SysMLLoadProfile;
+import org.omg.sysml.util.SysMLSharedLibrary;
 import org.omg.sysml.util.SysMLUtil;
 import org.omg.sysml.util.TypeUtil;
 import org.omg.sysml.util.traversal.Traversal;
@@ -94,6 +99,7 @@ public class SysMLInteractive extends SysMLUtil {
 	protected String apiBasePath = ApiElementProcessingFacade.DEFAULT_BASE_PATH;
 	
 	protected int counter = 1;
+	protected boolean isLazyLibraryLoading = false;
 	protected XtextResource resource;
 	
 	protected Traversal traversal;
@@ -117,15 +123,55 @@ public class SysMLInteractive extends SysMLUtil {
 	}
 	
 	public void loadLibrary(String path) {
-		if (path != null) {
+		if (path != null && this.getSharedLibrary() == null) {
 			if (!path.endsWith("/")) {
 				path += "/";
 			}
 			SysMLLibraryUtil.setModelLibraryDirectory(path);
-			this.readAll(path + KERNEL_LIBRARIES_DIRECTORY, false, KERML_EXTENSION);
-			this.readAll(path + SYSTEMS_LIBRARY_DIRECTORY, false, SYSML_EXTENSION);
-			this.readAll(path + DOMAIN_LIBRARIES_DIRECTORY, false, SYSML_EXTENSION);
+			SysMLLibrarySnapshot snapshot = getLibrarySnapshot(path);
+			if (!(this.isLazyLibraryLoading? snapshot.readIndex(this): snapshot.read(this))) {
+				// Parse the library files in parallel, but keep the parallelism set for this session
+				// (sequential by default) for linking and transforming the input resources.
+				int parallelism = this.getParallelism();
+				this.setParallelism(Math.max(parallelism, Runtime.getRuntime().availableProcessors()));
+				try {
+					this.readAll(path + KERNEL_LIBRARIES_DIRECTORY, false, KERML_EXTENSION);
+					this.readAll(path + SYSTEMS_LIBRARY_DIRECTORY, false, SYSML_EXTENSION);
+					this.readAll(path + DOMAIN_LIBRARIES_DIRECTORY, false, SYSML_EXTENSION);
+				} finally {
+					this.setParallelism(parallelism);
+				}
+			}
+		}
+	}
+	
+	public void saveLibrarySnapshot(String path) throws IOException {
+		if (!path.endsWith("/")) {
+			path += "/";
 		}
+		loadLibrary(path);
+		loadLazyResources();
+		getLibrarySnapshot(path).write(this);
+	}
+	
+	/**
+	 * Set whether only the index of the model library is to be loaded by {@link #loadLibrary(String)},
+	 * with each library resource being loaded only when an element from it is first needed. Lazy loading
+	 * requires an up-to-date library snapshot, from which both the index and the resources are read.
+	 * Without one, the whole library is read from source as usual.
+	 * 
+	 * @param 	isLazyLibraryLoading	whether library resources are to be loaded lazily
+	 */
+	public void setLazyLibraryLoading(boolean isLazyLibraryLoading) {
+		this.isLazyLibraryLoading = isLazyLibraryLoading;
+	}
+	
+	protected SysMLLibrarySnapshot getLibrarySnapshot(String path) {
+		SysMLLibrarySnapshot snapshot = new SysMLLibrarySnapshot(path);
+		snapshot.addRoot(KERNEL_LIBRARIES_DIRECTORY, KERML_EXTENSION);
+		snapshot.addRoot(SYSTEMS_LIBRARY_DIRECTORY, SYSML_EXTENSION);
+		snapshot.addRoot(DOMAIN_LIBRARIES_DIRECTORY, SYSML_EXTENSION);
+		return snapshot;
 	}
 	
 	public void setApiBasePath(String apiBasePath) {
@@ -166,14 +212,30 @@ public class SysMLInteractive extends SysMLUtil {
 	public void parse(String input) throws IOException {
 		XtextResource resource = this.getResource();
 		if (resource != null) {
-			resource.reparse(input);
+			try {
+				this.profile(resource, SysMLLoadProfile.Phase.PARSE, ()->{
+					try {
+						resource.reparse(input);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
 		}
 	}
 	
 	public List<Issue> validate() {
 		XtextResource resource = this.getResource();
-		return resource == null? Collections.emptyList():
-			validator.validate(resource, CheckMode.ALL, CancelIndicator.NullImpl);
+		if (resource == null) {
+			return Collections.emptyList();
+		} else {
+			List<Issue> issues = new ArrayList<>();
+			this.profile(resource, SysMLLoadProfile.Phase.VALIDATE, ()->
+				issues.addAll(validator.validate(resource, CheckMode.ALL, CancelIndicator.NullImpl)));
+			return issues;
+		}
 	}
 	
 	private Resource getDummyResource() {
@@ -194,8 +256,8 @@ public class SysMLInteractive extends SysMLUtil {
 		if (description == null) {
 			return null;
 		} else {
-			EObject object = description.getEObjectOrProxy();
-			return object instanceof Element? (Element)object: null;
+			EObject object = EcoreUtil.resolve(description.getEObjectOrProxy(), this.getDummyResource());
+			return object instanceof Element && !object.eIsProxy()? (Element)object: null;
 		}
 	}
 	
@@ -282,6 +344,7 @@ public class SysMLInteractive extends SysMLUtil {
 	public String listLibrary() {
 		this.counter++;
 		try {
+			this.loadLazyResources();
 			List<Membership> globalMemberships = 
 					this.getLibraryResources().stream().
 					flatMap(r->r.getContents().stream()).
@@ -636,6 +699,33 @@ public class SysMLInteractive extends SysMLUtil {
 		return injector.getInstance(SysMLInteractive.class);
 	}
 	
+	/**
+	 * Create an instance that uses the given shared library, rather than loading its own copy of the
+	 * model library. Any number of such instances can share the same library.
+	 * 
+	 * @param 	library		the shared library to be used
+	 * @return	a new instance using the shared library
+	 */
+	public static SysMLInteractive createInstance(SysMLSharedLibrary library) {
+		SysMLInteractive instance = createInstance();
+		instance.setSharedLibrary(library);
+		return instance;
+	}
+	
+	/**
+	 * Create a shared library by loading the model library from the given path. The result can be
+	 * used to create any number of instances with {@link #createInstance(SysMLSharedLibrary)}.
+	 * 
+	 * @param 	path		the path of the model library directory
+	 * @return	a shared library containing the model library
+	 */
+	public static SysMLSharedLibrary createSharedLibrary(String path) {
+		SysMLInteractive libraryInstance = createInstance();
+		libraryInstance.setVerbose(false);
+		libraryInstance.loadLibrary(path);
+		return SysMLSharedLibrary.create(libraryInstance);
+	}
+	
 	public static SysMLInteractive getInstance() {
 		if (instance == null) {
 			instance = createInstance();
@@ -0,0 +1,44 @@
+/*****************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *****************************************************************************/
+package org.omg.sysml.interactive;
+
+import org.omg.sysml.util.SysMLLibrarySnapshot;
+
+/**
+ * This class provides an application for writing the library snapshot used by
+ * {@link SysMLInteractive#loadLibrary(String)}. The snapshot is written to the
+ * file {@value SysMLLibrarySnapshot#SNAPSHOT_FILE_NAME} in the library directory.
+ */
+public class SysMLLibrarySnapshotWriter {
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 1) {
+			System.out.println("Usage: ");
+			System.out.println("SysMLLibrarySnapshotWriter <LIBRARY FOLDER>");
+			return;
+		}
+		SysMLInteractive instance = SysMLInteractive.createInstance();
+		instance.setVerbose(false);
+		instance.saveLibrarySnapshot(args[0]);
+		System.out.println("Library snapshot written to " + instance.getLibrarySnapshot(args[0]).getSnapshotFile().getPath());
+	}
+
+}
@@ -23,28 +23,39 @@
  *****************************************************************************/
 package org.omg.sysml.interactive.profiler;
 
+import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.omg.sysml.interactive.SysMLInteractive;
 import org.omg.sysml.interactive.SysMLInteractiveResult;
+import org.omg.sysml.util.SysMLLoadProfile;
 
 import com.google.common.base.Stopwatch;
 
 /**
  * This class provides a reusable application for profiling the interactive parser component of the SysML. The profiler  
- *
+ * prints the total time taken to load the library and to process each input file. If the -json option is given, a
+ * report of the time taken by each phase of loading each library resource and input is also written to the given file
+ * (see {@link SysMLLoadProfile}), along with a report of the name strings held by each resource.
  */
 public class SysMLInteractiveParsingProfiler {
 
 	public static void main(String[] args) throws Exception {
 		Stopwatch initWatch = Stopwatch.createStarted();
 		SysMLInteractive instance = SysMLInteractive.getInstance();
+		String reportFile = null;
+		if (args.length > 1 && "-json".equals(args[0])) {
+			reportFile = args[1];
+			args = Arrays.copyOfRange(args, 2, args.length);
+			instance.setProfile(new SysMLLoadProfile());
+		}
 		if (args.length <= 1) {
 			System.out.println("Usage: ");
-			System.out.println("SysMLInteractiveParsingProfiler <LIBRARY FOLDER> <FILENAME>");
+			System.out.println("SysMLInteractiveParsingProfiler [-json <REPORT FILE>] <LIBRARY FOLDER> <FILENAME>");
 		}
 		instance.loadLibrary(args[0]);
 		
@@ -65,6 +76,12 @@ public class SysMLInteractiveParsingProfiler {
 			System.out.println(watch.elapsed(TimeUnit.MILLISECONDS) + " ms");
 			System.out.println();
 		}
+		
+		if (reportFile != null) {
+			instance.getProfile().reportNames(instance.getResourceSet().getResources());
+			instance.getProfile().write(new File(reportFile));
+			System.out.println("Profile written to " + reportFile);
+		}
 	}
 
 }
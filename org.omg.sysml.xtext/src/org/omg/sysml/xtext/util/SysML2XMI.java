@@ -69,11 +69,13 @@ public class SysML2XMI extends KerML2XMI {
 	 * 
 	 * <p>Usage:
 	 * 
-	 * <p>SysML2XMI [-g] input-path [library-path library-path...]
+	 * <p>SysML2XMI [-g] [-p] [-c cache-path] input-path [library-path library-path...]
 	 * 
 	 * <p>where:
 	 * 
 	 * <li>-g                     specifies that implicit generalizations should be generated (the default is not to)</li>
+	 * <li>-p                     specifies that source files should be parsed in parallel (the default is not to)</li>
+	 * <li>-c cache-path          is a path for a directory used to cache index information for unchanged source files (and report the cache hit rate)</li>
 	 * <li>input-path             is a path for reading input resources</li>
 	 * <li>library-paths          are paths for reading library resources, relative to the library-base-path (if one is given)</li>
 	 */
@@ -41,7 +41,7 @@ public class SysMLRepositorySaveUtil extends KerMLRepositorySaveUtil {
 	 * 
 	 * <p>Usage:
 	 * 
-	 * <p>SysMLRepositorySaveUtil [-b base-path-url] [-l library-base-path] [-d] [-g] [-v] input-path [library-path library-path...]
+	 * <p>SysMLRepositorySaveUtil [-b base-path-url] [-l library-base-path] [-d] [-g] [-v] [-p] [-c cache-path] input-path [library-path library-path...]
 	 * 
 	 * <p>where:
 	 * 
@@ -50,6 +50,8 @@ public class SysMLRepositorySaveUtil extends KerMLRepositorySaveUtil {
 	 * <li>-l library-base-path   gives the base path to used for reading model library resources</li>
 	 * <li>-d                     specifies that derived attributes should be included (the default is not to)</li>
 	 * <li>-g                     specifies that implicit generalizations should be generated (the default is not to)</li>
+	 * <li>-p                     specifies that source files should be parsed in parallel (the default is not to)</li>
+	 * <li>-c cache-path          is a path for a directory used to cache index information for unchanged source files (and report the cache hit rate)</li>
 	 * <li>input-path             is a path for reading input resources</li>
 	 * <li>library-paths          are paths for reading library resources, relative to the library-base-path (if one is given)</li>
 	 * </ul>
@@ -120,7 +120,7 @@ public class ActionUsageAdapter extends OccurrenceUsageAdapter {
 					((TransitionFeatureMembership)membership).getKind().toString():
 				null;
 		return kind == null? null:
-			   ImplicitGeneralizationMap.getDefaultSupertypeFor(target.getClass(), kind);
+			   ImplicitGeneralizationMap.getDefaultSupertypeFor(target.eClass(), kind);
 	}
 	
 }
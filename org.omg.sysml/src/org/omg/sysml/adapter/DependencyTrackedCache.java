@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *******************************************************************************/
+
+package org.omg.sysml.adapter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A cached derived value that records what it was computed from, so that it is only invalidated
+ * by changes that may affect it.
+ * <p>
+ * While the value is being computed, it is the current computation for its thread. Any Namespace
+ * traversed during the computation records the cache as one of its dependents (see
+ * {@link NamespaceAdapter#recordDependency()}), and the cache is invalidated when that Namespace is
+ * marked as changed. If the computation uses another cached value, then the cache is also recorded as
+ * a dependent of that cache, so invalidations are propagated to it. A value is not cached if the cache
+ * is invalidated while the value is being computed.
+ * <p>
+ * Dependents are held weakly, so a dependency on a long-lived Namespace or cache (e.g., one in a
+ * shared model library) does not keep the dependent cache, or the model it belongs to, from being
+ * garbage collected.
+ */
+public class DependencyTrackedCache<T> {
+
+	private static final ThreadLocal<Deque<DependencyTrackedCache<?>>> computing =
+			ThreadLocal.withInitial(ArrayDeque::new);
+
+	private volatile T value = null;
+	private int version = 0;
+	private volatile Dependents dependents = null;
+
+	/**
+	 * Get the cached value, using the given supplier to compute it if there is no valid cached value.
+	 *
+	 * @param 	supplier		the supplier used to compute the value
+	 * @return	the cached or computed value
+	 */
+	public T get(Supplier<T> supplier) {
+		DependencyTrackedCache<?> current = getCurrent();
+		if (current != null && current != this) {
+			addDependent(current);
+		}
+		T cached = value;
+		if (cached != null) {
+			return cached;
+		}
+		int startVersion;
+		synchronized (this) {
+			startVersion = version;
+		}
+		Deque<DependencyTrackedCache<?>> stack = computing.get();
+		stack.push(this);
+		T computed;
+		try {
+			computed = supplier.get();
+		} finally {
+			stack.pop();
+		}
+		synchronized (this) {
+			if (version == startVersion) {
+				value = computed;
+			}
+		}
+		return computed;
+	}
+
+	/**
+	 * Discard the cached value and invalidate all the caches that depend on it.
+	 */
+	public void invalidate() {
+		synchronized (this) {
+			version++;
+			value = null;
+		}
+		invalidateDependents(dependents);
+	}
+
+	protected void addDependent(DependencyTrackedCache<?> dependent) {
+		Dependents set = dependents;
+		if (set == null) {
+			synchronized (this) {
+				set = dependents;
+				if (set == null) {
+					dependents = set = new Dependents();
+				}
+			}
+		}
+		set.add(dependent);
+	}
+
+	/**
+	 * Invalidate each of the given dependent caches, removing them from the given set first, so that
+	 * each will be added again only if it is recomputed.
+	 */
+	protected static void invalidateDependents(Dependents dependents) {
+		if (dependents != null) {
+			dependents.invalidateAll();
+		}
+	}
+
+	/**
+	 * Get the cache whose value is currently being computed on this thread, if any.
+	 *
+	 * @return	the current cache, or null if no cached value is being computed
+	 */
+	public static DependencyTrackedCache<?> getCurrent() {
+		return computing.get().peek();
+	}
+
+	/**
+	 * A thread-safe set of dependent caches, which are only weakly referenced.
+	 */
+	protected static class Dependents {
+
+		private final Map<DependencyTrackedCache<?>, Boolean> map = new WeakHashMap<>();
+
+		/**
+		 * Add a dependent cache to this set.
+		 *
+		 * @param 	dependent		the dependent cache
+		 * @return	whether the cache was not already in the set
+		 */
+		public synchronized boolean add(DependencyTrackedCache<?> dependent) {
+			return map.put(dependent, Boolean.TRUE) == null;
+		}
+
+		/**
+		 * Check whether the given cache is in this set.
+		 */
+		public synchronized boolean contains(DependencyTrackedCache<?> dependent) {
+			return map.containsKey(dependent);
+		}
+
+		/**
+		 * Get the number of dependent caches that have not been garbage collected.
+		 */
+		public synchronized int size() {
+			return map.size();
+		}
+
+		/**
+		 * Remove all the dependent caches from this set and invalidate them.
+		 */
+		public void invalidateAll() {
+			Object[] removed;
+			synchronized (this) {
+				if (map.isEmpty()) {
+					return;
+				}
+				removed = map.keySet().toArray();
+				map.clear();
+			}
+			for (Object dependent: removed) {
+				if (dependent != null) {
+					((DependencyTrackedCache<?>)dependent).invalidate();
+				}
+			}
+		}
+
+	}
+
+}
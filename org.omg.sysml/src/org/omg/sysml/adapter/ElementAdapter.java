@@ -21,21 +21,32 @@
 
 package org.omg.sysml.adapter;
 
+import java.util.Objects;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
 import org.omg.sysml.lang.sysml.Annotation;
+import org.omg.sysml.lang.sysml.ConjugatedPortDefinition;
 import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.Feature;
 import org.omg.sysml.lang.sysml.FeatureTyping;
 import org.omg.sysml.lang.sysml.MetadataFeature;
+import org.omg.sysml.lang.sysml.Namespace;
 import org.omg.sysml.lang.sysml.SysMLFactory;
 import org.omg.sysml.lang.sysml.Type;
+import org.omg.sysml.lang.sysml.impl.ElementImpl;
 import org.omg.sysml.util.ElementUtil;
 
 public class ElementAdapter extends AdapterImpl {
 	
 	protected Class<?> kind;
-	protected boolean isTransformed = false;
+	protected volatile boolean isTransformed = false;
+	private volatile Thread transformingThread = null;
 	
 	private MetadataFeature metaclassFeature = null;
+	private volatile QualifiedNameEntry qualifiedName = null;
 	
 	public ElementAdapter(Element element) {
 		super();
@@ -51,9 +62,29 @@ public class ElementAdapter extends AdapterImpl {
 		return kind.isInstance(object);
 	}
 	
+	/**
+	 * When this adapter is added to an ElementImpl, it is also recorded in the adapter slot of the
+	 * ElementImpl, so that it can be accessed directly (see {@link ElementAdapterFactory#getAdapter(Element)}).
+	 */
+	@Override
+	public void setTarget(Notifier newTarget) {
+		super.setTarget(newTarget);
+		if (newTarget instanceof ElementImpl) {
+			((ElementImpl)newTarget).setElementAdapter(this);
+		}
+	}
+	
+	@Override
+	public void unsetTarget(Notifier oldTarget) {
+		super.unsetTarget(oldTarget);
+		if (oldTarget instanceof ElementImpl && ((ElementImpl)oldTarget).getElementAdapter() == this) {
+			((ElementImpl)oldTarget).setElementAdapter(null);
+		}
+	}
+	
 	// Metaclass Feature
 	
-	public MetadataFeature getMetaclassFeature() {
+	public synchronized MetadataFeature getMetaclassFeature() {
 		if (metaclassFeature == null) {
 			Element element = getTarget();
 			Type metaclass = ElementUtil.getMetaclassOf(element);
@@ -71,6 +102,103 @@ public class ElementAdapter extends AdapterImpl {
 		return metaclassFeature;
 	}
 		
+	// Qualified Name
+	
+	/**
+	 * Get the qualified name of the target Element. The qualified name is cached, along with the
+	 * owning Namespace and the qualification from which it was built. The cached value is used as long
+	 * as the owning Namespace of the target is the same and returns the identical (cached) qualification,
+	 * so that renaming or moving the target or any of its ancestors invalidates it. If the name of the
+	 * target is computed from other Elements (see {@link #isNameComputed(Element)}), then the name is also
+	 * rechecked.
+	 * 
+	 * @return	the qualified name of the target Element, or null if it does not have one
+	 */
+	public String getQualifiedName() {
+		Element target = getTarget();
+		Namespace owningNamespace = target.getOwningNamespace();
+		if (owningNamespace == null) {
+			return null;
+		}
+		String qualification = owningNamespace.getOwner() == null? null: owningNamespace.getQualifiedName();
+		QualifiedNameEntry entry = qualifiedName;
+		boolean isNameComputed = isNameComputed(target);
+		String name = isNameComputed || entry == null? target.escapedName(): entry.name;
+		if (entry != null && entry.owningNamespace == owningNamespace && entry.qualification == qualification &&
+				(!isNameComputed || Objects.equals(name, entry.name))) {
+			return entry.value;
+		}
+		String value = 
+				name == null || owningNamespace.getOwner() == null? name:
+				qualification == null? null:
+				qualification + "::" + name;
+		qualifiedName = new QualifiedNameEntry(owningNamespace, qualification, name, value);
+		return value;
+	}
+	
+	/**
+	 * Whether the effective name of the given Element may differ from its declared name,
+	 * requiring other Elements to be resolved to compute it.
+	 */
+	protected static boolean isNameComputed(Element element) {
+		return element instanceof Feature && element.getDeclaredName() == null && element.getDeclaredShortName() == null ||
+			   element instanceof ConjugatedPortDefinition;
+	}
+	
+	private static class QualifiedNameEntry {
+		
+		private final Namespace owningNamespace;
+		private final String qualification;
+		private final String name;
+		private final String value;
+		
+		private QualifiedNameEntry(Namespace owningNamespace, String qualification, String name, String value) {
+			this.owningNamespace = owningNamespace;
+			this.qualification = qualification;
+			this.name = name;
+			this.value = value;
+		}
+		
+	}
+		
+	// Change Tracking
+	
+	@Override
+	public void notifyChanged(Notification notification) {
+		if (!notification.isTouch()) {
+			switch (notification.getEventType()) {
+			case Notification.RESOLVE:
+				break;
+			case Notification.REMOVING_ADAPTER:
+				// Removing this adapter discards any cached values, which must be treated as a change.
+				if (notification.getOldValue() == this) {
+					elementChanged();
+				}
+				break;
+			default:
+				elementChanged();
+			}
+		}
+	}
+	
+	/**
+	 * Called when the target Element has been changed. The cached qualified name of the target is
+	 * discarded. By default, the nearest Namespace containing the target (e.g., the owning Namespace
+	 * of a Membership, Import or member Element, or the owning Type of a Specialization) is marked as
+	 * changed, since name resolution in that Namespace may depend on the target.
+	 */
+	protected void elementChanged() {
+		qualifiedName = null;
+		for (EObject container = getTarget().eContainer(); container != null; container = container.eContainer()) {
+			if (container instanceof Namespace) {
+				ElementAdapterFactory.getExistingAdapter((Namespace)container).
+					filter(NamespaceAdapter.class::isInstance).
+					ifPresent(adapter->((NamespaceAdapter)adapter).markChanged());
+				break;
+			}
+		}
+	}
+	
 	// Transformation
 
 	public boolean isTransformed() {
@@ -80,10 +208,35 @@ public class ElementAdapter extends AdapterImpl {
 	public void clearCaches() {
 	}
 	
+	/**
+	 * Transform the target element, if it has not already been transformed. The element is marked as
+	 * transformed before it is transformed, so a transformation that requires the element to be transformed
+	 * again (directly or indirectly) on the same thread does not recurse. Resources are only transformed
+	 * concurrently if their elements cannot require each other to be transformed (see
+	 * {@link org.omg.sysml.util.SysMLUtil#transformAllInParallel(boolean)}), so it is an error for another
+	 * thread to request the transformation of the element while it is being transformed, since that thread
+	 * would otherwise continue with a partially transformed element.
+	 * 
+	 * @throws	IllegalStateException	if the element is being transformed on another thread
+	 */
 	public void transform() {
-		if (!isTransformed) {
+		Thread currentThread = Thread.currentThread();
+		synchronized (this) {
+			if (isTransformed) {
+				Thread thread = transformingThread;
+				if (thread != null && thread != currentThread) {
+					throw new IllegalStateException("Element is being transformed on another thread (" + 
+							thread.getName() + "): " + getTarget());
+				}
+				return;
+			}
 			isTransformed = true;
+			transformingThread = currentThread;
+		}
+		try {
 			doTransform();
+		} finally {
+			transformingThread = null;
 		}
 	}
 	
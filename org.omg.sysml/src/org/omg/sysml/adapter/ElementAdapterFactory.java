@@ -23,35 +23,65 @@ package org.omg.sysml.adapter;
 
 import java.util.Optional;
 
+import org.eclipse.emf.common.notify.Adapter;
 import org.omg.sysml.lang.sysml.*;
 import org.omg.sysml.lang.sysml.Class;
+import org.omg.sysml.lang.sysml.impl.ElementImpl;
 import org.omg.sysml.lang.sysml.util.SysMLSwitch;
 
 public class ElementAdapterFactory {
 		
 	public static ElementAdapter getAdapter(Element element) {
-		return getExistingAdapter(element).orElseGet(()->createAdapter(element));
+		ElementAdapter adapter = basicGetAdapter(element);
+		return adapter != null? adapter: createAdapter(element);
 	}
 	
 	public static void removeAdapter(Element target) {
-		getExistingAdapter(target).ifPresent(target.eAdapters()::remove);
+		ElementAdapter adapter = basicGetAdapter(target);
+		if (adapter != null) {
+			target.eAdapters().remove(adapter);
+		}
 	}
 	
 	protected static Optional<ElementAdapter> getExistingAdapter(Element target) {
-		return target == null? Optional.empty():
-			   target.eAdapters()
-				.stream()
-				.filter(ElementAdapter.class::isInstance)
-				.map(ElementAdapter.class::cast)
-				.findFirst();
+		return Optional.ofNullable(basicGetAdapter(target));
+	}
+	
+	/**
+	 * Get the existing adapter for the given element, without creating one. For an ElementImpl,
+	 * this is just a read of its adapter slot, which is maintained by the ElementAdapter itself.
+	 */
+	protected static ElementAdapter basicGetAdapter(Element target) {
+		if (target instanceof ElementImpl) {
+			return ((ElementImpl)target).getElementAdapter();
+		} else if (target == null) {
+			return null;
+		} else {
+			for (Adapter adapter: target.eAdapters()) {
+				if (adapter instanceof ElementAdapter) {
+					return (ElementAdapter)adapter;
+				}
+			}
+			return null;
+		}
 	}
 	
+	/**
+	 * Create an adapter for the given element and add it to the element. Creation is synchronized on
+	 * the element, so that, if adapters are requested concurrently (e.g., for a library element being
+	 * resolved while linking several resources in parallel), only one is added.
+	 */
 	protected static ElementAdapter createAdapter(Element element) {
 		ElementAdapter adapter = null;
 		if (element != null) {
-			adapter = SWITCH.doSwitch(element);
-			if (adapter != null) {
-				element.eAdapters().add(adapter);
+			synchronized (element) {
+				adapter = basicGetAdapter(element);
+				if (adapter == null) {
+					adapter = SWITCH.doSwitch(element);
+					if (adapter != null) {
+						element.eAdapters().add(adapter);
+					}
+				}
 			}
 		}
 		return adapter;
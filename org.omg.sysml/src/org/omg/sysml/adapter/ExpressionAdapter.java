@@ -106,7 +106,7 @@ public class ExpressionAdapter extends StepAdapter {
 		Expression target = getTarget();
 		Type owningType = target.getOwningType();
 		return ExpressionUtil.isTransitionGuard(target) && type == owningType?
-				Collections.singletonList(getLibraryType(ImplicitGeneralizationMap.getDefaultSupertypeFor(type.getClass(), "base"))):
+				Collections.singletonList(getLibraryType(ImplicitGeneralizationMap.getDefaultSupertypeFor(type.eClass(), "base"))):
 				super.getGeneralTypes(type, skip);
 	}
 	
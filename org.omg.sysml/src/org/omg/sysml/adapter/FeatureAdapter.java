@@ -27,13 +27,16 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EClass;
+import org.omg.sysml.expressions.util.EvaluationUtil;
 import org.omg.sysml.lang.sysml.Association;
 import org.omg.sysml.lang.sysml.BindingConnector;
 import org.omg.sysml.lang.sysml.Connector;
@@ -45,7 +48,10 @@ import org.omg.sysml.lang.sysml.FeatureTyping;
 import org.omg.sysml.lang.sysml.FeatureValue;
 import org.omg.sysml.lang.sysml.Function;
 import org.omg.sysml.lang.sysml.InvocationExpression;
+import org.omg.sysml.lang.sysml.MetadataAccessExpression;
+import org.omg.sysml.lang.sysml.MetadataFeature;
 import org.omg.sysml.lang.sysml.Namespace;
+import org.omg.sysml.lang.sysml.OperatorExpression;
 import org.omg.sysml.lang.sysml.Redefinition;
 import org.omg.sysml.lang.sysml.ReferenceSubsetting;
 import org.omg.sysml.lang.sysml.Structure;
@@ -57,11 +63,12 @@ import org.omg.sysml.util.ConnectorUtil;
 import org.omg.sysml.util.ElementUtil;
 import org.omg.sysml.util.ExpressionUtil;
 import org.omg.sysml.util.FeatureUtil;
+import org.omg.sysml.util.NamespaceUtil;
 import org.omg.sysml.util.TypeUtil;
 
 public class FeatureAdapter extends TypeAdapter {
 	
-	EList<Type> types = null;
+	volatile EList<Type> types = null;
 	
 	public FeatureAdapter(Feature element) {
 		super(element);
@@ -89,6 +96,81 @@ public class FeatureAdapter extends TypeAdapter {
 		types = null;
 	}
 	
+	// Metadata Base Types
+	
+	private volatile Map<Type, DependencyTrackedCache<List<Type>>> metadataBaseTypes = null;
+	
+	/**
+	 * Get the base types given by the values of the baseType features of the target, which must be a
+	 * MetadataFeature, for the given annotated Type (see {@link TypeAdapter#getBaseTypes()}). The base types
+	 * are cached for each annotated Type, and they are invalidated when the target, the baseType features, 
+	 * their value expressions or the annotated Type are changed.
+	 * 
+	 * @param 	annotatedType	the Type annotated by the target
+	 * @return	the (unmodifiable) list of base types
+	 */
+	public List<Type> getMetadataBaseTypes(Type annotatedType) {
+		Map<Type, DependencyTrackedCache<List<Type>>> caches = metadataBaseTypes;
+		if (caches == null) {
+			synchronized (this) {
+				caches = metadataBaseTypes;
+				if (caches == null) {
+					metadataBaseTypes = caches = new ConcurrentHashMap<>();
+				}
+			}
+		}
+		return caches.computeIfAbsent(annotatedType, type->new DependencyTrackedCache<>()).
+				get(()->computeMetadataBaseTypes(annotatedType));
+	}
+	
+	protected List<Type> computeMetadataBaseTypes(Type annotatedType) {
+		MetadataFeature metadataFeature = (MetadataFeature)getTarget();
+		NamespaceUtil.recordDependencyOn(metadataFeature);
+		NamespaceUtil.recordDependencyOn(annotatedType);
+		Feature baseTypeFeature = getBaseTypeFeature(metadataFeature);
+		List<Type> baseTypes = new ArrayList<>();
+		for (Feature feature: metadataFeature.getFeature()) {
+			if (TypeUtil.conforms(feature, baseTypeFeature)) {
+				NamespaceUtil.recordDependencyOn(feature);
+				Expression expression = FeatureUtil.getValueExpressionFor(feature);
+				if (expression != null) {
+					NamespaceUtil.recordDependencyOn(expression);
+					Element baseType = evaluateBaseType(expression, annotatedType);
+					if (baseType instanceof Type) {
+						baseTypes.add((Type)baseType);
+					}
+				}
+			}
+		}
+		return Collections.unmodifiableList(baseTypes);
+	}
+	
+	/**
+	 * Evaluate a baseType value expression for the given annotated Type. The common case of a reference to
+	 * a feature cast to a metaclass (e.g., "causes meta SysML::Usage"), where the referenced feature has no
+	 * metadata of its own, is handled directly, with the same result as evaluating the expression.
+	 */
+	protected static Element evaluateBaseType(Expression expression, Type annotatedType) {
+		if (expression instanceof OperatorExpression && 
+				"meta".equals(((OperatorExpression)expression).getOperator())) {
+			EList<Expression> arguments = ((OperatorExpression)expression).getArgument();
+			Type metaclass = EvaluationUtil.getTypeArgument((OperatorExpression)expression);
+			if (!arguments.isEmpty() && arguments.get(0) instanceof MetadataAccessExpression && metaclass != null) {
+				Element referencedElement = ((MetadataAccessExpression)arguments.get(0)).getReferencedElement();
+				if (referencedElement instanceof Namespace) {
+					NamespaceUtil.recordDependencyOn((Namespace)referencedElement);
+				}
+				if (referencedElement != null && ElementUtil.getAllMetadataFeaturesOf(referencedElement).isEmpty()) {
+					MetadataFeature metaclassFeature = ElementUtil.getMetaclassFeatureFor(referencedElement);
+					return metaclassFeature != null && EvaluationUtil.isType(expression, metaclassFeature, metaclass)? 
+							EvaluationUtil.getMetaclassReferenceOf(metaclassFeature): null;
+				}
+			}
+		}
+		EList<Element> results = expression.evaluate(annotatedType);
+		return results == null || results.isEmpty()? null: EvaluationUtil.getMetaclassReferenceOf(results.get(0));
+	}
+	
 	// Implicit Elements
 	
 	protected Set<Type> implicitFeaturingTypes = new LinkedHashSet<>();
@@ -286,6 +368,7 @@ public class FeatureAdapter extends TypeAdapter {
 	}
 	
 	public void addAllRedefinedFeaturesTo(Set<Feature> redefinedFeatures) {
+		recordDependency();
 		redefinedFeatures.add(getTarget());
 		getRedefinedFeaturesWithComputed(null).stream().forEach(redefinedFeature->{
 			if (redefinedFeature != null && !redefinedFeatures.contains(redefinedFeature)) {
@@ -505,10 +588,24 @@ public class FeatureAdapter extends TypeAdapter {
 		}
 	}
 	
+	@Override
+	public void restoreImplicitGeneralTypes(Map<EClass, List<Type>> generalTypes) {
+		super.restoreImplicitGeneralTypes(generalTypes);
+		isComputeRedefinitions = false;
+	}
+	
+	@Override
+	public void resetImplicitGeneralTypes() {
+		super.resetImplicitGeneralTypes();
+		forceComputeRedefinitions();
+	}
+	
 	@Override
 	public void doTransform() {
 		computeValueConnector();
-		forceComputeRedefinitions();
+		if (!isImplicitGeneralTypesRestored) {
+			forceComputeRedefinitions();
+		}
 		super.doTransform();
 	}
 
@@ -68,7 +68,7 @@ public class FeatureChainExpressionAdapter extends OperatorExpressionAdapter {
 			}
 			TypeUtil.addImplicitGeneralTypeTo(sourceTarget,
 					SysMLPackage.eINSTANCE.getRedefinition(), 
-					getLibraryType(ImplicitGeneralizationMap.getDefaultSupertypeFor(target.getClass(), "target")));
+					getLibraryType(ImplicitGeneralizationMap.getDefaultSupertypeFor(target.eClass(), "target")));
 			TypeUtil.addImplicitGeneralTypeTo(sourceTarget,
 					SysMLPackage.eINSTANCE.getRedefinition(), target.getTargetFeature());
 			TypeUtil.setIsAddImplicitGeneralTypesFor(sourceTarget, false);
@@ -87,7 +87,7 @@ public class ItemFlowEndAdapter extends FeatureAdapter {
 					TypeUtil.addImplicitGeneralTypeTo(itemFlowFeature, 
 							SysMLPackage.eINSTANCE.getRedefinition(),
 							getLibraryType(ImplicitGeneralizationMap.getDefaultSupertypeFor(
-									target.getClass(), i == 0? "sourceOutput": "targetInput")));
+									target.eClass(), i == 0? "sourceOutput": "targetInput")));
 					TypeUtil.setIsAddImplicitGeneralTypesFor(itemFlowFeature, false);
 				}
 			}
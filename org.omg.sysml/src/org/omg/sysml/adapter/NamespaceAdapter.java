@@ -21,13 +21,30 @@
 
 package org.omg.sysml.adapter;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import org.eclipse.emf.common.util.EList;
+import org.omg.sysml.lang.sysml.Element;
 import org.omg.sysml.lang.sysml.Membership;
 import org.omg.sysml.lang.sysml.Namespace;
+import org.omg.sysml.lang.sysml.OwningMembership;
+import org.omg.sysml.lang.sysml.Relationship;
 
 public class NamespaceAdapter extends ElementAdapter {
 
-	private EList<Membership> importedMembership = null;
+	private final DependencyTrackedCache<EList<Membership>> importedMembership = new DependencyTrackedCache<>();
+	
+	private final AtomicInteger modificationCount = new AtomicInteger();
+	private volatile DependencyTrackedCache.Dependents dependents = null;
+	private volatile Map<Object, Object> resolutionCache = null;
+	private volatile MembershipIndex membershipIndex = null;
 
 	public NamespaceAdapter(Namespace element) {
 		super(element);
@@ -37,17 +54,191 @@ public class NamespaceAdapter extends ElementAdapter {
 		return (Namespace)super.getTarget();
 	}
 	
-	public EList<Membership> getImportedMembership() {
-		return importedMembership;
+	public EList<Membership> getImportedMembership(Supplier<EList<Membership>> supplier) {
+		return importedMembership.get(supplier);
 	}
 	
-	public EList<Membership> setImportedMembership(EList<Membership> importedMembership) {
-		this.importedMembership = importedMembership;
-		return importedMembership;
+	public void clearCaches() {
+		importedMembership.invalidate();
+		resolutionCache = null;
+		markChanged();
 	}
 	
-	public void clearCaches() {
-		importedMembership = null;
+	// Change Tracking
+	
+	/**
+	 * Get the number of times the target Namespace has been marked as changed. Cached values
+	 * computed using the target Namespace should be considered invalid if this count changes.
+	 * 
+	 * @return	the modification count of the target Namespace
+	 */
+	public int getModificationCount() {
+		return modificationCount.get();
+	}
+	
+	/**
+	 * Mark the target Namespace as changed (e.g., due to a change in its owned memberships,
+	 * imports or specializations). This invalidates all the cached values that were computed
+	 * by traversing the target Namespace.
+	 */
+	public void markChanged() {
+		modificationCount.incrementAndGet();
+		membershipIndex = null;
+		DependencyTrackedCache.invalidateDependents(dependents);
+	}
+	
+	/**
+	 * Record that the cached value currently being computed on this thread, if any, depends on the
+	 * target Namespace, so that the cached value is invalidated if the target is marked as changed.
+	 * Adapters are added to the owned relationships of the target, so that changes to them (e.g.,
+	 * to the visibility of a membership or the general type of a specialization) are notified to
+	 * the target.
+	 */
+	public void recordDependency() {
+		DependencyTrackedCache<?> current = DependencyTrackedCache.getCurrent();
+		if (current != null) {
+			DependencyTrackedCache.Dependents set = dependents;
+			if (set == null) {
+				synchronized (this) {
+					set = dependents;
+					if (set == null) {
+						dependents = set = new DependencyTrackedCache.Dependents();
+					}
+				}
+			}
+			if (set.add(current)) {
+				for (Relationship relationship: getTarget().getOwnedRelationship()) {
+					ElementAdapterFactory.getAdapter(relationship);
+				}
+			}
+		}
+	}
+	
+	@Override
+	protected void elementChanged() {
+		markChanged();
+		super.elementChanged();
+	}
+	
+	// Name Resolution Caching
+	
+	/**
+	 * Get a cache of the results of name resolution within the target Namespace. The keys and
+	 * values of the cache are determined by the name resolution implementation, which is also
+	 * responsible for checking their validity. The cache is discarded by clearCaches.
+	 * 
+	 * @return	the resolution cache for the target Namespace
+	 */
+	public Map<Object, Object> getResolutionCache() {
+		Map<Object, Object> cache = resolutionCache;
+		if (cache == null) {
+			synchronized (this) {
+				cache = resolutionCache;
+				if (cache == null) {
+					resolutionCache = cache = new ConcurrentHashMap<>();
+				}
+			}
+		}
+		return cache;
+	}
+	
+	// Membership Index
+	
+	/**
+	 * Get the owned memberships of the target Namespace that may have the given name as their
+	 * member name or member short name, in the order in which they are owned. The memberships are
+	 * found using an index of the owned memberships of the target by name, which is rebuilt the first
+	 * time it is used after the target is marked as changed. An index is immutable once built and
+	 * records the modification count of the target it was built for, so an index built concurrently
+	 * with a change to the target is never used after the change, even if it is published after it.
+	 * <p>
+	 * Member names that can only be determined by resolving other elements (e.g., the implicit names
+	 * of unnamed redefining features) are not indexed, so that building the index never triggers name
+	 * resolution. Memberships with such names are always included in the result, and the caller must
+	 * check their actual names.
+	 * 
+	 * @param 	name		the (unescaped) name to be looked up
+	 * @return	the owned memberships that may have the given name
+	 */
+	public List<Membership> getOwnedMembershipsNamed(String name) {
+		int count = modificationCount.get();
+		MembershipIndex index = membershipIndex;
+		if (index == null || index.modificationCount != count) {
+			index = new MembershipIndex(count, getTarget().getOwnedMembership());
+			membershipIndex = index;
+		}
+		return index.get(name);
+	}
+	
+	private static class MembershipIndex {
+		
+		private static final int[] NO_POSITIONS = new int[0];
+		
+		private final int modificationCount;
+		private final Membership[] memberships;
+		private final Map<String, int[]> namedPositions;
+		private final int[] unnamedPositions;
+		
+		private MembershipIndex(int modificationCount, List<Membership> ownedMemberships) {
+			this.modificationCount = modificationCount;
+			memberships = ownedMemberships.toArray(new Membership[ownedMemberships.size()]);
+			Map<String, List<Integer>> named = new HashMap<>();
+			List<Integer> unnamed = new ArrayList<>();
+			for (int i = 0; i < memberships.length; i++) {
+				Membership membership = memberships[i];
+				// Ensure that changes to indexed names are notified to the Namespace.
+				ElementAdapterFactory.getAdapter(membership);
+				String name;
+				String shortName;
+				if (membership instanceof OwningMembership) {
+					Element member = ((OwningMembership)membership).getOwnedMemberElement();
+					if (member == null) {
+						continue;
+					}
+					ElementAdapterFactory.getAdapter(member);
+					if (isNameComputed(member)) {
+						unnamed.add(i);
+						continue;
+					}
+					name = member.getDeclaredName();
+					shortName = member.getDeclaredShortName();
+				} else {
+					name = membership.getMemberName();
+					shortName = membership.getMemberShortName();
+				}
+				if (name != null) {
+					named.computeIfAbsent(name, n->new ArrayList<>()).add(i);
+				}
+				if (shortName != null && !shortName.equals(name)) {
+					named.computeIfAbsent(shortName, n->new ArrayList<>()).add(i);
+				}
+			}
+			Map<String, int[]> positionsByName = new HashMap<>();
+			named.forEach((name, positions)->positionsByName.put(name, toArray(positions)));
+			namedPositions = positionsByName;
+			unnamedPositions = toArray(unnamed);
+		}
+		
+		private List<Membership> get(String name) {
+			int[] positions = namedPositions.getOrDefault(name, NO_POSITIONS);
+			if (positions.length == 0 && unnamedPositions.length == 0) {
+				return Collections.emptyList();
+			}
+			List<Membership> result = new ArrayList<>(positions.length + unnamedPositions.length);
+			int i = 0;
+			int j = 0;
+			while (i < positions.length || j < unnamedPositions.length) {
+				result.add(memberships[
+					j >= unnamedPositions.length || i < positions.length && positions[i] < unnamedPositions[j]?
+						positions[i++]: unnamedPositions[j++]]);
+			}
+			return result;
+		}
+		
+		private static int[] toArray(List<Integer> list) {
+			return list.stream().mapToInt(Integer::intValue).toArray();
+		}
+		
 	}
 	
 }
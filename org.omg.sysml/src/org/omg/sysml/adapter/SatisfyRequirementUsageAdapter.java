@@ -62,7 +62,7 @@ public class SatisfyRequirementUsageAdapter extends RequirementUsageAdapter {
 			RequirementUsage satisfiedRequirement = target.getSatisfiedRequirement();
 			if (satisfiedRequirement instanceof ViewpointUsage) {
 				addSubsetting(ImplicitGeneralizationMap.getDefaultSupertypeFor(
-						satisfiedRequirement.getClass(), "satisfied"));
+						satisfiedRequirement.eClass(), "satisfied"));
 			}
 		}
 	}
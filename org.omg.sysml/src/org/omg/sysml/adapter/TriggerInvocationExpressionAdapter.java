@@ -48,7 +48,7 @@ public class TriggerInvocationExpressionAdapter extends InvocationExpressionAdap
 		TriggerKind kind = target.getKind();
 		if (kind != null) {
 			addDefaultGeneralType(SysMLPackage.eINSTANCE.getFeatureTyping(), 
-					ImplicitGeneralizationMap.getDefaultSupertypeFor(target.getClass(), kind.toString()));
+					ImplicitGeneralizationMap.getDefaultSupertypeFor(target.eClass(), kind.toString()));
 		}
 		super.computeImplicitGeneralTypes();
 	}
@@ -21,9 +21,11 @@
 
 package org.omg.sysml.adapter;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -31,13 +33,13 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EClass;
 import org.omg.sysml.lang.sysml.MetadataFeature;
-import org.omg.sysml.expressions.util.EvaluationUtil;
 import org.omg.sysml.lang.sysml.BindingConnector;
 import org.omg.sysml.lang.sysml.Element;
 import org.omg.sysml.lang.sysml.Expression;
@@ -54,11 +56,13 @@ import org.omg.sysml.util.ConnectorUtil;
 import org.omg.sysml.util.ElementUtil;
 import org.omg.sysml.util.FeatureUtil;
 import org.omg.sysml.util.ImplicitGeneralizationMap;
+import org.omg.sysml.util.NamespaceUtil;
 import org.omg.sysml.util.TypeUtil;
 
 public class TypeAdapter extends NamespaceAdapter {
 
-	private EList<Membership> inheritedMembership = null;
+	private final DependencyTrackedCache<EList<Membership>> inheritedMembership = new DependencyTrackedCache<>();
+	private final DependencyTrackedCache<Set<Type>> allSupertypes = new DependencyTrackedCache<>();
 	
 	public TypeAdapter(Type element) {
 		super(element);
@@ -70,18 +74,54 @@ public class TypeAdapter extends NamespaceAdapter {
 	
 	// Caching
 	
-	public EList<Membership> getInheritedMembership() {
-		return inheritedMembership;
-	}
-	
-	public EList<Membership> setInheritedMembership(EList<Membership> inheritedMembership) {
-		this.inheritedMembership = inheritedMembership;
-		return inheritedMembership;
+	public EList<Membership> getInheritedMembership(Supplier<EList<Membership>> supplier) {
+		return inheritedMembership.get(supplier);
 	}
 		
 	public void clearCaches() {
+		inheritedMembership.invalidate();
+		allSupertypes.invalidate();
 		super.clearCaches();
-		inheritedMembership = null;
+	}
+	
+	// Supertype Closure
+	
+	/**
+	 * Get the set of all the types that the target type conforms to, including the target itself.
+	 * This is the transitive closure of the general types of the target (see
+	 * {@link TypeUtil#getGeneralTypesOf(Type)}), except that the only general type of a conjugated
+	 * type is its original type. Cyclic specializations are allowed. The set is cached, and it is
+	 * invalidated when any of the types in it is changed.
+	 * 
+	 * @return	the (unmodifiable) set of all supertypes of the target
+	 */
+	public Set<Type> getAllSupertypes() {
+		return allSupertypes.get(this::computeAllSupertypes);
+	}
+	
+	protected Set<Type> computeAllSupertypes() {
+		Set<Type> supertypes = new HashSet<>();
+		Deque<Type> stack = new ArrayDeque<>();
+		stack.push(getTarget());
+		while (!stack.isEmpty()) {
+			Type type = stack.pop();
+			if (supertypes.add(type)) {
+				NamespaceUtil.recordDependencyOn(type);
+				if (type.isConjugated()) {
+					Type originalType = type.getOwnedConjugator().getOriginalType();
+					if (originalType != null) {
+						stack.push(originalType);
+					}
+				} else {
+					for (Type general: TypeUtil.getGeneralTypesOf(type)) {
+						if (general != null) {
+							stack.push(general);
+						}
+					}
+				}
+			}
+		}
+		return Collections.unmodifiableSet(supertypes);
 	}
 	
 	// Implicit Elements
@@ -103,6 +143,7 @@ public class TypeAdapter extends NamespaceAdapter {
 	
 	public void cleanImplicitGeneralTypes() {
 		implicitGeneralTypes.clear();
+		markChanged();
 	}
 	
 	public void cleanImplicitBindingConnectors() {
@@ -177,11 +218,42 @@ public class TypeAdapter extends NamespaceAdapter {
 	public void addImplicitGeneralType(EClass eClass, Type general) {
 		if (isAddImplicitGeneralTypes && general != null && general != getTarget() && !isImplicitSpecializationFor(eClass, general)) {
 			implicitGeneralTypes.computeIfAbsent(eClass, e -> new ArrayList<>()).add(general);
+			markChanged();
 		}
 	}
 	
+	/**
+	 * Restore implicit general types previously computed for an equivalent type (e.g., for the same
+	 * declaration before its resource was reparsed). The restored types are not recomputed or pruned
+	 * when the target is transformed.
+	 * 
+	 * @param 	generalTypes	the implicit general types to be restored, for each kind of specialization
+	 */
+	public void restoreImplicitGeneralTypes(Map<EClass, List<Type>> generalTypes) {
+		implicitGeneralTypes.clear();
+		generalTypes.forEach((eClass, types)->implicitGeneralTypes.put(eClass, new ArrayList<>(types)));
+		isComputeImplicitGeneralTypes = false;
+		isImplicitGeneralTypesRestored = true;
+		markChanged();
+	}
+	
+	/**
+	 * Clear the implicit general types, so that they are computed again when they are next needed.
+	 */
+	public void resetImplicitGeneralTypes() {
+		isComputeImplicitGeneralTypes = true;
+		isImplicitGeneralTypesRestored = false;
+		cleanImplicitGeneralTypes();
+	}
+	
+	public boolean isImplicitGeneralTypesRestored() {
+		return isImplicitGeneralTypesRestored;
+	}
+	
 	public void removeImplicitGeneralType(EClass eClass) {
-		implicitGeneralTypes.remove(eClass);
+		if (implicitGeneralTypes.remove(eClass) != null) {
+			markChanged();
+		}
 	}
 	
 	public void forEachImplicitGeneralType(BiConsumer<EClass, Type> action) {
@@ -201,19 +273,11 @@ public class TypeAdapter extends NamespaceAdapter {
 	}
 	
 	public void removeUnnecessaryImplicitGeneralTypes() {
-		Type target = getTarget();
-		List<Type> generals = target.getOwnedSpecialization().stream().
-				filter(spec->spec.getSpecific() == target && spec.getGeneral() != target).
-				map(Specialization::getGeneral).
-				collect(Collectors.toList());
-		List<Type> implicitGenerals = new ArrayList<>();
-		implicitGeneralTypes.values().forEach(implicitGenerals::addAll);
+		Set<Type> unnecessaryGenerals = getUnnecessaryImplicitGeneralTypes();
 		for (Object eClass: implicitGeneralTypes.keySet().toArray()) {
 			if (eClass != SysMLPackage.eINSTANCE.getRedefinition()) {
 				List<Type> implicitEClassGenerals = implicitGeneralTypes.get(eClass);
-				implicitEClassGenerals.removeIf(gen->
-					generals.stream().anyMatch(type->conforms(type, gen)) ||
-					implicitGenerals.stream().anyMatch(type->type != gen && conforms(type, gen)));
+				implicitEClassGenerals.removeIf(unnecessaryGenerals::contains);
 				if (implicitEClassGenerals.isEmpty()) {
 					implicitGeneralTypes.remove(eClass);
 				}
@@ -222,20 +286,93 @@ public class TypeAdapter extends NamespaceAdapter {
 		
 		// Disallow adding more implicit general types once unnecessary ones have been removed.
 		setIsAddImplicitGeneralTypes(false);
+		markChanged();
 	}
 	
-	protected boolean conforms(Type subtype, Type supertype) {
-		// NOTE: Treat target as already having been visited when checking conformance,
-		// to allow for the possibility of circular specialization. Otherwise, implicit
-		// specializations would get removed from all types in the circle.
+	/**
+	 * Get the implicit general types of the target that are unnecessary, because the target already
+	 * conforms to them through one of its owned (non-implicit) general types or through another of its
+	 * implicit general types. Only implicit general types for kinds of specialization other than
+	 * redefinition are actually removed, but implicit redefined features are taken into account.
+	 * <p>
+	 * The supertype closure of each general type is computed once (and is usually already cached), so
+	 * this takes time linear in the total size of the closures, rather than checking conformance for
+	 * every pair of general types.
+	 * 
+	 * @return	the set of unnecessary implicit general types
+	 */
+	public Set<Type> getUnnecessaryImplicitGeneralTypes() {
+		Type target = getTarget();
+		Set<Type> explicitSupertypes = new HashSet<>();
+		for (Specialization specialization: target.getOwnedSpecialization()) {
+			Type general = specialization.getGeneral();
+			if (specialization.getSpecific() == target && general != null && general != target) {
+				explicitSupertypes.addAll(getSupertypesExcludingTarget(general));
+			}
+		}
+		
+		// Count the number of distinct implicit general types that conform to each type. Since each implicit
+		// general type conforms to itself, it is unnecessary if the count for it is more than one.
+		Set<Type> implicitGenerals = new HashSet<>();
+		implicitGeneralTypes.values().forEach(implicitGenerals::addAll);
+		Map<Type, Integer> implicitCounts = new HashMap<>();
+		for (Type general: implicitGenerals) {
+			for (Type supertype: getSupertypesExcludingTarget(general)) {
+				implicitCounts.merge(supertype, 1, Integer::sum);
+			}
+		}
+		
+		Set<Type> unnecessaryGenerals = new HashSet<>();
+		for (Type general: implicitGenerals) {
+			if (explicitSupertypes.contains(general) || implicitCounts.getOrDefault(general, 0) > 1) {
+				unnecessaryGenerals.add(general);
+			}
+		}
+		return unnecessaryGenerals;
+	}
+	
+	/**
+	 * Get all the supertypes of the given type that can be reached without going through the target.
+	 * NOTE: The target is excluded to allow for the possibility of circular specialization. Otherwise,
+	 * implicit specializations would get removed from all types in the circle. If the target is not in
+	 * the cached supertype closure of the given type, then the closure is used as it is.
+	 */
+	protected Set<Type> getSupertypesExcludingTarget(Type type) {
+		Type target = getTarget();
+		Set<Type> supertypes = TypeUtil.getAllSupertypesOf(type);
+		if (!supertypes.contains(target)) {
+			return supertypes;
+		}
+		supertypes = new HashSet<>();
 		Set<Type> visited = new HashSet<>();
-		visited.add(getTarget());
-		return TypeUtil.conforms(subtype, supertype, visited);
+		visited.add(target);
+		Deque<Type> stack = new ArrayDeque<>();
+		stack.push(type);
+		while (!stack.isEmpty()) {
+			Type supertype = stack.pop();
+			if (visited.add(supertype)) {
+				supertypes.add(supertype);
+				if (supertype.isConjugated()) {
+					Type originalType = supertype.getOwnedConjugator().getOriginalType();
+					if (originalType != null && !visited.contains(originalType)) {
+						supertypes.addAll(TypeUtil.getAllSupertypesOf(originalType));
+					}
+				} else {
+					for (Type general: TypeUtil.getGeneralTypesOf(supertype)) {
+						if (general != null) {
+							stack.push(general);
+						}
+					}
+				}
+			}
+		}
+		return supertypes;
 	}
 	
 	// Implicit Specialization Computation
 	
 	boolean isComputeImplicitGeneralTypes = true;
+	protected boolean isImplicitGeneralTypesRestored = false;
 	
 	public void computeImplicitGeneralTypes() {
 		if (isComputeImplicitGeneralTypes && !getTarget().isConjugated()) {
@@ -252,7 +389,12 @@ public class TypeAdapter extends NamespaceAdapter {
 	}
 	
 	public void addDefaultGeneralType(String kind) {
-		addDefaultGeneralType(getSpecializationEClass(), getDefaultSupertype(kind));
+		addImplicitGeneralType(getSpecializationEClass(), 
+				ImplicitGeneralizationMap.getDefaultSupertypeTypeFor(getTarget(), ImplicitGeneralizationMap.Kind.of(kind)));
+	}
+	
+	public void addDefaultGeneralType(EClass generalizationEClass, String superTypeName) {
+		addImplicitGeneralType(generalizationEClass, getLibraryType(superTypeName));
 	}
 	
 	public void addDefaultGeneralType(EClass generalizationEClass, String... superTypeNames) {
@@ -268,11 +410,17 @@ public class TypeAdapter extends NamespaceAdapter {
 	}
 	
 	protected String getDefaultSupertype(String kind) {
-		return ImplicitGeneralizationMap.getDefaultSupertypeFor(getTarget().getClass(), kind);
+		return ImplicitGeneralizationMap.getDefaultSupertypeFor(getTarget().eClass(), kind);
+	}
+	
+	public Type getLibraryType(String defaultName) {
+		return ImplicitGeneralizationMap.getLibraryType(getTarget(), defaultName);
 	}
 	
 	public Type getLibraryType(String... defaultNames) {
-		return SysMLLibraryUtil.getLibraryType(getTarget(), defaultNames);
+		return defaultNames.length == 1? 
+				getLibraryType(defaultNames[0]):
+				SysMLLibraryUtil.getLibraryType(getTarget(), defaultNames);
 	}
 	
 	// Computed Redefinitions
@@ -297,17 +445,8 @@ public class TypeAdapter extends NamespaceAdapter {
 			isGetBaseTypes = false;
 			Type target = getTarget();
 			for (MetadataFeature metadataFeature : ElementUtil.getAllMetadataFeaturesOf(target)) {
-				metadataFeature.getFeature().stream().
-						filter(f->TypeUtil.conforms(f, getBaseTypeFeature(metadataFeature))).
-						map(FeatureUtil::getValueExpressionFor).
-						filter(expr->expr != null).
-						map(expr->expr.evaluate(target)).
-						filter(results->results != null && !results.isEmpty()).
-						map(results->results.get(0)).
-						map(EvaluationUtil::getMetaclassReferenceOf).
-						filter(Type.class::isInstance).
-						map(Type.class::cast).
-						forEachOrdered(baseTypes::add);
+				FeatureAdapter adapter = (FeatureAdapter)ElementUtil.getElementAdapter(metadataFeature);
+				baseTypes.addAll(adapter.getMetadataBaseTypes(target));
 			}
 			isGetBaseTypes = true;
 		}
@@ -315,8 +454,8 @@ public class TypeAdapter extends NamespaceAdapter {
 	}
 	
 	protected Feature getBaseTypeFeature(Element element) {
-		return (Feature)SysMLLibraryUtil.getLibraryType(element, 
-				ImplicitGeneralizationMap.getDefaultSupertypeFor(element.getClass(), "baseType"));
+		return (Feature)ImplicitGeneralizationMap.getLibraryType(element, 
+				ImplicitGeneralizationMap.getDefaultSupertypeFor(element.eClass(), ImplicitGeneralizationMap.Kind.BASE_TYPE));
 	}
 	
 	// Transformation
@@ -364,8 +503,10 @@ public class TypeAdapter extends NamespaceAdapter {
 	@Override
 	public void doTransform() {
 		super.doTransform();
-		computeImplicitGeneralTypes();
-		removeUnnecessaryImplicitGeneralTypes();
+		if (!isImplicitGeneralTypesRestored) {
+			computeImplicitGeneralTypes();
+			removeUnnecessaryImplicitGeneralTypes();
+		}
 	}
 	
 }
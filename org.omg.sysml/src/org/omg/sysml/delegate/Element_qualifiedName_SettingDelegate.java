@@ -24,8 +24,8 @@ package org.omg.sysml.delegate;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.InternalEObject;
-import org.omg.sysml.lang.sysml.Namespace;
 import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.util.ElementUtil;
 
 public class Element_qualifiedName_SettingDelegate extends BasicDerivedPropertySettingDelegate {
 
@@ -35,18 +35,7 @@ public class Element_qualifiedName_SettingDelegate extends BasicDerivedPropertyS
 
 	@Override
 	protected Object basicGet(InternalEObject owner) {
-		Namespace owningNamespace = ((Element) owner).getOwningNamespace();
-		if (owningNamespace == null) {
-			return null;
-		} else {
-			String name = ((Element) owner).escapedName();
-			if (name == null || owningNamespace.getOwner() == null) {
-				return name;
-			} else {
-				String qualification = owningNamespace.getQualifiedName();
-				return qualification == null? null: qualification + "::" + name;
-			}
-		}
+		return ElementUtil.getQualifiedNameOf((Element) owner);
 	}
 
 }
@@ -60,7 +60,7 @@ public class EvaluationUtil {
 		EList<Element> annotatedElements = metadata.getAnnotatedElement();
 		return (Feature)SysMLLibraryUtil.getLibraryType(
 				annotatedElements.isEmpty()? metadata: annotatedElements.get(0), 
-				ImplicitGeneralizationMap.getDefaultSupertypeFor(metadata.getClass(), "annotatedElement"));
+				ImplicitGeneralizationMap.getDefaultSupertypeFor(metadata.eClass(), "annotatedElement"));
 	}
 	
 	public static Type getPrimitiveType(Element context, EClass eClass) {
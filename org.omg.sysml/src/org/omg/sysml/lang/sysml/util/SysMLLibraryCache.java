@@ -0,0 +1,278 @@
+/*****************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *****************************************************************************/
+
+package org.omg.sysml.lang.sysml.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.omg.sysml.lang.sysml.Element;
+
+/**
+ * A cache of the library elements found by qualified name from the index of a resource set (see
+ * {@link SysMLLibraryUtil#getLibraryElement(Element, String)}), including names for which no element
+ * was found. The cache is an adapter on the resource set, and it is also added to each resource in the
+ * resource set. It is cleared whenever resources are added to or removed from the resource set, or
+ * the contents of one of the resources are changed (e.g., reparsed) or unloaded. Since the index of
+ * a resource set can also change without the resource set itself changing (e.g., when a resource is
+ * added to the index after it has been parsed, or a lazily loaded resource is added to the index),
+ * the cache must also be cleared on such changes (see {@link #indexChanged(ResourceSet)}).
+ */
+public class SysMLLibraryCache extends AdapterImpl {
+
+	/**
+	 * A cached lookup result, which is only valid for the generation of the cache in which it was
+	 * looked up. This prevents a lookup that was started before the cache was cleared from caching
+	 * a stale result (in particular, an element not being found) after the cache was cleared.
+	 */
+	private static class Entry {
+		final long generation;
+		final Element element;
+
+		Entry(long generation, Element element) {
+			this.generation = generation;
+			this.element = element;
+		}
+	}
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	private final AtomicLong generation = new AtomicLong();
+	private final Map<String, Entry> elements = new ConcurrentHashMap<>();
+	private volatile AtomicReferenceArray<Entry> indexedElements = null;
+
+	/**
+	 * Get the library element with the given qualified name, as cached for the resource set of the given
+	 * context element. If there is no valid cached element, then the element is looked up using the library
+	 * provider for the context element and cached. If the context element is not in a resource set, the
+	 * element is looked up without caching.
+	 *
+	 * @param 	context			the context element for the lookup
+	 * @param 	name			the qualified name of the library element
+	 * @return	the library element, or null if there is none
+	 */
+	public static Element getElement(Element context, String name) {
+		ResourceSet resourceSet = getResourceSet(context);
+		return resourceSet == null? lookup(context, name): getCache(resourceSet).get(context, name);
+	}
+
+	/**
+	 * Get the library element with the given qualified name, as cached in a slot with the given index
+	 * for the resource set of the given context element. This avoids hashing the name for frequently used
+	 * names that have been assigned dense indexes (e.g., the default supertypes in ImplicitGeneralizationMap).
+	 *
+	 * @param 	context			the context element for the lookup
+	 * @param 	index			the index of the slot for the name
+	 * @param 	size			the total number of slots (greater than the index)
+	 * @param 	name			the qualified name of the library element
+	 * @return	the library element, or null if there is none
+	 */
+	public static Element getElement(Element context, int index, int size, String name) {
+		ResourceSet resourceSet = getResourceSet(context);
+		return resourceSet == null? lookup(context, name): getCache(resourceSet).get(context, index, size, name);
+	}
+
+	private static ResourceSet getResourceSet(Element context) {
+		Resource resource = context == null? null: context.eResource();
+		return resource == null? null: resource.getResourceSet();
+	}
+
+	private static Element lookup(Element context, String name) {
+		if (context == null) {
+			return null;
+		} else {
+			IModelLibraryProvider provider = SysMLLibraryUtil.getInstance(context.eResource());
+			return provider == null? null: provider.getElement(context, name);
+		}
+	}
+
+	/**
+	 * Clear the cache for the given resource set, if there is one. This must be called whenever the
+	 * index of the resource set is changed.
+	 *
+	 * @param 	resourceSet		the resource set whose index has changed
+	 */
+	public static void indexChanged(ResourceSet resourceSet) {
+		SysMLLibraryCache cache = getExistingCache(resourceSet);
+		if (cache != null) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Get the cache for the given resource set, if one has been created.
+	 *
+	 * @param 	resourceSet		the resource set
+	 * @return	the cache for the resource set, or null if there is none
+	 */
+	public static SysMLLibraryCache getExistingCache(ResourceSet resourceSet) {
+		return (SysMLLibraryCache)EcoreUtil.getExistingAdapter(resourceSet, SysMLLibraryCache.class);
+	}
+
+	private static SysMLLibraryCache getCache(ResourceSet resourceSet) {
+		SysMLLibraryCache cache = getExistingCache(resourceSet);
+		if (cache == null) {
+			synchronized (resourceSet) {
+				cache = getExistingCache(resourceSet);
+				if (cache == null) {
+					cache = new SysMLLibraryCache();
+					resourceSet.eAdapters().add(cache);
+				}
+			}
+		}
+		return cache;
+	}
+
+	private Element get(Element context, String name) {
+		long currentGeneration = generation.get();
+		Entry cached = elements.get(name);
+		if (isValid(cached, currentGeneration)) {
+			hits.incrementAndGet();
+			return cached.element;
+		} else {
+			misses.incrementAndGet();
+			Element element = lookup(context, name);
+			elements.put(name, new Entry(currentGeneration, element));
+			return element;
+		}
+	}
+
+	private Element get(Element context, int index, int size, String name) {
+		long currentGeneration = generation.get();
+		AtomicReferenceArray<Entry> slots = indexedElements;
+		if (slots == null || slots.length() < size) {
+			indexedElements = slots = new AtomicReferenceArray<>(size);
+		}
+		Entry cached = slots.get(index);
+		if (isValid(cached, currentGeneration)) {
+			hits.incrementAndGet();
+			return cached.element;
+		} else {
+			Element element = get(context, name);
+			slots.set(index, new Entry(currentGeneration, element));
+			return element;
+		}
+	}
+
+	/**
+	 * A cached entry is only valid if it was cached in the current generation and its element, if any,
+	 * is still resolved and in a resource (i.e., it has not been removed by reparsing its resource, even
+	 * if no notification of this was received).
+	 */
+	private static boolean isValid(Entry entry, long currentGeneration) {
+		return entry != null && entry.generation == currentGeneration &&
+				(entry.element == null || !entry.element.eIsProxy() && entry.element.eResource() != null);
+	}
+
+	public void clear() {
+		generation.incrementAndGet();
+		elements.clear();
+		indexedElements = null;
+	}
+
+	// Change Tracking
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == SysMLLibraryCache.class;
+	}
+
+	@Override
+	public void setTarget(Notifier newTarget) {
+		if (newTarget instanceof ResourceSet) {
+			super.setTarget(newTarget);
+			for (Resource resource: ((ResourceSet)newTarget).getResources()) {
+				addTo(resource);
+			}
+		}
+	}
+
+	@Override
+	public void unsetTarget(Notifier oldTarget) {
+		if (oldTarget == getTarget()) {
+			super.unsetTarget(oldTarget);
+		}
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		if (notification.isTouch()) {
+			return;
+		}
+		Object notifier = notification.getNotifier();
+		int featureID = notification.getFeatureID(null);
+		if (notifier instanceof ResourceSet && featureID == ResourceSet.RESOURCE_SET__RESOURCES) {
+			clear();
+			switch (notification.getEventType()) {
+			case Notification.ADD:
+				addTo((Resource)notification.getNewValue());
+				break;
+			case Notification.ADD_MANY:
+				for (Object resource: (Iterable<?>)notification.getNewValue()) {
+					addTo((Resource)resource);
+				}
+				break;
+			case Notification.REMOVE:
+				((Resource)notification.getOldValue()).eAdapters().remove(this);
+				break;
+			case Notification.REMOVE_MANY:
+				for (Object resource: (Iterable<?>)notification.getOldValue()) {
+					((Resource)resource).eAdapters().remove(this);
+				}
+				break;
+			}
+		} else if (notifier instanceof Resource &&
+				(featureID == Resource.RESOURCE__CONTENTS || featureID == Resource.RESOURCE__IS_LOADED)) {
+			clear();
+		}
+	}
+
+	private void addTo(Resource resource) {
+		if (!resource.eAdapters().contains(this)) {
+			resource.eAdapters().add(this);
+		}
+	}
+
+	// Statistics
+
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	public void resetCounts() {
+		hits.set(0);
+		misses.set(0);
+	}
+
+}
@@ -54,8 +54,12 @@ class SysMLLibraryUtil {
 		}
 	}
 	
+	/**
+	 * Get the library element with the given qualified name, using the given context element to identify
+	 * the library. Elements found are cached for the resource set of the context element (see SysMLLibraryCache).
+	 */
 	def static Element getLibraryElement(Element context, String name) {		
-		return getInstance(context.eResource)?.getElement(context, name)
+		return SysMLLibraryCache.getElement(context, name)
 	}
 	
 	def static Type getLibraryType(Element context, String... defaultNames) {
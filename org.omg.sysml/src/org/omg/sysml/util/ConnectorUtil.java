@@ -56,7 +56,7 @@ public class ConnectorUtil {
 
 	public static void transformBindingConnector(BindingConnector connector, Type owner) {
 		TypeUtil.addImplicitGeneralTypeTo(connector, SysMLPackage.eINSTANCE.getSubsetting(), 
-				SysMLLibraryUtil.getLibraryType(owner, ImplicitGeneralizationMap.getDefaultSupertypeFor(connector.getClass(), "binary")));
+				SysMLLibraryUtil.getLibraryType(owner, ImplicitGeneralizationMap.getDefaultSupertypeFor(connector.eClass(), "binary")));
 		for (Feature end: connector.getConnectorEnd()) {
 			ElementUtil.transform(end);
 		}
@@ -27,6 +27,7 @@
 package org.omg.sysml.util;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -46,10 +47,13 @@ import org.omg.sysml.lang.sysml.Feature;
 import org.omg.sysml.lang.sysml.LibraryPackage;
 import org.omg.sysml.lang.sysml.Metaclass;
 import org.omg.sysml.lang.sysml.Namespace;
-import org.omg.sysml.lang.sysml.Relationship;
+import org.omg.sysml.lang.sysml.SysMLPackage;
 import org.omg.sysml.lang.sysml.Type;
+import org.omg.sysml.lang.sysml.impl.ElementImpl;
 import org.omg.sysml.lang.sysml.util.SysMLLibraryUtil;
 
+import com.google.common.collect.Iterators;
+
 public class ElementUtil {
 	
 	private ElementUtil() {
@@ -62,12 +66,13 @@ public class ElementUtil {
 	 * into a string in which the escape sequences are replaced with the corresponding 
 	 * represented characters. If the input string starts with a single or double quote
 	 * character, it is assumed to be a lexically valid unrestricted name or string literal,
-	 * respectively. Otherwise, the input string is returned without change.
+	 * respectively. Otherwise, the input string is returned without change. The result is
+	 * taken from the NamePool.
 	 */
 	public static String unescapeString(String literal) {
 		if (literal == null || literal.isEmpty() || 
 				literal.charAt(0) != '"' && literal.charAt(0) != '\'') {
-			return literal;
+			return NamePool.intern(literal);
 		} else {
 			StringBuilder s = new StringBuilder();
 			int i = 1;
@@ -92,7 +97,7 @@ public class ElementUtil {
 			if (n > 1) {
 				s.append(literal.substring(i, n - 1));
 			}
-			return s.toString();
+			return NamePool.intern(s.toString());
 		}
 	}
 	
@@ -116,7 +121,7 @@ public class ElementUtil {
 
 	public static String escapeName(String name) {
 		return (name == null || name.isEmpty() || isIdentifier(name))? name:
-			   "'" + escapeString(name) + "'";	
+			   NamePool.intern("'" + escapeString(name) + "'");	
 	}
 
 	public static boolean isIdentifier(String name) {
@@ -139,13 +144,51 @@ public class ElementUtil {
 				((LibraryPackage)libraryNamespace).isStandard();
 	}
 	
-	// For version 5 name-base UUIDs using SHA-1 digest.
+	// For version 5 name-base UUIDs using SHA-1 digest (may be used concurrently).
 	private static final UUIDDigest uuidDigest = new UUIDDigest(5, "SHA-1");
 
 	public static UUID constructNameUUID(UUID namespaceUUID, String name) {
 		return uuidDigest.hash(namespaceUUID, name);
 	}
 	
+	/**
+	 * Assign name-based elementIds to all the standard library elements in the given resource that do
+	 * not already have an elementId, in a single traversal of the resource. The IDs are the same as
+	 * would be assigned on demand by getElementId. The library Namespaces themselves are given random
+	 * elementIds, if they do not already have them.
+	 * 
+	 * @param 	resource		the library resource
+	 * @return	the number of elements assigned name-based IDs
+	 */
+	public static int assignLibraryElementIdsIn(Resource resource) {
+		int count = 0;
+		for (Iterator<EObject> contents = resource.getAllContents(); contents.hasNext();) {
+			EObject object = contents.next();
+			if (object instanceof ElementImpl && !object.eIsSet(SysMLPackage.Literals.ELEMENT__ELEMENT_ID)) {
+				ElementImpl element = (ElementImpl)object;
+				Namespace libraryNamespace = element.libraryNamespace();
+				if (element != libraryNamespace && libraryNamespace instanceof LibraryPackage && 
+						((LibraryPackage)libraryNamespace).isStandard()) {
+					String qualifiedName = element.getQualifiedName();
+					if (qualifiedName != null && 
+							element.initElementUUID(constructNameUUID(getElementUUIDOf(libraryNamespace), qualifiedName))) {
+						count++;
+					}
+				}
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * Get the elementId of the given Element as a UUID. For an ElementImpl, this does not require
+	 * constructing and parsing the String form of the elementId.
+	 */
+	public static UUID getElementUUIDOf(Element element) {
+		return element instanceof ElementImpl? ((ElementImpl)element).getElementUUID(): 
+			UUID.fromString(element.getElementId());
+	}
+	
 	// Annotation
 	
 	public static List<Element> getAnnotatedElementOf(AnnotatingElement annotatingElement) {
@@ -231,6 +274,15 @@ public class ElementUtil {
 		getElementAdapter(element).clearCaches();
 	}
 	
+	/**
+	 * Get the qualified name of the given Element, as cached by its adapter.
+	 * 
+	 * @see ElementAdapter#getQualifiedName()
+	 */
+	public static String getQualifiedNameOf(Element element) {
+		return getElementAdapter(element).getQualifiedName();
+	}
+	
 	// Metaclass
 	
 	public static Metaclass getMetaclassOf(Element element) {
@@ -258,8 +310,14 @@ public class ElementUtil {
 	// Transformation 
 	
 	public static void transformAll(ResourceSet resourceSet, boolean addImplicitElements) {
-		for (Resource resource: resourceSet.getResources()) {
-			transformAll(resource, addImplicitElements);
+		// Note: Resources may be loaded lazily during transformation, and resources
+		// that have not been loaded yet are transformed when they are loaded.
+		List<Resource> resources = resourceSet.getResources();
+		for (int i = 0; i < resources.size(); i++) {
+			Resource resource = resources.get(i);
+			if (resource.isLoaded()) {
+				transformAll(resource, addImplicitElements);
+			}
 		}
 	}
 
@@ -274,24 +332,33 @@ public class ElementUtil {
 		}
 	}
 	
+	/**
+	 * Walks the owned elements of an Element (via its owned relationships) in the same order as a
+	 * recursive traversal, but without using the call stack, so that deeply nested models can be
+	 * transformed.
+	 */
+	private static final TreeWalker<Element> OWNED_ELEMENT_WALKER = new TreeWalker<Element>(element->
+			Iterators.concat(Iterators.transform(element.getOwnedRelationship().iterator(), 
+					relationship->relationship.getOwnedRelatedElement().iterator())));
+	
 	public static void transformAll(Element root, boolean addImplicitElements) {
-		if (addImplicitElements && root instanceof Type) {
-			root.setIsImpliedIncluded(true);
-			TypeUtil.insertImplicitBindingConnectors((Type) root);
-		}
-		transform(root);
-		for (Relationship relationship: root.getOwnedRelationship()) {
-			// transformAll(relationship, addImplicitElements);
-			for (Element element: relationship.getOwnedRelatedElement()) {
-				transformAll(element, addImplicitElements);
-			}
-		}
-		if (addImplicitElements && root instanceof Type) {
-			TypeUtil.insertImplicitSpecializations((Type)root);
-		}
-		if (addImplicitElements && root instanceof Feature) {
-			FeatureUtil.insertImplicitTypeFeaturings((Feature)root);
-		}
+		OWNED_ELEMENT_WALKER.walk(root, 
+			element->{
+				if (addImplicitElements && element instanceof Type) {
+					element.setIsImpliedIncluded(true);
+					TypeUtil.insertImplicitBindingConnectors((Type)element);
+				}
+				transform(element);
+				return TreeWalker.Action.CONTINUE;
+			},
+			element->{
+				if (addImplicitElements && element instanceof Type) {
+					TypeUtil.insertImplicitSpecializations((Type)element);
+				}
+				if (addImplicitElements && element instanceof Feature) {
+					FeatureUtil.insertImplicitTypeFeaturings((Feature)element);
+				}
+			});
 	}
 	
 	public static void transform(Element element) {
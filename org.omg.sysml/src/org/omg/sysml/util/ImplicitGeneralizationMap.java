@@ -21,24 +21,209 @@
 
 package org.omg.sysml.util;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.SysMLPackage;
+import org.omg.sysml.lang.sysml.Type;
 import org.omg.sysml.lang.sysml.impl.*;
+import org.omg.sysml.lang.sysml.util.SysMLLibraryCache;
+import org.omg.sysml.lang.sysml.util.SysMLLibraryUtil;
 
+/**
+ * The map from metaclasses to the qualified names of the library types that are the default
+ * supertypes of elements of those metaclasses, for each kind of implicit generalization. The
+ * defaults are registered for implementation classes and are inherited along the implementation
+ * class hierarchy. On construction, they are compiled into an immutable table indexed by EClass
+ * classifier ID and Kind, so that looking up a default supertype is just an array access.
+ * <p>
+ * Each distinct default supertype name is also given a dense index, which is used to cache the
+ * resolved library Type per resource set (see {@link SysMLLibraryCache}).
+ */
 public class ImplicitGeneralizationMap {
 	
-	private static ImplicitGeneralizationMap INSTANCE = new ImplicitGeneralizationMap();
+	/**
+	 * The kinds of implicit generalization for which default supertypes can be registered.
+	 */
+	public enum Kind {
+		
+		BASE("base"),
+		BINARY("binary"),
+		OBJECT("object"),
+		BINARY_OBJECT("binaryObject"),
+		ENCLOSED_PERFORMANCE("enclosedPerformance"),
+		DATA_VALUE("dataValue"),
+		OCCURRENCE("occurrence"),
+		SUBOCCURRENCE("suboccurrence"),
+		SUBOBJECT("subobject"),
+		PARTICIPANT("participant"),
+		STARTING_AT("startingAt"),
+		ACCESSED_FEATURE("accessedFeature"),
+		TARGET("target"),
+		NEGATED("negated"),
+		PAYLOAD("payload"),
+		SUBPERFORMANCE("subperformance"),
+		OWNED_PERFORMANCE("ownedPerformance"),
+		SOURCE_OUTPUT("sourceOutput"),
+		TARGET_INPUT("targetInput"),
+		ANNOTATED_ELEMENT("annotatedElement"),
+		BASE_TYPE("baseType"),
+		FEATURE("feature"),
+		CLASSIFIER("classifier"),
+		INCOMING_TRANSFER("incomingTransfer"),
+		FEATURE_WRITE("featureWrite"),
+		SUBACTION("subaction"),
+		OWNED_ACTION("ownedAction"),
+		ENTRY("entry"),
+		DO("do"),
+		EXIT("exit"),
+		TRIGGER("trigger"),
+		GUARD("guard"),
+		EFFECT("effect"),
+		SUB_ANALYSIS_CASE("subAnalysisCase"),
+		SUBCALCULATION("subcalculation"),
+		SUBCASE("subcase"),
+		CONCERN("concern"),
+		CHECKED_CONSTRAINT("checkedConstraint"),
+		ASSUMPTION("assumption"),
+		REQUIREMENT("requirement"),
+		PERFORMED_ACTION("performedAction"),
+		MESSAGE("message"),
+		LOOP_VARIABLE("loopVariable"),
+		IF_THEN_ELSE("ifThenElse"),
+		SUB_USE_CASE("subUseCase"),
+		SUBITEM("subitem"),
+		TIMESLICE("timeslice"),
+		SNAPSHOT("snapshot"),
+		REQUIREMENT_ACTOR("requirementActor"),
+		REQUIREMENT_STAKEHOLDER("requirementStakeholder"),
+		CASE_ACTOR("caseActor"),
+		OWNED_PORT("ownedPort"),
+		SUBPORT("subport"),
+		SUBRENDERING("subrendering"),
+		VIEW_RENDERING("viewRendering"),
+		SUBREQUIREMENT("subrequirement"),
+		VERIFICATION("verification"),
+		SUBSTATE("substate"),
+		EXCLUSIVE_STATE("exclusiveState"),
+		ACTION_TRANSITION("actionTransition"),
+		STATE_TRANSITION("stateTransition"),
+		WHEN("when"),
+		AT("at"),
+		AFTER("after"),
+		SUB_VERIFICATION_CASE("subVerificationCase"),
+		SUBVIEW("subview"),
+		SATISFIED("satisfied");
+		
+		private static final Map<String, Kind> KINDS = new HashMap<>();
+		static {
+			for (Kind kind: values()) {
+				KINDS.put(kind.name, kind);
+			}
+		}
+		
+		private final String name;
+		
+		private Kind(String name) {
+			this.name = name;
+		}
+		
+		public String getName() {
+			return name;
+		}
+		
+		@Override
+		public String toString() {
+			return name;
+		}
+		
+		/**
+		 * Get the Kind with the given name.
+		 * 
+		 * @param 	name		the name of the kind (e.g., "base" or "subobject")
+		 * @return	the Kind with the given name, or null if there is none
+		 */
+		public static Kind of(String name) {
+			return name == null? null: KINDS.get(name);
+		}
+		
+	}
+	
+	private static final ImplicitGeneralizationMap INSTANCE = new ImplicitGeneralizationMap();
 	
-	public static String getDefaultSupertypeFor(Class<?> elementType) {
-		return INSTANCE.get(elementType);
+	public static String getDefaultSupertypeFor(EClass eClass) {
+		return INSTANCE.get(eClass, Kind.BASE);
 	}
 
-	public static String getDefaultSupertypeFor(Class<?> elementType, String kind) {
-		return INSTANCE.get(elementType, kind);
+	public static String getDefaultSupertypeFor(EClass eClass, String kind) {
+		return INSTANCE.get(eClass, Kind.of(kind));
+	}
+	
+	public static String getDefaultSupertypeFor(EClass eClass, Kind kind) {
+		return INSTANCE.get(eClass, kind);
 	}
 	
-	protected Map<String, String> map = new HashMap<String, String>();
+	/**
+	 * Get the library Type that is the default supertype of the given element for the given kind
+	 * of implicit generalization, using the element as the context to find the library.
+	 * 
+	 * @param 	element		the element needing a default supertype
+	 * @param 	kind		the kind of implicit generalization
+	 * @return	the default supertype, or null if there is none or it cannot be found
+	 */
+	public static Type getDefaultSupertypeTypeFor(Element element, Kind kind) {
+		return INSTANCE.getType(element, INSTANCE.getIndex(element.eClass(), kind));
+	}
+	
+	/**
+	 * Get the library Type with the given qualified name, using the given element as the context to
+	 * find the library. If the name is a registered default supertype name, then the resolved Type
+	 * is cached by the index of the name, otherwise it is looked up by name.
+	 * 
+	 * @param 	context		the context element for the lookup
+	 * @param 	name		the qualified name of the library type
+	 * @return	the library Type, or null if there is none
+	 */
+	public static Type getLibraryType(Element context, String name) {
+		if (name == null) {
+			return null;
+		} else {
+			Integer index = INSTANCE.indexes.get(name);
+			return index == null? 
+					SysMLLibraryUtil.getLibraryType(context, name): 
+					INSTANCE.getType(context, index);
+		}
+	}
+	
+	private static final int NONE = -1;
+	
+	/**
+	 * The default supertype registrations by implementation class, used only to construct the table.
+	 */
+	private Map<Class<?>, Map<Kind, String>> registrations = new HashMap<>();
+	
+	/**
+	 * The distinct default supertype names, by index.
+	 */
+	private final List<String> names = new ArrayList<>();
+	
+	/**
+	 * The index of each distinct default supertype name.
+	 */
+	private final Map<String, Integer> indexes = new HashMap<>();
+	
+	/**
+	 * The index of the default supertype name for each kind, by EClass classifier ID.
+	 * (A row is null if the classifier is not an EClass.)
+	 */
+	private int[][] table;
 	
 	protected ImplicitGeneralizationMap() {
 		
@@ -139,7 +324,7 @@ public class ImplicitGeneralizationMap {
 		put(SuccessionImpl.class, "binary", "Occurrences::happensBeforeLinks");
 		
 		put(SuccessionItemFlowImpl.class, "base", "Transfers::flowTransfersBefore");
-		put(SuccessionItemFlowImpl.class, "enclosedperformance", "Performances::Performance::enclosedPerformances");
+		put(SuccessionItemFlowImpl.class, "enclosedPerformance", "Performances::Performance::enclosedPerformances");
 		put(SuccessionItemFlowImpl.class, "subperformance", "Performances::Performance::subperformances");
 		put(SuccessionItemFlowImpl.class, "ownedPerformance", "Objects::Object::ownedPerformances");
 
@@ -333,25 +518,79 @@ public class ImplicitGeneralizationMap {
 		put(WhileLoopActionUsageImpl.class, "base", "Actions::whileLoopActions");
 		put(WhileLoopActionUsageImpl.class, "subaction", "Actions::Action::whileLoops");
 		
+		buildTable();
 	}
 	
-	public String get(Class<?> elementType) {
-		return get(elementType, "base");
+	protected void put(Class<?> elementType, String kind, String defaultSupertype) {
+		Kind k = Kind.of(kind);
+		if (k == null) {
+			throw new IllegalArgumentException("Unknown implicit generalization kind: " + kind);
+		}
+		registrations.computeIfAbsent(elementType, c->new EnumMap<>(Kind.class)).put(k, defaultSupertype);
+		indexes.computeIfAbsent(defaultSupertype, n->{
+			names.add(n);
+			return names.size() - 1;
+		});
 	}
 	
-	public String get(Class<?> elementType, String kind) {
-		do {
-			String defaultSupertype = map.get(elementType.getSimpleName()+ "_" + kind);
-			if (defaultSupertype != null) {
-				return defaultSupertype;
+	/**
+	 * Compile the registrations into the table. For each EClass, the default for each kind is the one
+	 * registered for the nearest class in the superclass chain of its implementation class.
+	 */
+	protected void buildTable() {
+		List<EClassifier> classifiers = SysMLPackage.eINSTANCE.getEClassifiers();
+		String implPackage = SysMLPackage.eINSTANCE.getClass().getPackage().getName();
+		table = new int[classifiers.size()][];
+		for (EClassifier classifier: classifiers) {
+			if (classifier instanceof EClass) {
+				int[] row = new int[Kind.values().length];
+				Arrays.fill(row, NONE);
+				for (Class<?> implClass = getImplementationClass(implPackage, classifier.getName()); 
+						implClass != null; implClass = implClass.getSuperclass()) {
+					Map<Kind, String> defaults = registrations.get(implClass);
+					if (defaults != null) {
+						defaults.forEach((kind, name)->{
+							if (row[kind.ordinal()] == NONE) {
+								row[kind.ordinal()] = indexes.get(name);
+							}
+						});
+					}
+				}
+				table[classifier.getClassifierID()] = row;
 			}
-			elementType = elementType.getSuperclass();
-		} while (elementType != null);
-		return null;
+		}
+		registrations = null;
 	}
 	
-	protected void put(Class<?> elementType, String kind, String defaultSupertype) {
-		map.put(elementType.getSimpleName()+ "_" + kind, defaultSupertype);
+	private static Class<?> getImplementationClass(String implPackage, String name) {
+		try {
+			return Class.forName(implPackage + "." + name + "Impl", false, ImplicitGeneralizationMap.class.getClassLoader());
+		} catch (ClassNotFoundException e) {
+			return null;
+		}
+	}
+	
+	public String get(EClass eClass, Kind kind) {
+		int index = getIndex(eClass, kind);
+		return index == NONE? null: names.get(index);
+	}
+	
+	protected int getIndex(EClass eClass, Kind kind) {
+		if (kind == null || eClass.getEPackage() != SysMLPackage.eINSTANCE) {
+			return NONE;
+		} else {
+			int[] row = table[eClass.getClassifierID()];
+			return row == null? NONE: row[kind.ordinal()];
+		}
+	}
+	
+	protected Type getType(Element context, int index) {
+		if (index == NONE) {
+			return null;
+		} else {
+			Element element = SysMLLibraryCache.getElement(context, index, names.size(), names.get(index));
+			return element instanceof Type? (Type)element: null;
+		}
 	}
 
 }
@@ -0,0 +1,200 @@
+/*****************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *****************************************************************************/
+
+package org.omg.sysml.util;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.Membership;
+import org.omg.sysml.lang.sysml.OperatorExpression;
+import org.omg.sysml.lang.sysml.OwningMembership;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.gson.JsonObject;
+
+/**
+ * A pool of the names used in models, so that equal names (and other short strings, such as operators
+ * and unescaped string literals) share a single String instance. Names are added to the pool as they
+ * are set on elements (e.g., by the parser) and when they are escaped or unescaped.
+ * <p>
+ * The pool is shared by all resource sets, rather than held per resource set, since names are set on
+ * elements while they are being parsed, before they are added to a resource. The pool only holds its
+ * strings weakly, so names that are no longer used by any model are garbage collected.
+ */
+public class NamePool {
+
+	private static final Interner<String> pool = Interners.newWeakInterner();
+
+	private NamePool() {
+	}
+
+	/**
+	 * Get the pooled instance of the given string.
+	 *
+	 * @param 	name			the string to be pooled (may be null)
+	 * @return	a string equal to the given one that is shared by all users of the pool, or null if the
+	 * 			given string is null
+	 */
+	public static String intern(String name) {
+		return name == null? null: pool.intern(name);
+	}
+
+	// Memory Report
+
+	/**
+	 * A report of the name strings held by the elements of one resource: the number of references to
+	 * names, the number of distinct String instances referenced and the number of distinct values, along
+	 * with the estimated bytes retained by the distinct instances and the bytes that would be retained if
+	 * every value had just one instance.
+	 */
+	public static class Report {
+
+		private final String resource;
+		private int references = 0;
+		private long referenceBytes = 0;
+		private final Set<String> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+		private final Set<String> values = new HashSet<>();
+		private long instanceBytes = 0;
+		private long valueBytes = 0;
+
+		private Report(String resource) {
+			this.resource = resource;
+		}
+
+		private void add(String name) {
+			if (name != null) {
+				references++;
+				referenceBytes += sizeOf(name);
+				if (instances.add(name)) {
+					instanceBytes += sizeOf(name);
+				}
+				if (values.add(name)) {
+					valueBytes += sizeOf(name);
+				}
+			}
+		}
+
+		public String getResource() {
+			return resource;
+		}
+
+		public int getReferenceCount() {
+			return references;
+		}
+
+		public int getInstanceCount() {
+			return instances.size();
+		}
+
+		public int getValueCount() {
+			return values.size();
+		}
+
+		public long getInstanceBytes() {
+			return instanceBytes;
+		}
+
+		/**
+		 * Get the estimated number of bytes saved by sharing instances for equal names, relative to
+		 * every reference having its own instance.
+		 */
+		public long getSavedBytes() {
+			return referenceBytes - instanceBytes;
+		}
+
+		/**
+		 * Get the estimated number of bytes that could still be saved by fully deduplicating the names.
+		 */
+		public long getDuplicateBytes() {
+			return instanceBytes - valueBytes;
+		}
+
+		public JsonObject toJsonTree() {
+			JsonObject object = new JsonObject();
+			object.addProperty("resource", resource);
+			object.addProperty("references", references);
+			object.addProperty("instances", getInstanceCount());
+			object.addProperty("values", getValueCount());
+			object.addProperty("instanceBytes", instanceBytes);
+			object.addProperty("savedBytes", getSavedBytes());
+			object.addProperty("duplicateBytes", getDuplicateBytes());
+			return object;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s: %d names, %d instances, %d values, %d bytes (%d saved, %d duplicate)",
+					resource, references, getInstanceCount(), getValueCount(), instanceBytes,
+					getSavedBytes(), getDuplicateBytes());
+		}
+
+	}
+
+	/**
+	 * Report on the name strings held by the elements of the given resource (declared names and short
+	 * names, membership names and operators).
+	 *
+	 * @param 	resource		the resource to be reported on
+	 * @return	the report for the resource
+	 */
+	public static Report reportFor(Resource resource) {
+		URI uri = resource.getURI();
+		Report report = new Report(uri == null? "": uri.isFile()? uri.toFileString(): uri.toString());
+		for (Iterator<EObject> contents = resource.getAllContents(); contents.hasNext();) {
+			EObject object = contents.next();
+			if (object instanceof Element) {
+				Element element = (Element)object;
+				report.add(element.getDeclaredName());
+				report.add(element.getDeclaredShortName());
+				if (element instanceof Membership && !(element instanceof OwningMembership)) {
+					report.add(((Membership)element).getMemberName());
+					report.add(((Membership)element).getMemberShortName());
+				}
+				if (element instanceof OperatorExpression) {
+					report.add(((OperatorExpression)element).getOperator());
+				}
+			}
+		}
+		return report;
+	}
+
+	/**
+	 * Estimate the shallow size of a String with the given value, assuming compact (Latin-1) strings,
+	 * compressed references and 8-byte alignment.
+	 */
+	private static long sizeOf(String s) {
+		return 24 + align(16 + s.length());
+	}
+
+	private static long align(long size) {
+		return (size + 7) / 8 * 8;
+	}
+
+}
@@ -21,11 +21,13 @@
 
 package org.omg.sysml.util;
 
+import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.xtext.EcoreUtil2;
+import org.omg.sysml.adapter.DependencyTrackedCache;
 import org.omg.sysml.adapter.NamespaceAdapter;
 import org.omg.sysml.lang.sysml.AssignmentActionUsage;
 import org.omg.sysml.lang.sysml.Element;
@@ -86,13 +88,48 @@ public class NamespaceUtil {
 				map(type::cast);
 	}
 
+	protected static NamespaceAdapter getNamespaceAdapter(Namespace namespace) {
+		return (NamespaceAdapter)ElementUtil.getElementAdapter(namespace);
+	}
+	
 	public static EList<Membership> cacheImportedMembershipOf(Namespace namespace, Supplier<EList<Membership>> supplier) {	
-		NamespaceAdapter adapter = (NamespaceAdapter)ElementUtil.getElementAdapter(namespace);
-		EList<Membership> membership = adapter.getImportedMembership();
-		return membership == null? adapter.setImportedMembership(supplier.get()): membership;
+		return getNamespaceAdapter(namespace).getImportedMembership(supplier);
+	}
+	
+	/**
+	 * Record that the cached value currently being computed, if any, depends on the given Namespace.
+	 * 
+	 * @see NamespaceAdapter#recordDependency()
+	 */
+	public static void recordDependencyOn(Namespace namespace) {
+		if (DependencyTrackedCache.getCurrent() != null) {
+			getNamespaceAdapter(namespace).recordDependency();
+		}
+	}
+	
+	/**
+	 * Get the owned memberships of the given Namespace that may have the given name, using the
+	 * membership index of the Namespace.
+	 * 
+	 * @see NamespaceAdapter#getOwnedMembershipsNamed(String)
+	 */
+	public static List<Membership> getOwnedMembershipsNamed(Namespace namespace, String name) {
+		return getNamespaceAdapter(namespace).getOwnedMembershipsNamed(name);
 	}
 	
 	public static Membership getNamedMembershipFor(Namespace namespace, String name) {
+		// If the name is a simple name, first check for a matching owned membership, which would be found
+		// first in the scope of the namespace. Alias memberships are left to full name resolution.
+		if (ElementUtil.isIdentifier(name)) {
+			for (Membership membership: getOwnedMembershipsNamed(namespace, name)) {
+				if (name.equals(membership.getMemberName()) || name.equals(membership.getMemberShortName())) {
+					if (membership instanceof OwningMembership && membership.getMemberElement() != null) {
+						return membership;
+					}
+					break;
+				}
+			}
+		}
 		return (Membership)SysMLScopeUtil.getElementFor(namespace, SysMLPackage.eINSTANCE.getNamespace_Membership(), name);
 	}
 	
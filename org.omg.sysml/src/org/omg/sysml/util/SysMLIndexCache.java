@@ -0,0 +1,269 @@
+/*****************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *****************************************************************************/
+
+package org.omg.sysml.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.persistence.SerializableEObjectDescription;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+
+/**
+ * An index cache is a directory of files holding the Xtext resource descriptions computed for
+ * resources read from source files, so that they do not need to be recomputed the next time the
+ * same files are read. Each cache entry is keyed by the path of a source file, and it records a
+ * SHA-256 hash of the content of the file, so that it is only used if the file has not changed
+ * since the entry was written. Each entry also records the implementation key of the implementation
+ * that wrote it (see {@link SysMLLibrarySnapshot#getImplementationKey()}), since the description
+ * computed for the same file may differ between implementations, and it is only used by the same
+ * implementation.
+ * <p>
+ * Only exported objects are cached, with the URIs they have when the description is first computed,
+ * that is, before any elements have been transformed. Reference descriptions and imported names are
+ * not used by SysMLUtil and are not cached.
+ * <p>
+ * An index cache may be used by multiple threads (e.g., when source files are read in parallel).
+ */
+public class SysMLIndexCache {
+
+	private static final int CACHE_MAGIC = 0x53594C49;
+	private static final int CACHE_VERSION = 2;
+	private static final String HASH_ALGORITHM = "SHA-256";
+	private static final String CACHE_FILE_EXTENSION = ".index";
+
+	private final File cacheDirectory;
+
+	private final AtomicInteger hitCount = new AtomicInteger();
+	private final AtomicInteger missCount = new AtomicInteger();
+
+	/**
+	 * Create an index cache stored in the given directory. The directory is created when the first
+	 * entry is written, if it does not already exist.
+	 *
+	 * @param 	cacheDirectory		the directory in which cache entries are stored
+	 */
+	public SysMLIndexCache(File cacheDirectory) {
+		this.cacheDirectory = cacheDirectory;
+	}
+
+	/**
+	 * Get the directory in which cache entries are stored.
+	 *
+	 * @return	the cache directory
+	 */
+	public File getCacheDirectory() {
+		return cacheDirectory;
+	}
+
+	/**
+	 * Get the number of resource descriptions found in the cache.
+	 *
+	 * @return	the number of cache hits
+	 */
+	public int getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Get the number of resource descriptions that were looked up but not found in the cache.
+	 *
+	 * @return	the number of cache misses
+	 */
+	public int getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Get a one-line summary of the cache hit rate.
+	 *
+	 * @return	the cache statistics
+	 */
+	public String getStatistics() {
+		int hits = hitCount.get();
+		int misses = missCount.get();
+		int lookups = hits + misses;
+		return "Index cache " + cacheDirectory.getPath() + ": " + hits + " hits, " + misses + " misses" +
+				(lookups == 0? "": String.format(" (%.1f%% hit rate)", 100.0 * hits / lookups));
+	}
+
+	/**
+	 * Get the source file for the given resource, if it was read from a file.
+	 *
+	 * @return	the source file, or null if the resource does not have an existing source file
+	 */
+	private static File getSourceFile(Resource resource) {
+		URI uri = resource.getURI();
+		if (uri == null || !uri.isFile()) {
+			return null;
+		}
+		File file = new File(uri.toFileString());
+		return file.isFile()? file: null;
+	}
+
+	private File getCacheFile(File sourceFile) throws IOException {
+		String path = sourceFile.getCanonicalPath();
+		StringBuilder name = new StringBuilder();
+		for (byte b: digest(path.getBytes(StandardCharsets.UTF_8))) {
+			name.append(String.format("%02x", b));
+		}
+		return new File(cacheDirectory, name + CACHE_FILE_EXTENSION);
+	}
+
+	private static byte[] digest(byte[] bytes) throws IOException {
+		try {
+			return MessageDigest.getInstance(HASH_ALGORITHM).digest(bytes);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Get the cached resource description for the given resource, if there is one for the current
+	 * content of its source file that was written by the current implementation. Resources that were not read from a source file are never cached.
+	 *
+	 * @param 	resource			the resource whose description is to be looked up
+	 * @return	the cached resource description, or null if there is none
+	 */
+	public IResourceDescription get(Resource resource) {
+		File sourceFile = getSourceFile(resource);
+		if (sourceFile == null) {
+			return null;
+		}
+		IResourceDescription description = null;
+		try {
+			File cacheFile = getCacheFile(sourceFile);
+			if (cacheFile.isFile()) {
+				try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile.toPath())))) {
+					if (in.readInt() == CACHE_MAGIC && in.readInt() == CACHE_VERSION &&
+							in.readUTF().equals(SysMLLibrarySnapshot.getImplementationKey()) &&
+							in.readUTF().equals(sourceFile.getCanonicalPath())) {
+						byte[] hash = new byte[in.readUnsignedByte()];
+						in.readFully(hash);
+						if (Arrays.equals(hash, digest(Files.readAllBytes(sourceFile.toPath())))) {
+							SerializableResourceDescription serializable =
+									(SerializableResourceDescription)new ObjectInputStream(in).readObject();
+							serializable.updateResourceURI(resource.getURI());
+							description = serializable;
+						}
+					}
+				}
+			}
+		} catch (IOException | ClassNotFoundException | RuntimeException e) {
+			// Treat an unreadable cache entry as a miss.
+			description = null;
+		}
+		if (description == null) {
+			missCount.incrementAndGet();
+		} else {
+			hitCount.incrementAndGet();
+		}
+		return description;
+	}
+
+	/**
+	 * Write the given description for the given resource to the cache, keyed by the current content
+	 * of the source file of the resource. This should be called as soon as the description has been
+	 * computed, before the resource is transformed. Errors writing the cache are ignored.
+	 *
+	 * @param 	resource			the resource that was described
+	 * @param 	description			the computed description of the resource
+	 */
+	public void put(Resource resource, IResourceDescription description) {
+		File sourceFile = getSourceFile(resource);
+		if (sourceFile != null && description != null) {
+			try {
+				SerializableResourceDescription serializable = createSerializableDescription(resource.getURI(), description);
+				byte[] hash = digest(Files.readAllBytes(sourceFile.toPath()));
+				File cacheFile = getCacheFile(sourceFile);
+				Files.createDirectories(cacheDirectory.toPath());
+				File tempFile = File.createTempFile(cacheFile.getName(), ".tmp", cacheDirectory);
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile.toPath())))) {
+					out.writeInt(CACHE_MAGIC);
+					out.writeInt(CACHE_VERSION);
+					out.writeUTF(SysMLLibrarySnapshot.getImplementationKey());
+					out.writeUTF(sourceFile.getCanonicalPath());
+					out.writeByte(hash.length);
+					out.write(hash);
+					ObjectOutputStream objectOut = new ObjectOutputStream(out);
+					objectOut.writeObject(serializable);
+					objectOut.flush();
+				}
+				Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} catch (IOException | RuntimeException e) {
+				// The description is simply recomputed next time.
+			}
+		}
+	}
+
+	/**
+	 * Create a serializable copy of the exported objects of the given resource description. The URIs
+	 * of the exported objects are captured at the time this is called.
+	 *
+	 * @param 	uri					the URI of the described resource
+	 * @param 	description			the resource description to be copied (may be null)
+	 * @return	a serializable resource description without reference descriptions or imported names
+	 */
+	public static SerializableResourceDescription createSerializableDescription(URI uri, IResourceDescription description) {
+		List<SerializableEObjectDescription> descriptions = new ArrayList<>();
+		if (description != null) {
+			for (IEObjectDescription exported: description.getExportedObjects()) {
+				SerializableEObjectDescription serializable = new SerializableEObjectDescription();
+				serializable.setEObjectURI(exported.getEObjectURI());
+				serializable.setEClass(exported.getEClass());
+				serializable.setQualifiedName(exported.getQualifiedName());
+				HashMap<String, String> userData = new HashMap<>();
+				for (String key: exported.getUserDataKeys()) {
+					userData.put(key, exported.getUserData(key));
+				}
+				serializable.setUserData(userData);
+				descriptions.add(serializable);
+			}
+		}
+		SerializableResourceDescription serializableDescription = new SerializableResourceDescription();
+		serializableDescription.setURI(uri);
+		serializableDescription.setDescriptions(descriptions);
+		serializableDescription.setReferences(new ArrayList<>());
+		serializableDescription.setImportedNames(new ArrayList<>());
+		return serializableDescription;
+	}
+
+}
@@ -0,0 +1,590 @@
+/*****************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *****************************************************************************/
+
+package org.omg.sysml.util;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.persistence.ResourceStorageLoadable;
+import org.eclipse.xtext.resource.persistence.ResourceStorageWritable;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+import org.eclipse.xtext.resource.persistence.StorageAwareResource;
+import org.omg.sysml.lang.sysml.SysMLPackage;
+
+/**
+ * A library snapshot is a single binary file holding pre-linked library resources, together with
+ * their Xtext index entries, so that a model library can be loaded without re-parsing it. The snapshot
+ * records a SHA-256 hash of the source file of each resource, and it is only used if the library
+ * source files found under the snapshot roots are exactly the ones from which it was written. Since
+ * the stored resources have already been transformed, the snapshot also records a key identifying
+ * the version of the implementation and metamodel that wrote it (see {@link #getImplementationKey()}),
+ * and it is only used by the same version.
+ * <p>
+ * Each resource is stored using Xtext resource storage, together with its node model, exactly as it
+ * was parsed, before any of its proxies are resolved and before its derived state is installed. A
+ * resource read from the snapshot is then linked and transformed just like one parsed from source, so
+ * the snapshot only saves the time taken to parse the library. Derived features are not stored.
+ */
+public class SysMLLibrarySnapshot {
+
+	public static final String SNAPSHOT_FILE_NAME = "library.snapshot";
+
+	private static final int SNAPSHOT_MAGIC = 0x53594C53;
+	private static final int SNAPSHOT_VERSION = 3;
+	private static final String HASH_ALGORITHM = "SHA-256";
+	private static final String RESOURCE_DESCRIPTION_ENTRY = "resource-description";
+	private static final String BUNDLE_SYMBOLIC_NAME = "org.omg.sysml";
+
+	private final File libraryDirectory;
+	private final File snapshotFile;
+	private final Map<String, String> roots = new LinkedHashMap<>();
+
+	/**
+	 * Create a snapshot for the library in the given directory, stored in the default snapshot file
+	 * in that directory.
+	 *
+	 * @param 	libraryDirectory	the library root directory
+	 */
+	public SysMLLibrarySnapshot(String libraryDirectory) {
+		this(new File(libraryDirectory), new File(libraryDirectory, SNAPSHOT_FILE_NAME));
+	}
+
+	/**
+	 * Create a snapshot for the library in the given directory, stored in the given snapshot file.
+	 *
+	 * @param 	libraryDirectory	the library root directory
+	 * @param 	snapshotFile		the file in which the snapshot is stored
+	 */
+	public SysMLLibrarySnapshot(File libraryDirectory, File snapshotFile) {
+		this.libraryDirectory = libraryDirectory;
+		this.snapshotFile = snapshotFile;
+	}
+
+	/**
+	 * Add a directory (relative to the library root directory) from which all files with the given
+	 * extension are included in the snapshot. Roots are read in the order in which they are added.
+	 *
+	 * @param 	directory			the root directory, relative to the library directory
+	 * @param 	extension			the allowed file extension (including the initial dot)
+	 */
+	public void addRoot(String directory, String extension) {
+		roots.put(directory, extension);
+	}
+
+	/**
+	 * Get the file in which the snapshot is stored.
+	 *
+	 * @return	the snapshot file
+	 */
+	public File getSnapshotFile() {
+		return snapshotFile;
+	}
+
+	/**
+	 * Get the library source files under all snapshot roots. Roots are in the order in which they
+	 * were added, and the files under each root are sorted by path, so that the order does not depend
+	 * on the file system.
+	 *
+	 * @return	the library source files
+	 */
+	public List<File> getSourceFiles() {
+		List<File> files = new ArrayList<>();
+		for (Map.Entry<String, String> root: roots.entrySet()) {
+			collectSourceFiles(new File(libraryDirectory, root.getKey()), root.getValue(), files);
+		}
+		return files;
+	}
+
+	private static void collectSourceFiles(File file, String extension, List<File> files) {
+		if (file.isDirectory()) {
+			File[] nestedFiles = file.listFiles();
+			Arrays.sort(nestedFiles, Comparator.comparing(File::getName));
+			for (File nestedFile: nestedFiles) {
+				collectSourceFiles(nestedFile, extension, files);
+			}
+		} else if (file.getPath().endsWith(extension)) {
+			files.add(file);
+		}
+	}
+
+	private String getRelativePath(File file) {
+		return libraryDirectory.toPath().relativize(file.toPath()).toString().replace(File.separatorChar, '/');
+	}
+
+	private static URI getURI(File file) {
+		return URI.createFileURI(file.getPath());
+	}
+
+	/**
+	 * Get a key identifying the implementation that writes and reads snapshots. This combines the
+	 * snapshot format version, the version of the org.omg.sysml bundle (if it can be found in its
+	 * manifest) and a digest of the structure of the SysML metamodel, so that a snapshot written by a
+	 * different parser or metamodel is not reused. If the manifests cannot be read, a value unique to
+	 * the current process is used in place of the bundle version, so that no snapshot written by
+	 * another process is reused.
+	 * 
+	 * @return	the implementation key
+	 */
+	public static String getImplementationKey() {
+		String key = implementationKey;
+		if (key == null) {
+			implementationKey = key = SNAPSHOT_VERSION + ";" + getBundleVersion() + ";" + getMetamodelDigest();
+		}
+		return key;
+	}
+	
+	private static volatile String implementationKey = null;
+	
+	private static String getBundleVersion() {
+		try {
+			Enumeration<URL> manifests = 
+					SysMLLibrarySnapshot.class.getClassLoader().getResources("META-INF/MANIFEST.MF");
+			while (manifests.hasMoreElements()) {
+				try (InputStream in = manifests.nextElement().openStream()) {
+					Attributes attributes = new Manifest(in).getMainAttributes();
+					String symbolicName = attributes.getValue("Bundle-SymbolicName");
+					if (symbolicName != null && symbolicName.startsWith(BUNDLE_SYMBOLIC_NAME) &&
+							(symbolicName.length() == BUNDLE_SYMBOLIC_NAME.length() || 
+							 symbolicName.charAt(BUNDLE_SYMBOLIC_NAME.length()) == ';')) {
+						String version = attributes.getValue("Bundle-Version");
+						return version == null? "": version;
+					}
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			return "unknown@" + PROCESS_START_TIME;
+		}
+		return "";
+	}
+	
+	private static final long PROCESS_START_TIME = System.currentTimeMillis();
+	
+	private static String getMetamodelDigest() {
+		StringBuilder structure = new StringBuilder(SysMLPackage.eNS_URI);
+		for (EClassifier classifier: SysMLPackage.eINSTANCE.getEClassifiers()) {
+			structure.append(';').append(classifier.getName());
+			if (classifier instanceof EClass) {
+				for (EStructuralFeature feature: ((EClass)classifier).getEAllStructuralFeatures()) {
+					structure.append(',').append(feature.getName()).append(':').append(feature.getEType().getName());
+				}
+			}
+		}
+		try {
+			byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(structure.toString().getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder();
+			for (byte b: digest) {
+				hex.append(String.format("%02x", b));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			return Integer.toHexString(structure.toString().hashCode());
+		}
+	}
+	
+	private static byte[] hash(File file) throws IOException {
+		try {
+			return MessageDigest.getInstance(HASH_ALGORITHM).digest(Files.readAllBytes(file.toPath()));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+	}
+
+	// Reading
+
+	/**
+	 * Read the snapshot into the resource set of the given SysMLUtil and add the library resources
+	 * read to its index. Nothing is read if there is no snapshot file, or if the snapshot does not
+	 * match the current library source files, in which case the library needs to be read from source.
+	 * Resources that are already in the resource set are not read again.
+	 *
+	 * @param 	util				the SysMLUtil into which the snapshot is to be read
+	 * @return	whether the library was read from the snapshot
+	 */
+	public boolean read(SysMLUtil util) {
+		return read(util, false);
+	}
+
+	/**
+	 * Read only the index entries of the snapshot into the given SysMLUtil, without loading any of
+	 * the library resources. Each library resource is instead added to the index lazily, so that it
+	 * is only loaded from the snapshot when a proxy for one of its elements is first resolved. As for
+	 * {@link #read(SysMLUtil)}, nothing is read if the snapshot does not match the current library
+	 * source files, and resources already in the resource set are skipped.
+	 *
+	 * @param 	util				the SysMLUtil into which the snapshot index is to be read
+	 * @return	whether the library index was read from the snapshot
+	 */
+	public boolean readIndex(SysMLUtil util) {
+		return read(util, true);
+	}
+
+	private boolean read(SysMLUtil util, boolean isIndexOnly) {
+		if (!snapshotFile.isFile()) {
+			return false;
+		}
+		List<Resource> added = new ArrayList<>();
+		try (FileChannel channel = FileChannel.open(snapshotFile.toPath(), StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			DataInputStream in = new DataInputStream(new ByteBufferInputStream(buffer));
+			List<File> files = getSourceFiles();
+			int[] lengths = readHeader(in, files);
+			if (lengths == null) {
+				return false;
+			}
+
+			util.println("Reading snapshot " + snapshotFile.getPath() + "...");
+			ResourceSet resourceSet = util.getResourceSet();
+			try {
+				for (int i = 0; i < lengths.length; i++) {
+					ByteBuffer entry = buffer.slice();
+					entry.limit(lengths[i]);
+					buffer.position(buffer.position() + lengths[i]);
+	
+					URI uri = getURI(files.get(i));
+					if (resourceSet.getResource(uri, false) == null) {
+						if (isIndexOnly) {
+							IResourceDescription description = readResourceDescription(entry.duplicate(), uri);
+							added.add(util.addLazyResourceToIndex(uri, description,
+									()->new SnapshotStorageLoadable(new ByteBufferInputStream(entry.duplicate()))));
+						} else {
+							StorageAwareResource resource = (StorageAwareResource)resourceSet.createResource(uri);
+							added.add(resource);
+							resource.loadFromStorage(new SnapshotStorageLoadable(new ByteBufferInputStream(entry)));
+							util.addResourceToIndex(resource, resource.getResourceDescription());
+						}
+					}
+				}
+			} catch (IOException | RuntimeException e) {
+				// Roll back the resources read so far, so the library can be read from source instead.
+				for (Resource resource: added) {
+					util.removeResource(resource);
+				}
+				throw e;
+			}
+			return true;
+		} catch (IOException | RuntimeException e) {
+			util.println("Error reading snapshot " + snapshotFile.getPath() + ": " + e);
+			return false;
+		}
+	}
+
+	/**
+	 * Read the snapshot header, checking it against the given library source files.
+	 *
+	 * @return	the lengths of the snapshot entries, or null if the snapshot does not match
+	 */
+	private int[] readHeader(DataInputStream in, List<File> files) throws IOException {
+		if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION || 
+				!getImplementationKey().equals(in.readUTF())) {
+			return null;
+		}
+		int n = in.readInt();
+		if (n != files.size()) {
+			return null;
+		}
+		int[] lengths = new int[n];
+		for (int i = 0; i < n; i++) {
+			File file = files.get(i);
+			String path = in.readUTF();
+			byte[] hash = new byte[in.readUnsignedByte()];
+			in.readFully(hash);
+			lengths[i] = in.readInt();
+			if (!path.equals(getRelativePath(file)) || !Arrays.equals(hash, hash(file))) {
+				return null;
+			}
+		}
+		return lengths;
+	}
+
+	/**
+	 * Read only the resource description from a snapshot entry, skipping the resource contents.
+	 */
+	private static IResourceDescription readResourceDescription(ByteBuffer entry, URI uri) throws IOException {
+		ZipInputStream zipIn = new ZipInputStream(new ByteBufferInputStream(entry));
+		for (ZipEntry zipEntry = zipIn.getNextEntry(); zipEntry != null; zipEntry = zipIn.getNextEntry()) {
+			if (RESOURCE_DESCRIPTION_ENTRY.equals(zipEntry.getName())) {
+				try {
+					SerializableResourceDescription description =
+							(SerializableResourceDescription)new ObjectInputStream(zipIn).readObject();
+					description.updateResourceURI(uri);
+					return description;
+				} catch (ClassNotFoundException e) {
+					throw new IOException(e);
+				}
+			}
+		}
+		throw new IOException("No resource description for " + uri);
+	}
+
+	// Writing
+
+	/**
+	 * Write a snapshot of the library resources in the resource set of the given SysMLUtil, which
+	 * must already have read all the library source files and added them to its index. The index entries
+	 * are taken from the SysMLUtil, but, since the resources in its resource set may already have been
+	 * transformed, each source file is parsed again into a separate resource set to obtain the contents
+	 * and node model to be stored.
+	 *
+	 * @param 	util				the SysMLUtil from which the snapshot is to be written
+	 * @throws 	IOException			if the snapshot file cannot be written
+	 */
+	public void write(SysMLUtil util) throws IOException {
+		ResourceSet resourceSet = util.getResourceSet();
+		List<File> files = getSourceFiles();
+		List<Resource> resources = new ArrayList<>();
+		for (File file: files) {
+			Resource resource = resourceSet.getResource(getURI(file), false);
+			if (!(resource instanceof StorageAwareResource)) {
+				throw new IOException("Library resource not read: " + file.getPath());
+			}
+			resources.add(resource);
+		}
+
+
+		ResourceSet sourceSet = new ResourceSetImpl();
+		sourceSet.setResourceFactoryRegistry(resourceSet.getResourceFactoryRegistry());
+		File tempFile = new File(snapshotFile.getPath() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile.toPath())))) {
+			List<byte[]> entries = new ArrayList<>();
+			for (int i = 0; i < files.size(); i++) {
+				StorageAwareResource source = parse(files.get(i), sourceSet);
+				ByteArrayOutputStream entry = new ByteArrayOutputStream();
+				new SnapshotStorageWritable(entry, util.getResourceDescription(resources.get(i))).
+					writeResource(source);
+				entries.add(entry.toByteArray());
+				source.unload();
+			}
+
+			out.writeInt(SNAPSHOT_MAGIC);
+			out.writeInt(SNAPSHOT_VERSION);
+			out.writeUTF(getImplementationKey());
+			out.writeInt(files.size());
+			for (int i = 0; i < files.size(); i++) {
+				byte[] hash = hash(files.get(i));
+				out.writeUTF(getRelativePath(files.get(i)));
+				out.writeByte(hash.length);
+				out.write(hash);
+				out.writeInt(entries.get(i).length);
+			}
+			for (byte[] entry: entries) {
+				out.write(entry);
+			}
+		}
+		Files.move(tempFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Parse the given source file into a new resource in the given resource set, marked so that its
+	 * derived state is never installed (see {@link #isSnapshotSource(Resource)}).
+	 */
+	private static StorageAwareResource parse(File file, ResourceSet resourceSet) throws IOException {
+		Resource resource = resourceSet.createResource(getURI(file));
+		if (!(resource instanceof StorageAwareResource)) {
+			throw new IOException("Library resource cannot be stored: " + file.getPath());
+		}
+		resource.eAdapters().add(new SnapshotSourceAdapter());
+		resource.load(resourceSet.getLoadOptions());
+		return (StorageAwareResource)resource;
+	}
+
+	/**
+	 * Check whether the given resource has been parsed only to be written to a snapshot, in which case
+	 * its derived state must not be installed, so that it is stored exactly as parsed.
+	 *
+	 * @param 	resource			the resource to be checked
+	 * @return	whether the resource is the source of a snapshot entry
+	 */
+	public static boolean isSnapshotSource(Resource resource) {
+		return EcoreUtil.getExistingAdapter(resource, SnapshotSourceAdapter.class) != null;
+	}
+
+	private static class SnapshotSourceAdapter extends AdapterImpl {
+
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return type == SnapshotSourceAdapter.class;
+		}
+
+	}
+
+	/**
+	 * Resource storage for a snapshot. The node model is stored, so that the (lazy) proxies in the parsed
+	 * contents can be resolved after they are read. Derived features are not stored, references to other
+	 * resources are stored relative to the referencing resource, and the resource description stored is
+	 * the one already in the index, without reference descriptions.
+	 */
+	private static class SnapshotStorageWritable extends ResourceStorageWritable {
+
+		private final IResourceDescription description;
+
+		public SnapshotStorageWritable(OutputStream out, IResourceDescription description) {
+			super(out, true);
+			this.description = description;
+		}
+
+		@Override
+		protected void writeContents(StorageAwareResource resource, OutputStream outputStream) throws IOException {
+			URI baseURI = resource.getURI();
+			BinaryResourceImpl.EObjectOutputStream out =
+					new BinaryResourceImpl.EObjectOutputStream(outputStream, Collections.emptyMap()) {
+
+				@Override
+				public void writeURI(URI uri, String fragment) throws IOException {
+					if (uri != null && uri.isFile() && !uri.isRelative() && !baseURI.isRelative()) {
+						uri = uri.deresolve(baseURI, true, true, false);
+					}
+					super.writeURI(uri, fragment);
+				}
+
+				@Override
+				public void saveEObject(InternalEObject internalEObject, Check check) throws IOException {
+					beforeSaveEObject(internalEObject, this);
+					super.saveEObject(internalEObject, check);
+					handleSaveEObject(internalEObject, this);
+				}
+
+				@Override
+				protected EStructuralFeatureData createEStructuralFeatureData(EStructuralFeature.Internal eStructuralFeature) {
+					EStructuralFeatureData featureData = super.createEStructuralFeatureData(eStructuralFeature);
+					if (eStructuralFeature.isDerived()) {
+						featureData.isTransient = true;
+					}
+					return featureData;
+				}
+
+			};
+			try {
+				out.saveResource(resource);
+			} finally {
+				out.flush();
+			}
+		}
+
+		@Override
+		protected void writeResourceDescription(StorageAwareResource resource, OutputStream outputStream) throws IOException {
+			SerializableResourceDescription serializableDescription =
+					SysMLIndexCache.createSerializableDescription(resource.getURI(), description);
+			ObjectOutputStream objectOut = new ObjectOutputStream(outputStream);
+			objectOut.writeObject(serializableDescription);
+			objectOut.flush();
+		}
+
+	}
+
+	/**
+	 * Resource storage loading for a snapshot. Since the stored contents are as parsed, a resource loaded
+	 * from a snapshot is treated as if it had been parsed, so that it is linked and transformed (once)
+	 * when its derived state is installed.
+	 */
+	private static class SnapshotStorageLoadable extends ResourceStorageLoadable {
+
+		public SnapshotStorageLoadable(InputStream in) {
+			super(in, true);
+		}
+
+		@Override
+		protected void loadIntoResource(StorageAwareResource resource) throws IOException {
+			super.loadIntoResource(resource);
+			resource.setIsLoadedFromStorage(false);
+		}
+
+	}
+
+	/**
+	 * An input stream over (a memory-mapped) byte buffer.
+	 */
+	private static class ByteBufferInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+
+		public ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining()? buffer.get() & 0xFF: -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if (length == 0) {
+				return 0;
+			} else if (!buffer.hasRemaining()) {
+				return -1;
+			} else {
+				length = Math.min(length, buffer.remaining());
+				buffer.get(bytes, offset, length);
+				return length;
+			}
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+
+	}
+
+}
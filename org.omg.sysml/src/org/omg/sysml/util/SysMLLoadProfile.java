@@ -0,0 +1,443 @@
+/*****************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *****************************************************************************/
+
+package org.omg.sysml.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.resource.XtextResource;
+import org.omg.sysml.lang.sysml.Element;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * A load profile records the time taken by each phase of loading each resource, along with the
+ * number of bytes allocated by the thread doing the work and the number of elements in the resource
+ * after the phase. The profile can be written as a JSON report, with one record per resource and
+ * phase, sorted by resource and phase, followed by totals per phase, so that reports from different
+ * runs can be compared directly.
+ * <p>
+ * Phases may be nested, e.g., the derived state of one resource may be computed while linking another
+ * one. The time and allocated bytes recorded for a phase exclude those of any phases nested within it.
+ * Recording may be done concurrently from multiple threads (e.g., when parsing in parallel).
+ */
+public class SysMLLoadProfile {
+
+	/**
+	 * The phases of loading a resource that are profiled.
+	 */
+	public enum Phase {
+		/** Lexing and parsing a source file into a resource. */
+		PARSE,
+		/** Computing the derived state of a parsed resource (including the initial transformation of its elements). */
+		DERIVED_STATE,
+		/** Computing the Xtext index description of a resource. */
+		INDEX,
+		/** Resolving all the cross references in a resource (references resolved lazily count toward the enclosing phase). */
+		LINK,
+		/** Transforming the elements of a resource using ElementUtil.transformAll. */
+		TRANSFORM,
+		/** Validating a resource. */
+		VALIDATE;
+
+		public String getName() {
+			return name().toLowerCase();
+		}
+	}
+
+	/**
+	 * A record of one phase of loading one resource.
+	 */
+	public static class Record {
+
+		private final String resource;
+		private final Phase phase;
+		private final long nanos;
+		private final long allocatedBytes;
+		private final int elementCount;
+
+		public Record(String resource, Phase phase, long nanos, long allocatedBytes, int elementCount) {
+			this.resource = resource;
+			this.phase = phase;
+			this.nanos = nanos;
+			this.allocatedBytes = allocatedBytes;
+			this.elementCount = elementCount;
+		}
+
+		public String getResource() {
+			return resource;
+		}
+
+		public Phase getPhase() {
+			return phase;
+		}
+
+		public long getNanos() {
+			return nanos;
+		}
+
+		/**
+		 * Get the number of bytes allocated by the recording thread during the phase.
+		 *
+		 * @return	the allocated bytes, or -1 if allocation measurement is not supported by the JVM
+		 */
+		public long getAllocatedBytes() {
+			return allocatedBytes;
+		}
+
+		public int getElementCount() {
+			return elementCount;
+		}
+
+	}
+
+	private static final ThreadLocal<Deque<long[]>> nestedPhases = ThreadLocal.withInitial(ArrayDeque::new);
+
+	private final List<Record> records = new ArrayList<>();
+	private final List<NamePool.Report> nameReports = new ArrayList<>();
+	private final java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+	private final Method getThreadAllocatedBytes;
+
+	public SysMLLoadProfile() {
+		this.getThreadAllocatedBytes = getThreadAllocatedBytesMethod(threadBean);
+	}
+
+	/**
+	 * Get the method giving the bytes allocated by a thread from the com.sun.management extension of
+	 * the given ThreadMXBean, enabling allocation measurement, if the JVM supports it. The extension
+	 * interface is found reflectively from the bean itself, since com.sun.management is not available
+	 * on all JVMs and is not imported by this bundle.
+	 *
+	 * @param 	threadBean		the platform ThreadMXBean
+	 * @return	the method to get thread allocated bytes, or null if allocation cannot be measured
+	 */
+	private static Method getThreadAllocatedBytesMethod(Object threadBean) {
+		Class<?> extension = findInterface(threadBean.getClass(), "com.sun.management.ThreadMXBean");
+		if (extension != null) {
+			try {
+				if ((Boolean)extension.getMethod("isThreadAllocatedMemorySupported").invoke(threadBean)) {
+					extension.getMethod("setThreadAllocatedMemoryEnabled", boolean.class).invoke(threadBean, true);
+					return extension.getMethod("getThreadAllocatedBytes", long.class);
+				}
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				// Allocation will not be measured.
+			}
+		}
+		return null;
+	}
+
+	private static Class<?> findInterface(Class<?> type, String name) {
+		for (; type != null; type = type.getSuperclass()) {
+			for (Class<?> implemented: type.getInterfaces()) {
+				Class<?> found = implemented.getName().equals(name)? implemented: findInterface(implemented, name);
+				if (found != null) {
+					return found;
+				}
+			}
+		}
+		return null;
+	}
+
+	private long getAllocatedBytes() {
+		if (getThreadAllocatedBytes != null) {
+			try {
+				return (Long)getThreadAllocatedBytes.invoke(threadBean, Thread.currentThread().getId());
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				// Report the allocation as unknown.
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Run the given action as the given phase of loading the given resource, and record its time,
+	 * the bytes it allocated and the number of elements in the resource when it completes.
+	 *
+	 * @param 	resource		the resource being loaded
+	 * @param 	phase			the phase being run
+	 * @param 	action			the action doing the work of the phase
+	 */
+	public void record(Resource resource, Phase phase, Runnable action) {
+		Deque<long[]> stack = nestedPhases.get();
+		long[] nested = new long[2];
+		long startBytes = getAllocatedBytes();
+		long startNanos = System.nanoTime();
+		stack.push(nested);
+		try {
+			action.run();
+		} finally {
+			stack.pop();
+			long nanos = System.nanoTime() - startNanos;
+			long allocatedBytes = startBytes < 0? -1: getAllocatedBytes() - startBytes;
+			addRecord(new Record(getName(resource), phase, nanos - nested[0],
+					allocatedBytes < 0? -1: allocatedBytes - nested[1], countElements(resource)));
+			long[] enclosing = stack.peek();
+			if (enclosing != null) {
+				enclosing[0] += System.nanoTime() - startNanos;
+				enclosing[1] += startBytes < 0? 0: getAllocatedBytes() - startBytes;
+			}
+		}
+	}
+
+	/**
+	 * Run the given action as the given phase of loading the given resource, recording it in the
+	 * profile set for the resource set of the resource, if there is one.
+	 *
+	 * @param 	resource		the resource being loaded
+	 * @param 	phase			the phase being run
+	 * @param 	action			the action doing the work of the phase
+	 * @see		#setProfile(ResourceSet, SysMLLoadProfile)
+	 */
+	public static void recordFor(Resource resource, Phase phase, Runnable action) {
+		SysMLLoadProfile profile = getProfile(resource.getResourceSet());
+		if (profile == null) {
+			action.run();
+		} else {
+			profile.record(resource, phase, action);
+		}
+	}
+
+	/**
+	 * Get the profile set for the given resource set.
+	 *
+	 * @param 	resourceSet		a resource set (may be null)
+	 * @return	the profile for the resource set, or null if there is none
+	 */
+	public static SysMLLoadProfile getProfile(ResourceSet resourceSet) {
+		if (resourceSet != null) {
+			for (Adapter adapter: resourceSet.eAdapters()) {
+				if (adapter instanceof ProfileAdapter) {
+					return ((ProfileAdapter)adapter).profile;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Set the profile in which phases of loading resources in the given resource set that are not
+	 * run directly by a SysMLUtil (such as the computation of derived state) are to be recorded.
+	 *
+	 * @param 	resourceSet		the resource set
+	 * @param 	profile			the profile for the resource set (or null to stop profiling)
+	 */
+	public static void setProfile(ResourceSet resourceSet, SysMLLoadProfile profile) {
+		resourceSet.eAdapters().removeIf(ProfileAdapter.class::isInstance);
+		if (profile != null) {
+			resourceSet.eAdapters().add(new ProfileAdapter(profile));
+		}
+	}
+
+	private static class ProfileAdapter extends AdapterImpl {
+
+		private final SysMLLoadProfile profile;
+
+		public ProfileAdapter(SysMLLoadProfile profile) {
+			this.profile = profile;
+		}
+
+	}
+
+	/**
+	 * Add the given record to the profile.
+	 *
+	 * @param 	record			the record to be added
+	 */
+	public synchronized void addRecord(Record record) {
+		records.add(record);
+	}
+
+	/**
+	 * Get the records in this profile, sorted by resource and phase.
+	 *
+	 * @return	a sorted copy of the records
+	 */
+	public synchronized List<Record> getRecords() {
+		List<Record> sortedRecords = new ArrayList<>(records);
+		sortedRecords.sort(Comparator.comparing(Record::getResource).thenComparing(Record::getPhase));
+		return sortedRecords;
+	}
+
+	/**
+	 * Add a report on the name strings held by each of the given loaded resources (see
+	 * {@link NamePool#reportFor(Resource)}), replacing any earlier report for the same resource.
+	 *
+	 * @param 	resources		the resources to be reported on
+	 */
+	public void reportNames(Iterable<? extends Resource> resources) {
+		List<NamePool.Report> reports = new ArrayList<>();
+		for (Resource resource: resources) {
+			if (resource.isLoaded()) {
+				reports.add(NamePool.reportFor(resource));
+			}
+		}
+		synchronized (this) {
+			for (NamePool.Report report: reports) {
+				nameReports.removeIf(r->r.getResource().equals(report.getResource()));
+				nameReports.add(report);
+			}
+		}
+	}
+
+	/**
+	 * Get the name reports in this profile, sorted by resource.
+	 *
+	 * @return	a sorted copy of the name reports
+	 */
+	public synchronized List<NamePool.Report> getNameReports() {
+		List<NamePool.Report> sortedReports = new ArrayList<>(nameReports);
+		sortedReports.sort(Comparator.comparing(NamePool.Report::getResource));
+		return sortedReports;
+	}
+
+	/**
+	 * Clear all records and name reports from this profile.
+	 */
+	public synchronized void clear() {
+		records.clear();
+		nameReports.clear();
+	}
+
+	private static String getName(Resource resource) {
+		URI uri = resource.getURI();
+		return uri == null? "": uri.isFile()? uri.toFileString(): uri.toString();
+	}
+
+	/**
+	 * Count the elements in the given resource. For an Xtext resource, only the elements reachable
+	 * from the root of the parse result are counted, so that counting does not trigger the computation
+	 * of the derived state of the resource.
+	 */
+	private static int countElements(Resource resource) {
+		if (resource instanceof XtextResource) {
+			IParseResult parseResult = ((XtextResource)resource).getParseResult();
+			EObject root = parseResult == null? null: parseResult.getRootASTElement();
+			return root == null? 0: (root instanceof Element? 1: 0) + count(root.eAllContents());
+		} else {
+			return count(resource.getAllContents());
+		}
+	}
+
+	private static int count(Iterator<EObject> contents) {
+		int count = 0;
+		while (contents.hasNext()) {
+			if (contents.next() instanceof Element) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Get this profile as a JSON object, with a "records" array and a "totals" object giving the
+	 * totals for each phase, followed by a "names" array of the name reports, if there are any.
+	 *
+	 * @return	the JSON report
+	 */
+	public JsonObject toJsonTree() {
+		List<Record> records = getRecords();
+		JsonArray recordArray = new JsonArray();
+		long[] totalNanos = new long[Phase.values().length];
+		long[] totalBytes = new long[Phase.values().length];
+		int[] totalCounts = new int[Phase.values().length];
+		for (Record record: records) {
+			JsonObject object = new JsonObject();
+			object.addProperty("resource", record.getResource());
+			object.addProperty("phase", record.getPhase().getName());
+			object.addProperty("nanos", record.getNanos());
+			object.addProperty("allocatedBytes", record.getAllocatedBytes());
+			object.addProperty("elements", record.getElementCount());
+			recordArray.add(object);
+			int i = record.getPhase().ordinal();
+			totalNanos[i] += record.getNanos();
+			totalBytes[i] += Math.max(record.getAllocatedBytes(), 0);
+			totalCounts[i]++;
+		}
+		JsonObject totals = new JsonObject();
+		for (Phase phase: Phase.values()) {
+			int i = phase.ordinal();
+			if (totalCounts[i] > 0) {
+				JsonObject total = new JsonObject();
+				total.addProperty("resources", totalCounts[i]);
+				total.addProperty("nanos", totalNanos[i]);
+				total.addProperty("allocatedBytes", totalBytes[i]);
+				totals.add(phase.getName(), total);
+			}
+		}
+		JsonObject report = new JsonObject();
+		report.add("records", recordArray);
+		report.add("totals", totals);
+		List<NamePool.Report> nameReports = getNameReports();
+		if (!nameReports.isEmpty()) {
+			JsonArray nameArray = new JsonArray();
+			for (NamePool.Report nameReport: nameReports) {
+				nameArray.add(nameReport.toJsonTree());
+			}
+			report.add("names", nameArray);
+		}
+		return report;
+	}
+
+	/**
+	 * Get this profile as a JSON report string.
+	 *
+	 * @return	the JSON report
+	 */
+	public String toJson() {
+		Gson gson = new GsonBuilder().setPrettyPrinting().create();
+		return gson.toJson(toJsonTree());
+	}
+
+	/**
+	 * Write this profile as a JSON report to the given file.
+	 *
+	 * @param 	file			the file to be written
+	 * @throws 	IOException		if the file cannot be written
+	 */
+	public void write(File file) throws IOException {
+		try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			writer.write(toJson());
+		}
+	}
+
+}
@@ -0,0 +1,388 @@
+/*****************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *****************************************************************************/
+
+package org.omg.sysml.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.EObjectDescription;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.containers.FlatResourceSetBasedAllContainersState;
+import org.eclipse.xtext.resource.containers.IAllContainersState;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.Feature;
+import org.omg.sysml.lang.sysml.Namespace;
+import org.omg.sysml.lang.sysml.Type;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Sets;
+
+/**
+ * A shared library is a frozen, read-only copy of the model library resources and their Xtext index,
+ * which can be used by any number of SysMLUtil instances at the same time, including from different
+ * threads (see {@link SysMLUtil#setSharedLibrary(SysMLSharedLibrary)}). Each such instance keeps its own
+ * resources in its own resource set, as an overlay on the shared library, and names that are not found
+ * in its own index are resolved in the shared library index.
+ * <p>
+ * When a shared library is created, all proxies in the library resources are resolved, all library
+ * elements are transformed, and the elementIds and cached derived properties of all library elements
+ * are computed.
+ * After that, the library resources are only read, and the shared library index is immutable. The
+ * library resources must not be modified after the shared library has been created.
+ */
+public class SysMLSharedLibrary {
+
+	private final ResourceSet resourceSet;
+	private final Map<URI, Resource> resourceMap;
+	private final ResourceDescriptionsData index;
+
+	/**
+	 * Create a shared library from the resources read by the given SysMLUtil. The SysMLUtil should not
+	 * be used any further after this.
+	 *
+	 * @param 	util		the SysMLUtil holding the library resources
+	 * @return	a shared library for the library resources
+	 */
+	public static SysMLSharedLibrary create(SysMLUtil util) {
+		util.loadLazyResources();
+		ResourceSet resourceSet = util.getResourceSet();
+		for (Resource resource: new ArrayList<>(resourceSet.getResources())) {
+			EcoreUtil.resolveAll(resource);
+		}
+		util.transformAll(false);
+
+		Map<URI, Resource> resourceMap = new HashMap<>();
+		List<IResourceDescription> descriptions = new ArrayList<>();
+		for (Resource resource: resourceSet.getResources()) {
+			ElementUtil.assignLibraryElementIdsIn(resource);
+			for (Iterator<EObject> contents = resource.getAllContents(); contents.hasNext();) {
+				EObject object = contents.next();
+				if (object instanceof Element) {
+					computeCaches((Element)object);
+				}
+			}
+			URI uri = resource.getURI();
+			resourceMap.put(uri, resource);
+			IResourceDescription description = util.getResourceDescription(resource);
+			if (description != null) {
+				descriptions.add(new FrozenResourceDescription(uri, description, resourceSet));
+			}
+		}
+		return new SysMLSharedLibrary(resourceSet, resourceMap, new ResourceDescriptionsData(descriptions));
+	}
+
+	/**
+	 * Compute the cached derived properties of the given element, so that they are not computed lazily
+	 * by concurrent readers.
+	 *
+	 * @param 	element		the element whose caches are to be computed
+	 */
+	protected static void computeCaches(Element element) {
+		element.getElementId();
+		ElementUtil.getElementAdapter(element);
+		if (element instanceof Namespace) {
+			((Namespace)element).getImportedMembership();
+			if (element instanceof Type) {
+				((Type)element).getInheritedMembership();
+				if (element instanceof Feature) {
+					((Feature)element).getType();
+				}
+			}
+		}
+	}
+
+	protected SysMLSharedLibrary(ResourceSet resourceSet, Map<URI, Resource> resourceMap, ResourceDescriptionsData index) {
+		this.resourceSet = resourceSet;
+		this.resourceMap = Collections.unmodifiableMap(resourceMap);
+		this.index = index;
+	}
+
+	/**
+	 * Get the resource set holding the library resources.
+	 *
+	 * @return	the library resource set
+	 */
+	public ResourceSet getResourceSet() {
+		return this.resourceSet;
+	}
+
+	/**
+	 * Get the library resources.
+	 *
+	 * @return	an unmodifiable collection of the library resources
+	 */
+	public Iterable<Resource> getResources() {
+		return this.resourceMap.values();
+	}
+
+	/**
+	 * Get the library resource with the given URI.
+	 *
+	 * @param 	uri			the URI of a resource
+	 * @return	the library resource with the given URI, or null if there is none
+	 */
+	public Resource getResource(URI uri) {
+		return this.resourceMap.get(uri);
+	}
+
+	/**
+	 * Get the immutable Xtext index of the library resources.
+	 *
+	 * @return	the library index
+	 */
+	public ResourceDescriptionsData getIndex() {
+		return this.index;
+	}
+
+	/**
+	 * Install an overlay of the given local index on the shared library index in the given resource set,
+	 * so that the library resources are visible in the global scope of resources in that resource set.
+	 * Descriptions are only added to or removed from the local index. Names found in the local index
+	 * shadow the same names in the library index.
+	 *
+	 * @param 	resourceSet	the resource set holding the non-library resources
+	 * @param 	localIndex	the index of the non-library resources
+	 */
+	public void installOverlay(ResourceSet resourceSet, ResourceDescriptionsData localIndex) {
+		resourceSet.eAdapters().removeIf(adapter -> 
+			adapter instanceof ResourceDescriptionsData.ResourceSetAdapter || adapter instanceof IAllContainersState);
+		ResourceDescriptionsData.ResourceSetAdapter.installResourceDescriptionsData(resourceSet, 
+				new OverlayResourceDescriptionsData(localIndex, this.index));
+		resourceSet.eAdapters().add(new OverlayContainersState(resourceSet, this.resourceMap.keySet()));
+	}
+
+	/**
+	 * An immutable resource description holding the exported objects of a library resource, with the
+	 * library elements already resolved.
+	 */
+	protected static class FrozenResourceDescription implements IResourceDescription {
+
+		private final URI uri;
+		private final List<IEObjectDescription> exportedObjects;
+		private final Map<QualifiedName, List<IEObjectDescription>> lookupMap = new HashMap<>();
+
+		public FrozenResourceDescription(URI uri, IResourceDescription description, ResourceSet resourceSet) {
+			this.uri = uri;
+			List<IEObjectDescription> exportedObjects = new ArrayList<>();
+			for (IEObjectDescription exported: description.getExportedObjects()) {
+				EObject object = EcoreUtil.resolve(exported.getEObjectOrProxy(), resourceSet);
+				if (object.eIsProxy()) {
+					exportedObjects.add(exported);
+				} else {
+					Map<String, String> userData = new HashMap<>();
+					for (String key: exported.getUserDataKeys()) {
+						userData.put(key, exported.getUserData(key));
+					}
+					exportedObjects.add(EObjectDescription.create(exported.getName(), object, userData));
+				}
+			}
+			this.exportedObjects = Collections.unmodifiableList(exportedObjects);
+			for (IEObjectDescription exported: exportedObjects) {
+				lookupMap.computeIfAbsent(exported.getName().toLowerCase(), name->new ArrayList<>()).add(exported);
+			}
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return exportedObjects.isEmpty();
+		}
+
+		@Override
+		public Iterable<IEObjectDescription> getExportedObjects() {
+			return exportedObjects;
+		}
+
+		@Override
+		public Iterable<IEObjectDescription> getExportedObjects(EClass type, QualifiedName name, boolean ignoreCase) {
+			List<IEObjectDescription> descriptions = lookupMap.get(name.toLowerCase());
+			return descriptions == null? Collections.emptyList(): Iterables.filter(descriptions, description ->
+				(ignoreCase? name.equalsIgnoreCase(description.getName()): name.equals(description.getName())) &&
+				EcoreUtil2.isAssignableFrom(type, description.getEClass()));
+		}
+
+		@Override
+		public Iterable<IEObjectDescription> getExportedObjectsByType(EClass type) {
+			return Iterables.filter(exportedObjects, description ->
+				EcoreUtil2.isAssignableFrom(type, description.getEClass()));
+		}
+
+		@Override
+		public Iterable<IEObjectDescription> getExportedObjectsByObject(EObject object) {
+			return Iterables.filter(exportedObjects, description ->
+				description.getEObjectOrProxy() == object);
+		}
+
+		@Override
+		public Iterable<QualifiedName> getImportedNames() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public Iterable<IReferenceDescription> getReferenceDescriptions() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public URI getURI() {
+			return uri;
+		}
+
+	}
+
+	/**
+	 * A containers state that includes the shared library resources in the single container of all
+	 * the resources in a resource set.
+	 */
+	protected static class OverlayContainersState extends FlatResourceSetBasedAllContainersState {
+
+		private final Set<URI> libraryURIs;
+
+		public OverlayContainersState(ResourceSet resourceSet, Set<URI> libraryURIs) {
+			super(resourceSet);
+			this.libraryURIs = libraryURIs;
+		}
+
+		@Override
+		public Collection<URI> getContainedURIs(String containerHandle) {
+			Collection<URI> uris = super.getContainedURIs(containerHandle);
+			if (getHandle().equals(containerHandle)) {
+				uris = new ArrayList<>(uris);
+				uris.addAll(libraryURIs);
+			}
+			return uris;
+		}
+
+		@Override
+		public boolean containsURI(String containerHandle, URI candidateURI) {
+			return super.containsURI(containerHandle, candidateURI) ||
+					getHandle().equals(containerHandle) && libraryURIs.contains(candidateURI);
+		}
+
+		@Override
+		public boolean isEmpty(String containerHandle) {
+			return super.isEmpty(containerHandle) && 
+					!(getHandle().equals(containerHandle) && !libraryURIs.isEmpty());
+		}
+
+	}
+
+	/**
+	 * An index that overlays a local index on a shared library index.
+	 */
+	protected static class OverlayResourceDescriptionsData extends ResourceDescriptionsData {
+
+		private final ResourceDescriptionsData localIndex;
+		private final ResourceDescriptionsData libraryIndex;
+
+		public OverlayResourceDescriptionsData(ResourceDescriptionsData localIndex, ResourceDescriptionsData libraryIndex) {
+			super(Collections.emptyList());
+			this.localIndex = localIndex;
+			this.libraryIndex = libraryIndex;
+		}
+
+		@Override
+		public ResourceDescriptionsData copy() {
+			return new OverlayResourceDescriptionsData(localIndex.copy(), libraryIndex);
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return localIndex.isEmpty() && libraryIndex.isEmpty();
+		}
+
+		@Override
+		public Iterable<IResourceDescription> getAllResourceDescriptions() {
+			return Iterables.concat(localIndex.getAllResourceDescriptions(), libraryIndex.getAllResourceDescriptions());
+		}
+
+		@Override
+		public IResourceDescription getResourceDescription(URI uri) {
+			IResourceDescription description = localIndex.getResourceDescription(uri);
+			return description != null? description: libraryIndex.getResourceDescription(uri);
+		}
+
+		@Override
+		public Set<URI> getAllURIs() {
+			return Sets.union(localIndex.getAllURIs(), libraryIndex.getAllURIs());
+		}
+
+		@Override
+		public void addDescription(URI uri, IResourceDescription newDescription) {
+			localIndex.addDescription(uri, newDescription);
+		}
+
+		@Override
+		public void removeDescription(URI uri) {
+			localIndex.removeDescription(uri);
+		}
+
+		@Override
+		public void register(IResourceDescription.Delta delta) {
+			localIndex.register(delta);
+		}
+
+		@Override
+		protected Iterable<IResourceDescription> getSelectables() {
+			return getAllResourceDescriptions();
+		}
+
+		@Override
+		public Iterable<IEObjectDescription> getExportedObjects() {
+			return Iterables.concat(localIndex.getExportedObjects(), libraryIndex.getExportedObjects());
+		}
+
+		@Override
+		public Iterable<IEObjectDescription> getExportedObjects(EClass type, QualifiedName qualifiedName, boolean ignoreCase) {
+			Iterable<IEObjectDescription> descriptions = localIndex.getExportedObjects(type, qualifiedName, ignoreCase);
+			return Iterables.isEmpty(descriptions)? libraryIndex.getExportedObjects(type, qualifiedName, ignoreCase): descriptions;
+		}
+
+		@Override
+		public Iterable<IEObjectDescription> getExportedObjectsByType(EClass type) {
+			return Iterables.concat(localIndex.getExportedObjectsByType(type), libraryIndex.getExportedObjectsByType(type));
+		}
+
+		@Override
+		public Iterable<IEObjectDescription> getExportedObjectsByObject(EObject object) {
+			return Iterables.concat(localIndex.getExportedObjectsByObject(object), libraryIndex.getExportedObjectsByObject(object));
+		}
+
+	}
+
+}
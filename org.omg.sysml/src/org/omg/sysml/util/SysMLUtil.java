@@ -26,22 +26,39 @@
 package org.omg.sysml.util;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.Keyword;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceDescription.Manager;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.resource.persistence.ResourceStorageLoadable;
+import org.eclipse.xtext.resource.persistence.StorageAwareResource;
 import org.omg.sysml.lang.sysml.SysMLPackage;
+import org.omg.sysml.lang.sysml.util.SysMLLibraryCache;
 
 import com.google.common.base.Predicates;
 
@@ -62,8 +79,13 @@ public abstract class SysMLUtil {
 	private final Set<Resource> inputResources = new HashSet<Resource>();
 	private final List<String> extensions = new ArrayList<String>();
 	private final ResourceDescriptionsData index;
+	private final Map<Resource, Supplier<ResourceStorageLoadable>> lazyResources = new LinkedHashMap<>();
 	
 	private boolean isVerbose = true;
+	private int parallelism = 1;
+	private SysMLIndexCache indexCache = null;
+	private SysMLSharedLibrary sharedLibrary = null;
+	private SysMLLoadProfile profile = null;
 	
 	protected SysMLUtil() {
 		this(new ResourceDescriptionsData(new ArrayList<>()));
@@ -71,7 +93,20 @@ public abstract class SysMLUtil {
 	
 	protected SysMLUtil(ResourceDescriptionsData resourceDescriptionData) {
 		SysMLPackage.eINSTANCE.getName();
-		this.resourceSet = new ResourceSetImpl();
+		this.resourceSet = new ResourceSetImpl() {
+			@Override
+			public Resource getResource(URI uri, boolean loadOnDemand) {
+				Resource resource = sharedLibrary == null? null: sharedLibrary.getResource(uri);
+				return resource != null? resource: super.getResource(uri, loadOnDemand);
+			}
+			
+			@Override
+			protected void demandLoad(Resource resource) throws IOException {
+				if (!loadLazyResource(resource)) {
+					super.demandLoad(resource);
+				}
+			}
+		};
 		this.resourceSet.getLoadOptions().put(XtextResource.OPTION_ENCODING, "UTF-8");
 		this.index = resourceDescriptionData;
 		ResourceDescriptionsData.ResourceSetAdapter.installResourceDescriptionsData(this.resourceSet, this.index);
@@ -106,16 +141,137 @@ public abstract class SysMLUtil {
         return resourceSet;
     }
     
+	/**
+	 * Get the shared library used by this SysMLUtil, if any.
+	 * 
+	 * @return	the shared library, or null if none is used
+	 */
+	public SysMLSharedLibrary getSharedLibrary() {
+		return this.sharedLibrary;
+	}
+	
+	/**
+	 * Use the given shared library for library resources. Library resources are then not read into
+	 * the managed resource set. Instead, proxies to library elements are resolved to the resources of
+	 * the shared library, and names not found in the Xtext index of the managed resource set are looked
+	 * up in the shared library index. This should be set before any resources are read.
+	 * 
+	 * @param 	sharedLibrary	the shared library to be used
+	 */
+	public void setSharedLibrary(SysMLSharedLibrary sharedLibrary) {
+		this.sharedLibrary = sharedLibrary;
+		if (sharedLibrary != null) {
+			sharedLibrary.installOverlay(this.resourceSet, this.index);
+		}
+	}
+	
 	/**
 	 * Add a resource to the Xtext index.
 	 * 
 	 * @param 	resource		the resource to be added
 	 */
 	public void addResourceToIndex(Resource resource) {
+		this.profile(resource, SysMLLoadProfile.Phase.INDEX, ()->this.computeResourceDescription(resource));
+	}
+	
+	private void computeResourceDescription(Resource resource) {
 		URI uri = resource.getURI();
-		IResourceServiceProvider resourceServiceProvider = IResourceServiceProvider.Registry.INSTANCE.getResourceServiceProvider(uri);
-		Manager manager = resourceServiceProvider.getResourceDescriptionManager();
-		this.index.addDescription(uri, manager.getResourceDescription(resource));
+		IResourceDescription description = this.indexCache == null? null: this.indexCache.get(resource);
+		if (description == null) {
+			IResourceServiceProvider resourceServiceProvider = IResourceServiceProvider.Registry.INSTANCE.getResourceServiceProvider(uri);
+			Manager manager = resourceServiceProvider.getResourceDescriptionManager();
+			description = manager.getResourceDescription(resource);
+			if (this.indexCache != null) {
+				this.indexCache.put(resource, description);
+			}
+		}
+		this.index.addDescription(uri, description);
+		SysMLLibraryCache.indexChanged(this.resourceSet);
+	}
+	
+	/**
+	 * Add a resource to the Xtext index using an already computed resource description.
+	 * 
+	 * @param 	resource		the resource to be added
+	 * @param 	description		the resource description for the resource
+	 */
+	public void addResourceToIndex(Resource resource, IResourceDescription description) {
+		this.index.addDescription(resource.getURI(), description);
+		SysMLLibraryCache.indexChanged(this.resourceSet);
+	}
+	
+	/**
+	 * Create a resource with the given URI in the resource set, but do not load it, and add the given
+	 * description for it to the Xtext index. The resource is then loaded from the given storage on demand
+	 * by the resource set, when a proxy for one of its elements is first resolved.
+	 * 
+	 * @param 	uri				the URI of the resource to be loaded lazily
+	 * @param 	description		the resource description for the resource
+	 * @param 	storage			a supplier of the storage from which the resource is to be loaded
+	 * @return	the created (unloaded) resource
+	 */
+	public Resource addLazyResourceToIndex(URI uri, IResourceDescription description, Supplier<ResourceStorageLoadable> storage) {
+		Resource resource = this.resourceSet.createResource(uri);
+		if (!(resource instanceof StorageAwareResource)) {
+			throw new RuntimeException("Error creating resource: " + uri.toFileString());
+		}
+		this.index.addDescription(uri, description);
+		SysMLLibraryCache.indexChanged(this.resourceSet);
+		this.lazyResources.put(resource, storage);
+		return resource;
+	}
+	
+	/**
+	 * Remove the given resource from the resource set and the Xtext index, unloading it if it has
+	 * been loaded. This is used to roll back resources that were only partially read.
+	 * 
+	 * @param 	resource		the resource to be removed
+	 */
+	public void removeResource(Resource resource) {
+		this.lazyResources.remove(resource);
+		this.inputResources.remove(resource);
+		this.index.removeDescription(resource.getURI());
+		SysMLLibraryCache.indexChanged(this.resourceSet);
+		if (resource.isLoaded()) {
+			resource.unload();
+		}
+		this.resourceSet.getResources().remove(resource);
+	}
+	
+	/**
+	 * Load all resources added to the index lazily that have not yet been loaded on demand.
+	 */
+	public void loadLazyResources() {
+		for (Resource resource: new ArrayList<>(this.lazyResources.keySet())) {
+			this.resourceSet.getResource(resource.getURI(), true);
+		}
+	}
+	
+	/**
+	 * Load the given resource on demand, from storage if it was added to the index lazily.
+	 * 
+	 * @param 	resource		the resource to be loaded
+	 * @return	whether the resource was loaded from storage
+	 * @throws 	IOException		if the storage for the resource cannot be read
+	 */
+	protected boolean loadLazyResource(Resource resource) throws IOException {
+		Supplier<ResourceStorageLoadable> storage = this.lazyResources.remove(resource);
+		if (storage == null) {
+			return false;
+		} else {
+			((StorageAwareResource)resource).loadFromStorage(storage.get());
+			return true;
+		}
+	}
+	
+	/**
+	 * Get the resource description for a resource from the Xtext index.
+	 * 
+	 * @param 	resource		the resource in the index
+	 * @return	the indexed resource description, or null if the resource has not been indexed
+	 */
+	public IResourceDescription getResourceDescription(Resource resource) {
+		return this.index.getResourceDescription(resource.getURI());
 	}
 	
 	/**
@@ -136,6 +292,83 @@ public abstract class SysMLUtil {
 		this.isVerbose = isVerbose;
 	}
 	
+	/**
+	 * Return the maximum number of threads to be used for processing resources in parallel.
+	 * 
+	 * @return	the parallelism (1 if processing is sequential)
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+	
+	/**
+	 * Set the maximum number of threads to be used for processing resources in parallel. If the
+	 * parallelism is 1 (the default), all processing is done sequentially on the calling thread.
+	 * Currently, the parsing of files by readAll, the linking of input resources by
+	 * resolveAllInputResources and the transformation of input resources by transformAll are
+	 * done in parallel.
+	 * 
+	 * @param	parallelism		the parallelism (at least 1)
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = Math.max(1, parallelism);
+	}
+	
+	/**
+	 * Get the cache used for the Xtext resource descriptions of resources read from source files.
+	 * 
+	 * @return	the index cache, or null if no index cache is used
+	 */
+	public SysMLIndexCache getIndexCache() {
+		return this.indexCache;
+	}
+	
+	/**
+	 * Set the directory of the cache to be used for the Xtext resource descriptions of resources read
+	 * from source files. The descriptions of unchanged files are then read from the cache, rather than
+	 * being recomputed.
+	 * 
+	 * @param 	cacheDirectory	the index cache directory (or null if no index cache is to be used)
+	 */
+	public void setIndexCacheDirectory(File cacheDirectory) {
+		this.indexCache = cacheDirectory == null? null: new SysMLIndexCache(cacheDirectory);
+	}
+	
+	/**
+	 * Get the profile in which the phases of loading resources are recorded.
+	 * 
+	 * @return	the load profile, or null if loading is not being profiled
+	 */
+	public SysMLLoadProfile getProfile() {
+		return this.profile;
+	}
+	
+	/**
+	 * Set the profile in which the phases of loading resources are to be recorded.
+	 * 
+	 * @param 	profile			the load profile (or null if loading is not to be profiled)
+	 */
+	public void setProfile(SysMLLoadProfile profile) {
+		SysMLLoadProfile.setProfile(this.resourceSet, profile);
+		this.profile = profile;
+	}
+	
+	/**
+	 * Run the given action as the given phase of loading the given resource, recording it in the
+	 * load profile, if there is one.
+	 * 
+	 * @param 	resource		the resource being loaded
+	 * @param 	phase			the phase being run
+	 * @param 	action			the action doing the work of the phase
+	 */
+	protected void profile(Resource resource, SysMLLoadProfile.Phase phase, Runnable action) {
+		if (this.profile == null) {
+			action.run();
+		} else {
+			this.profile.record(resource, phase, action);
+		}
+	}
+	
 	/**
 	 * Check whether the given resource is considered an input resource or a library resource.
 	 * 
@@ -168,14 +401,19 @@ public abstract class SysMLUtil {
 	}
 	
 	/**
-	 * Return all the library resources, that is, resources that are not input resources.
+	 * Return all the library resources, that is, resources that are not input resources, including
+	 * the resources of the shared library (if any).
 	 * 
 	 * @return the library resources
 	 */
 	public Set<Resource> getLibraryResources() {
-		return this.getResourceSet().getResources().stream().
+		Set<Resource> libraryResources = this.getResourceSet().getResources().stream().
 				filter(Predicates.not(this::isInputResource)).
 				collect(Collectors.toSet());
+		if (this.sharedLibrary != null) {
+			this.sharedLibrary.getResources().forEach(libraryResources::add);
+		}
+		return libraryResources;
 	}
 	
 	/**
@@ -204,13 +442,18 @@ public abstract class SysMLUtil {
 	 */
 	public Resource getResource(final String path) {
 	    URI uri = URI.createFileURI(path);
-		final Resource resource = this.resourceSet.getResource(uri, true);
+		Resource resource = this.resourceSet.getResource(uri, false);
 		if (resource == null) {
-			throw new RuntimeException("Error opening resource: " + path);
-		} else {
-			this.addResourceToIndex(resource);
-			return resource;
+			resource = this.resourceSet.createResource(uri);
+			if (resource == null) {
+				throw new RuntimeException("Error opening resource: " + path);
+			}
+			this.loadResource(resource);
+		} else if (!resource.isLoaded()) {
+			resource = this.resourceSet.getResource(uri, true);
 		}
+		this.addResourceToIndex(resource);
+		return resource;
 	}
 	
 	/**
@@ -232,7 +475,11 @@ public abstract class SysMLUtil {
 	 * @param 	isInput			whether the resources read are to be considered input resources
 	 */
 	public void readAll(final File file, boolean isInput) {
-		if (file.isDirectory()) {
+		if (this.parallelism > 1) {
+			List<File> files = new ArrayList<>();
+			this.collectFiles(file, files);
+			this.readAll(files, isInput);
+		} else if (file.isDirectory()) {
 			for (File nestedFile: file.listFiles()) {
 				this.readAll(nestedFile,  isInput);
 			}
@@ -247,6 +494,99 @@ public abstract class SysMLUtil {
 		}
 	}
 	
+	/**
+	 * Collect the given file, if it has an allowable extension, or, if the file is a directory, then
+	 * recursively collect all the allowable files in it, in the order in which they would be read.
+	 * 
+	 * @param 	file			the file from which files are to be collected
+	 * @param 	files			the list to which the files are added
+	 */
+	protected void collectFiles(final File file, List<File> files) {
+		if (file.isDirectory()) {
+			for (File nestedFile: file.listFiles()) {
+				this.collectFiles(nestedFile, files);
+			}
+		} else if (extensions.stream().anyMatch(file.getPath()::endsWith)) {
+			files.add(file);
+		}
+	}
+	
+	/**
+	 * Read the given files, parsing them in parallel. Each file not already in the resource set is
+	 * parsed into a new resource on a fork-join pool bounded by the parallelism. The parsed resources
+	 * are then added to the resource set and the index in the order of the given list, exactly as if
+	 * the files had been read sequentially. Linking remains lazy and is done on the calling thread.
+	 * 
+	 * @param 	files			the files to be read
+	 * @param 	isInput			whether the resources read are to be considered input resources
+	 */
+	public void readAll(final List<File> files, boolean isInput) {
+		List<URI> uris = files.stream().
+				map(file->URI.createFileURI(file.getPath())).
+				collect(Collectors.toList());
+		List<URI> unreadUris = uris.stream().
+				filter(uri->this.resourceSet.getResource(uri, false) == null).
+				collect(Collectors.toList());
+		List<Resource> parsedResources;
+		ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+		try {
+			parsedResources = pool.submit(()->
+				unreadUris.parallelStream().
+					map(this::parseResource).
+					collect(Collectors.toList())).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof RuntimeException? (RuntimeException)e.getCause(): new RuntimeException(e.getCause());
+		} finally {
+			pool.shutdown();
+		}
+		this.resourceSet.getResources().addAll(parsedResources);
+		for (int i = 0; i < files.size(); i++) {
+			println("Reading " + files.get(i).getPath() + "...");
+			Resource resource = this.resourceSet.getResource(uris.get(i), false);
+			this.addResourceToIndex(resource);
+			if (isInput) {
+				this.addInputResource(resource);
+			}
+		}
+	}
+	
+	/**
+	 * Parse the resource with the given URI, without adding it to the resource set. This may be
+	 * called concurrently from multiple threads.
+	 * 
+	 * @param 	uri				the URI of the resource to be parsed
+	 * @return	the parsed resource
+	 */
+	protected Resource parseResource(URI uri) {
+		// NOTE: Loading only parses the resource and creates lazy-linking proxies for its cross references.
+		// No proxies are resolved during loading, and KerMLDerivedStateComputer does nothing in the
+		// pre-linking phase. The full derived state (which does resolve names) is only installed when the
+		// contents of the resource are next requested after loading, which must not happen until the
+		// resource has been added to the resource set on the calling thread. So nothing else may access
+		// the resource here (SysMLLoadProfile only counts elements from the parse result).
+		Resource resource = this.resourceSet.getResourceFactoryRegistry().getFactory(uri).createResource(uri);
+		this.loadResource(resource);
+		return resource;
+	}
+	
+	/**
+	 * Load the given resource from its source file.
+	 * 
+	 * @param 	resource		the resource to be loaded
+	 */
+	protected void loadResource(Resource resource) {
+		this.profile(resource, SysMLLoadProfile.Phase.PARSE, ()->{
+			try {
+				resource.load(this.resourceSet.getLoadOptions());
+			} catch (IOException e) {
+				throw new RuntimeException("Error opening resource: " + resource.getURI().toFileString(), e);
+			}
+		});
+	}
+	
 	/**
 	 * If the given path identifies a file with an allowable extension, then read it. 
 	 * If the given path is for a directory, then recursively read all the allowable files in it, 
@@ -297,19 +637,257 @@ public abstract class SysMLUtil {
 	 * @param	isAddImplicitElements	whether to add implicit elements to input resources
 	 */
 	public void transformAll(boolean isAddImplicitElements) {
-		for (Resource resource: this.resourceSet.getResources()) {
+		if (this.parallelism > 1) {
+			this.transformAllInParallel(isAddImplicitElements);
+		} else {
+			// Note: Resources may be loaded lazily during transformation, and resources
+			// that have not been loaded yet are transformed when they are loaded.
+			List<Resource> resources = this.resourceSet.getResources();
+			for (int i = 0; i < resources.size(); i++) {
+				Resource resource = resources.get(i);
+				if (resource.isLoaded()) {
+					this.transform(resource, isAddImplicitElements);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Transform elements in all resources, transforming input resources in parallel on a fork-join pool
+	 * bounded by the parallelism. If isAddImplicitElements is true, then also generate implicit elements
+	 * in input resources.
+	 * <p>
+	 * All library resources (including any that would otherwise be loaded lazily) are first transformed
+	 * sequentially. The input resources are then partitioned into groups of resources that reference each
+	 * other, directly or indirectly (see {@link #groupByReferences(List)}). Each group is transformed on one
+	 * thread, in the order in which its resources were read, and different groups are transformed
+	 * concurrently. The transformation of an element only transforms (and adds implicit elements to)
+	 * elements in its own resource or in resources that its resource references. Since library resources
+	 * have all been transformed already, different groups never transform the same element.
+	 * <p>
+	 * However, different groups do share library elements, whose adapters cache values computed lazily
+	 * from them (e.g., inherited memberships, supertype closures, qualified names, membership indexes and
+	 * name resolutions). These caches are safe for concurrent use, and their values only depend on the
+	 * library elements, so they are the same whichever group computes them first. If an element is
+	 * nevertheless requested to be transformed on one thread while it is being transformed on another,
+	 * an IllegalStateException is thrown (see {@link org.omg.sysml.adapter.ElementAdapter#transform()}).
+	 * 
+	 * @param	isAddImplicitElements	whether to add implicit elements to input resources
+	 */
+	public void transformAllInParallel(boolean isAddImplicitElements) {
+		this.loadLazyResources();
+		List<Resource> inputResources = new ArrayList<>();
+		List<Resource> resources = this.resourceSet.getResources();
+		for (int i = 0; i < resources.size(); i++) {
+			Resource resource = resources.get(i);
+			if (resource.isLoaded()) {
+				if (this.isInputResource(resource)) {
+					inputResources.add(resource);
+				} else {
+					this.transform(resource, isAddImplicitElements);
+				}
+			}
+		}
+		List<List<Resource>> groups = this.groupByReferences(inputResources);
+		ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+		try {
+			pool.submit(()->groups.parallelStream().forEach(group->{
+				for (Resource resource: group) {
+					this.transform(resource, isAddImplicitElements);
+				}
+			})).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof RuntimeException? (RuntimeException)e.getCause(): new RuntimeException(e.getCause());
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * Transform elements in the given resource, adding implicit elements if isAddImplicitElements is true
+	 * and the resource is an input resource.
+	 * 
+	 * @param 	resource				the resource to be transformed
+	 * @param	isAddImplicitElements	whether to add implicit elements to input resources
+	 */
+	protected void transform(Resource resource, boolean isAddImplicitElements) {
+		this.profile(resource, SysMLLoadProfile.Phase.TRANSFORM, ()->
 			ElementUtil.transformAll(resource, 
-					isAddImplicitElements && this.isInputResource(resource));
+					isAddImplicitElements && this.isInputResource(resource)));
+	}
+	
+	/**
+	 * Partition the given resources into groups such that any two resources that reference each other,
+	 * directly or through other given resources, are in the same group. Only non-derived references are
+	 * followed, resolving them if necessary. The resources in each group are in the order of the given list,
+	 * and the groups are in the order of their first resources.
+	 * 
+	 * @param 	resources		the resources to be partitioned
+	 * @return	the groups of resources
+	 */
+	protected List<List<Resource>> groupByReferences(List<Resource> resources) {
+		Map<Resource, Integer> indexes = new HashMap<>();
+		int[] parents = new int[resources.size()];
+		for (int i = 0; i < parents.length; i++) {
+			indexes.put(resources.get(i), i);
+			parents[i] = i;
+		}
+		for (int i = 0; i < parents.length; i++) {
+			for (Iterator<EObject> contents = resources.get(i).getAllContents(); contents.hasNext();) {
+				EObject object = contents.next();
+				for (EReference reference: object.eClass().getEAllReferences()) {
+					if (!reference.isContainment() && !reference.isContainer() && !reference.isDerived()) {
+						Object value = object.eGet(reference, true);
+						if (reference.isMany()) {
+							for (Object target: (List<?>)value) {
+								union(parents, i, indexes.get(((EObject)target).eResource()));
+							}
+						} else if (value != null) {
+							union(parents, i, indexes.get(((EObject)value).eResource()));
+						}
+					}
+				}
+			}
+		}
+		Map<Integer, List<Resource>> groups = new LinkedHashMap<>();
+		for (int i = 0; i < parents.length; i++) {
+			groups.computeIfAbsent(find(parents, i), k->new ArrayList<>()).add(resources.get(i));
+		}
+		return new ArrayList<>(groups.values());
+	}
+	
+	private static int find(int[] parents, int i) {
+		while (parents[i] != i) {
+			i = parents[i] = parents[parents[i]];
+		}
+		return i;
+	}
+	
+	private static void union(int[] parents, int i, Integer j) {
+		if (j != null) {
+			int rootI = find(parents, i);
+			int rootJ = find(parents, j);
+			if (rootI != rootJ) {
+				parents[Math.max(rootI, rootJ)] = Math.min(rootI, rootJ);
+			}
 		}
 	}
 	
 	/**
-	 * Resolve proxies in all input resources.
+	 * Partition the given unlinked resources into groups such that any two resources that might reference
+	 * each other, directly or through other given resources, are in the same group. Every name used in a
+	 * reference to an element is either declared in the resource containing the element (as a name, short
+	 * name or alias name) or is a name that the resource containing the element itself uses in a reference
+	 * (as for the computed name of an unnamed redefining feature), and an alias is itself a reference to the
+	 * element it aliases. So a resource can only reference another resource, directly or through imports,
+	 * aliases, inheritance or qualified names, if the two resources have a name token in common, or if it
+	 * does so through a chain of such resources. Resources are therefore grouped if they have any name
+	 * token in common. This errs on the side of grouping resources that do not actually reference each
+	 * other. A resource that was not parsed from text is conservatively grouped with all the others.
+	 * The resources in each group are in the order of the given list, and the groups are in the order of
+	 * their first resources.
+	 * 
+	 * @param 	resources		the resources to be partitioned
+	 * @return	the groups of resources
+	 */
+	protected List<List<Resource>> groupByNames(List<Resource> resources) {
+		int[] parents = new int[resources.size()];
+		for (int i = 0; i < parents.length; i++) {
+			parents[i] = i;
+		}
+		Map<String, Integer> firstUses = new HashMap<>();
+		for (int i = 0; i < parents.length; i++) {
+			IParseResult parseResult = resources.get(i) instanceof XtextResource? 
+					((XtextResource)resources.get(i)).getParseResult(): null;
+			if (parseResult == null) {
+				for (int j = 0; j < parents.length; j++) {
+					union(parents, i, j);
+				}
+			} else {
+				for (ILeafNode leaf: parseResult.getRootNode().getLeafNodes()) {
+					if (!leaf.isHidden() && !(leaf.getGrammarElement() instanceof Keyword)) {
+						union(parents, i, firstUses.putIfAbsent(unquote(leaf.getText()), i));
+					}
+				}
+			}
+		}
+		Map<Integer, List<Resource>> groups = new LinkedHashMap<>();
+		for (int i = 0; i < parents.length; i++) {
+			groups.computeIfAbsent(find(parents, i), k->new ArrayList<>()).add(resources.get(i));
+		}
+		return new ArrayList<>(groups.values());
+	}
+	
+	private static String unquote(String text) {
+		return text.length() >= 2 && text.startsWith("'") && text.endsWith("'")?
+				text.substring(1, text.length() - 1).replaceAll("\\\\(.)", "$1"): text;
+	}
+	
+	/**
+	 * Resolve proxies in all input resources. If the parallelism is greater than 1, the input resources
+	 * are linked in parallel (see {@link #resolveAllInParallel(List)}).
 	 */
 	public void resolveAllInputResources() {
-		for (Resource resource: this.inputResources) {
-			EcoreUtil.resolveAll(resource);
+		if (this.parallelism > 1) {
+			this.resolveAllInParallel(new ArrayList<>(this.inputResources));
+		} else {
+			for (Resource resource: this.inputResources) {
+				this.resolveAll(resource);
+			}
 		}
 	}
 	
+	/**
+	 * Resolve proxies in the given resources, linking them in parallel on a fork-join pool bounded by the
+	 * parallelism. The state of each name resolution is confined to the thread doing it, so the result is
+	 * the same as linking the resources sequentially.
+	 * <p>
+	 * Linking a resource may cause proxies to be resolved lazily in other resources it references. To avoid
+	 * this happening concurrently in a shared resource, all library resources (including any that would
+	 * otherwise be loaded lazily) are first loaded and linked sequentially. The given resources are then
+	 * partitioned into groups of resources that may reference each other (see {@link #groupByNames(List)}).
+	 * Each group is linked on one thread, in the order of the given list, and different groups are linked
+	 * concurrently.
+	 * 
+	 * @param 	resources		the resources to be linked
+	 */
+	public void resolveAllInParallel(List<Resource> resources) {
+		this.loadLazyResources();
+		Set<Resource> resourcesToLink = new HashSet<>(resources);
+		List<Resource> libraryResources = this.resourceSet.getResources().stream().
+				filter(resource->resource.isLoaded() && !resourcesToLink.contains(resource)).
+				collect(Collectors.toList());
+		for (Resource resource: libraryResources) {
+			this.resolveAll(resource);
+		}
+		List<List<Resource>> groups = this.groupByNames(resources);
+		ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+		try {
+			pool.submit(()->groups.parallelStream().forEach(group->{
+				for (Resource resource: group) {
+					this.resolveAll(resource);
+				}
+			})).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof RuntimeException? (RuntimeException)e.getCause(): new RuntimeException(e.getCause());
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * Resolve all proxies in the given resource.
+	 * 
+	 * @param 	resource		the resource to be linked
+	 */
+	protected void resolveAll(Resource resource) {
+		this.profile(resource, SysMLLoadProfile.Phase.LINK, ()->EcoreUtil.resolveAll(resource));
+	}
+	
 }
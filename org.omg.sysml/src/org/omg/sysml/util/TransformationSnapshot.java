@@ -0,0 +1,352 @@
+/*****************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *****************************************************************************/
+
+
+package org.omg.sysml.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.resource.XtextResource;
+import org.omg.sysml.adapter.ElementAdapter;
+import org.omg.sysml.adapter.TypeAdapter;
+import org.omg.sysml.lang.sysml.Element;
+import org.omg.sysml.lang.sysml.Namespace;
+import org.omg.sysml.lang.sysml.OwningMembership;
+import org.omg.sysml.lang.sysml.Type;
+import org.omg.sysml.lang.sysml.impl.ElementImpl;
+
+/**
+ * A snapshot of the implicit general types computed for the types in a resource, taken before the resource
+ * is reparsed, so that they can be restored for the types that are unchanged by the reparse, rather than
+ * being recomputed when the resource is transformed again.
+ * <p>
+ * Types are matched by a key derived from the node model: the metaclass and text of the type itself and,
+ * for each of its owners, the metaclass and the text of the owner excluding the text of its owned members.
+ * A type is therefore matched if neither its own text nor the declarations of its owners have been changed,
+ * even if other parts of the resource have. The implicit general types of a matched type are only restored
+ * if every type in the same resource on which its transformation may depend (its supertypes, the supertypes
+ * of its owners and its implicit general types) is also matched and, if it is in the snapshot, restored.
+ * Types that still have implicit binding connectors or that depend on types without text (e.g., implicitly
+ * created result parameters) are always transformed again.
+ * <p>
+ * The snapshot is kept as an adapter on the resource from when the derived state of the resource is
+ * discarded until it is next installed. No snapshot is kept if no type in the resource has been transformed,
+ * and the snapshot is removed if the resource is unloaded, so that it does not retain the elements of an
+ * unloaded resource.
+ */
+public class TransformationSnapshot extends AdapterImpl {
+
+	private static class Entry {
+
+		private final Element element;
+		private final Map<EClass, List<Object>> implicitGeneralTypes = new LinkedHashMap<>();
+		private final Set<String> dependencies = new HashSet<>();
+
+		private Entry(Element element) {
+			this.element = element;
+		}
+
+	}
+
+	private final Map<String, Entry> entries = new HashMap<>();
+	private final Set<Element> elements = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == TransformationSnapshot.class;
+	}
+	
+	@Override
+	public void notifyChanged(Notification notification) {
+		if (notification.getNotifier() instanceof Resource && 
+				notification.getFeatureID(Resource.class) == Resource.RESOURCE__IS_LOADED && 
+				!notification.getNewBooleanValue()) {
+			removeFrom((Resource)notification.getNotifier());
+		}
+	}
+
+	/**
+	 * Take a snapshot of the implicit general types of the transformed types in the given resource, replacing
+	 * any previous snapshot for the resource. Nothing is kept if none of the types have been transformed.
+	 *
+	 * @param 	resource		the resource that is about to be reparsed
+	 */
+	public static void capture(Resource resource) {
+		removeFrom(resource);
+		Map<Element, String> keys = computeKeys(resource);
+		if (keys.keySet().stream().anyMatch(TransformationSnapshot::isTransformed)) {
+			TransformationSnapshot snapshot = new TransformationSnapshot();
+			snapshot.elements.addAll(keys.keySet());
+			for (Map.Entry<Element, String> key: keys.entrySet()) {
+				Entry entry = snapshot.createEntry((Type)key.getKey(), resource, keys);
+				if (entry != null) {
+					snapshot.entries.put(key.getValue(), entry);
+				}
+			}
+			resource.eAdapters().add(snapshot);
+		}
+	}
+
+	private Entry createEntry(Type type, Resource resource, Map<Element, String> keys) {
+		ElementAdapter adapter = getExistingAdapter(type);
+		if (!(adapter instanceof TypeAdapter) || !adapter.isTransformed()) {
+			return null;
+		}
+		TypeAdapter typeAdapter = (TypeAdapter)adapter;
+		boolean[] hasBindingConnectors = {false};
+		typeAdapter.forEachImplicitBindingConnector(connector->hasBindingConnectors[0] = true);
+		if (hasBindingConnectors[0]) {
+			return null;
+		}
+
+		Entry entry = new Entry(type);
+		Set<Type> dependencies = new HashSet<>(TypeUtil.getAllSupertypesOf(type));
+		for (EObject owner = type.eContainer(); owner != null; owner = owner.eContainer()) {
+			if (owner instanceof Type) {
+				dependencies.addAll(TypeUtil.getAllSupertypesOf((Type)owner));
+			}
+		}
+		boolean[] isRestorable = {true};
+		typeAdapter.forEachImplicitGeneralType((eClass, general)->{
+			Object reference = general;
+			if (general.eResource() == resource) {
+				reference = keys.get(general);
+				dependencies.add(general);
+			} else if (general.eResource() == null) {
+				reference = null;
+			}
+			if (reference == null) {
+				isRestorable[0] = false;
+			} else {
+				entry.implicitGeneralTypes.computeIfAbsent(eClass, e->new ArrayList<>()).add(reference);
+			}
+		});
+		for (Type dependency: dependencies) {
+			if (dependency != type && dependency.eResource() == resource) {
+				String key = keys.get(dependency);
+				if (key == null) {
+					isRestorable[0] = false;
+				} else {
+					entry.dependencies.add(key);
+				}
+			}
+		}
+		return isRestorable[0]? entry: null;
+	}
+
+	/**
+	 * Restore the implicit general types for the types in the given resource that are matched by the
+	 * snapshot for the resource, if there is one, and remove the snapshot. Any type that was in the snapshot
+	 * and is still in the resource (i.e., was not replaced by a partial reparse), but that may depend on a
+	 * changed type, has its implicit general types computed again (after all such types have been reset).
+	 *
+	 * @param 	resource		the resource that has been reparsed
+	 * @return	the number of types whose implicit general types were restored
+	 */
+	public static int restore(Resource resource) {
+		TransformationSnapshot snapshot = removeFrom(resource);
+		if (snapshot == null) {
+			return 0;
+		}
+		Map<Element, String> keys = computeKeys(resource);
+		Map<String, Element> elements = new HashMap<>();
+		keys.forEach((element, key)->elements.put(key, element));
+
+		Set<String> restorable = new HashSet<>();
+		snapshot.entries.forEach((key, entry)->{
+			if (elements.containsKey(key) && elements.keySet().containsAll(entry.dependencies)) {
+				restorable.add(key);
+			}
+		});
+		boolean isChanged;
+		do {
+			isChanged = restorable.removeIf(key->snapshot.entries.get(key).dependencies.stream().
+					anyMatch(dependency->snapshot.entries.containsKey(dependency) && !restorable.contains(dependency)));
+		} while (isChanged);
+
+		int count = 0;
+		List<TypeAdapter> resetAdapters = new ArrayList<>();
+		for (Map.Entry<Element, String> key: keys.entrySet()) {
+			Element element = key.getKey();
+			Entry entry = restorable.contains(key.getValue())? snapshot.entries.get(key.getValue()): null;
+			if (snapshot.elements.contains(element)) {
+				ElementAdapter adapter = getExistingAdapter(element);
+				if (adapter instanceof TypeAdapter && adapter.isTransformed() && (entry == null || entry.element != element)) {
+					((TypeAdapter)adapter).resetImplicitGeneralTypes();
+					resetAdapters.add((TypeAdapter)adapter);
+				}
+			} else if (entry != null) {
+				ElementAdapter adapter = ElementUtil.getElementAdapter(element);
+				if (adapter instanceof TypeAdapter && !adapter.isTransformed()) {
+					Map<EClass, List<Type>> implicitGeneralTypes = new LinkedHashMap<>();
+					entry.implicitGeneralTypes.forEach((eClass, generals)->{
+						List<Type> types = new ArrayList<>();
+						for (Object general: generals) {
+							types.add(general instanceof String? (Type)elements.get(general): (Type)general);
+						}
+						implicitGeneralTypes.put(eClass, types);
+					});
+					((TypeAdapter)adapter).restoreImplicitGeneralTypes(implicitGeneralTypes);
+					count++;
+				}
+			}
+		}
+		for (TypeAdapter adapter: resetAdapters) {
+			adapter.computeImplicitGeneralTypes();
+			adapter.removeUnnecessaryImplicitGeneralTypes();
+		}
+		return count;
+	}
+
+	private static TransformationSnapshot removeFrom(Resource resource) {
+		TransformationSnapshot snapshot = (TransformationSnapshot)EcoreUtil.getExistingAdapter(resource, TransformationSnapshot.class);
+		if (snapshot != null) {
+			resource.eAdapters().remove(snapshot);
+		}
+		return snapshot;
+	}
+
+	private static ElementAdapter getExistingAdapter(Element element) {
+		return element instanceof ElementImpl? ((ElementImpl)element).getElementAdapter(): null;
+	}
+	
+	private static boolean isTransformed(Element element) {
+		ElementAdapter adapter = getExistingAdapter(element);
+		return adapter != null && adapter.isTransformed();
+	}
+
+	// Keys
+
+	private static class Frame {
+
+		private final Element element;
+		private final String context;
+
+		private Frame(Element element, String context) {
+			this.element = element;
+			this.context = context;
+		}
+
+	}
+
+	/**
+	 * Compute the keys of the types in the given resource, walking the ownership tree in document order, so
+	 * that types with the same text in the same context are distinguished by their order of occurrence.
+	 */
+	private static Map<Element, String> computeKeys(Resource resource) {
+		Map<Element, String> keys = new LinkedHashMap<>();
+		IParseResult parseResult = resource instanceof XtextResource? ((XtextResource)resource).getParseResult(): null;
+		if (parseResult == null || parseResult.getRootNode() == null) {
+			return keys;
+		}
+		String text = parseResult.getRootNode().getText();
+		Map<String, Integer> occurrences = new HashMap<>();
+		Deque<Frame> stack = new ArrayDeque<>();
+		List<EObject> roots = resource.getContents();
+		for (int i = roots.size() - 1; i >= 0; i--) {
+			if (roots.get(i) instanceof Element) {
+				stack.push(new Frame((Element)roots.get(i), ""));
+			}
+		}
+		while (!stack.isEmpty()) {
+			Frame frame = stack.pop();
+			Element element = frame.element;
+			ICompositeNode node = NodeModelUtils.getNode(element);
+			if (node != null) {
+				String prefix = frame.context + "/" + element.eClass().getName() + "#";
+				if (element instanceof Type) {
+					String key = prefix + hash(text.substring(node.getOffset(), node.getEndOffset()));
+					keys.put(element, key + "#" + occurrences.merge(key, 1, Integer::sum));
+				}
+				String context = prefix + hash(declarationOf(element, node, text));
+				List<EObject> children = element.eContents();
+				for (int i = children.size() - 1; i >= 0; i--) {
+					if (children.get(i) instanceof Element) {
+						stack.push(new Frame((Element)children.get(i), context));
+					}
+				}
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * Get the text of the given element excluding the text of its owned members.
+	 */
+	private static String declarationOf(Element element, ICompositeNode node, String text) {
+		List<Element> members = 
+				element instanceof Namespace? ((Namespace)element).getOwnedMember():
+				element instanceof OwningMembership? Collections.singletonList(((OwningMembership)element).getOwnedMemberElement()):
+				Collections.emptyList();
+		StringBuilder declaration = new StringBuilder();
+		int offset = node.getOffset();
+		for (Element member: members) {
+			ICompositeNode memberNode = member == null? null: NodeModelUtils.getNode(member);
+			if (memberNode != null && memberNode.getOffset() >= offset && memberNode.getEndOffset() <= node.getEndOffset()) {
+				declaration.append(text, offset, memberNode.getOffset());
+				offset = memberNode.getEndOffset();
+			}
+		}
+		declaration.append(text, offset, node.getEndOffset());
+		return declaration.toString();
+	}
+
+	/**
+	 * Get a SHA-256 digest of the given text, so that keys do not hold the text itself, but types with
+	 * different text can (practically) never be matched.
+	 */
+	private static String hash(String text) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder();
+			for (byte b: digest) {
+				hex.append(String.format("%02x", b));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform is required to support SHA-256.
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
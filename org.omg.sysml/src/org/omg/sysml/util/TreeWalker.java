@@ -0,0 +1,165 @@
+/*****************************************************************************
+ * SysML 2 Pilot Implementation
+ * Copyright (c) 2023 Model Driven Solutions, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of theGNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * @license LGPL-3.0-or-later <http://spdx.org/licenses/LGPL-3.0-or-later>
+ *
+ *****************************************************************************/
+
+package org.omg.sysml.util;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A depth-first walker over a tree (or a graph whose cycles are cut off by the visitor) that keeps its own
+ * stack of work rather than using the call stack, so that it can walk trees of any depth. Each node is
+ * pre-visited, then its children are walked in order and then it is post-visited, just as for a recursive
+ * walk. The children of a node are only obtained after it has been pre-visited, and each child is obtained
+ * from the iterator of children only after the previous child has been completely walked, so changes made
+ * while walking are seen at the same points as they would be in a recursive walk.
+ *
+ * @param 	<T>		the type of the nodes being walked
+ */
+public class TreeWalker<T> {
+
+	/**
+	 * The action to be taken after pre-visiting a node.
+	 */
+	public enum Action {
+		/** Walk the children of the node, then post-visit it. */
+		CONTINUE,
+		/** Do not walk the children of the node, but still post-visit it. */
+		SKIP_CHILDREN,
+		/** Neither walk the children of the node nor post-visit it. */
+		SKIP,
+		/** End the walk immediately, without post-visiting any nodes still being walked. */
+		STOP
+	}
+
+	/**
+	 * A visitor called before and after the children of each node are walked.
+	 */
+	public interface Visitor<T> {
+
+		Action preVisit(T node);
+
+		default void postVisit(T node) {
+		}
+
+	}
+
+	private static class Frame<T> {
+
+		private final T node;
+		private final Iterator<? extends T> children;
+
+		private Frame(T node, Iterator<? extends T> children) {
+			this.node = node;
+			this.children = children;
+		}
+
+	}
+
+	private final Function<? super T, ? extends Iterator<? extends T>> children;
+
+	/**
+	 * Create a walker that uses the given function to get an iterator over the children of a node.
+	 *
+	 * @param 	children		the function giving the children of each node
+	 */
+	public TreeWalker(Function<? super T, ? extends Iterator<? extends T>> children) {
+		this.children = children;
+	}
+
+	/**
+	 * Create a walker that uses the given function to get the children of a node.
+	 *
+	 * @param 	children		the function giving the children of each node
+	 * @return	the walker
+	 */
+	public static <T> TreeWalker<T> of(Function<? super T, ? extends Iterable<? extends T>> children) {
+		return new TreeWalker<T>(node->children.apply(node).iterator());
+	}
+
+	/**
+	 * Walk the tree from the given root with the given visitor.
+	 *
+	 * @param 	root			the root of the tree
+	 * @param 	visitor			the visitor for the walk
+	 * @return	false if the walk was stopped by the visitor, true otherwise
+	 */
+	public boolean walk(T root, Visitor<? super T> visitor) {
+		Deque<Frame<T>> stack = new ArrayDeque<>();
+		if (!enter(root, visitor, stack)) {
+			return false;
+		}
+		while (!stack.isEmpty()) {
+			Frame<T> frame = stack.peek();
+			if (frame.children.hasNext()) {
+				if (!enter(frame.children.next(), visitor, stack)) {
+					return false;
+				}
+			} else {
+				stack.pop();
+				visitor.postVisit(frame.node);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Walk the tree from the given root, calling the given pre-visit function before walking the children
+	 * of each node, and the given post-visit action after.
+	 *
+	 * @param 	root			the root of the tree
+	 * @param 	preVisit		the function called to pre-visit a node, giving the action to be taken
+	 * @param 	postVisit		the action to post-visit a node
+	 * @return	false if the walk was stopped by the pre-visit function, true otherwise
+	 */
+	public boolean walk(T root, Function<? super T, Action> preVisit, Consumer<? super T> postVisit) {
+		return walk(root, new Visitor<T>() {
+			@Override
+			public Action preVisit(T node) {
+				return preVisit.apply(node);
+			}
+			@Override
+			public void postVisit(T node) {
+				postVisit.accept(node);
+			}
+		});
+	}
+
+	private boolean enter(T node, Visitor<? super T> visitor, Deque<Frame<T>> stack) {
+		switch (visitor.preVisit(node)) {
+		case STOP:
+			return false;
+		case SKIP:
+			return true;
+		case SKIP_CHILDREN:
+			stack.push(new Frame<>(node, Collections.emptyIterator()));
+			return true;
+		default:
+			stack.push(new Frame<>(node, children.apply(node)));
+			return true;
+		}
+	}
+
+}
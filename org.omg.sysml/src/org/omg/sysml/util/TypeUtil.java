@@ -71,9 +71,7 @@ public class TypeUtil {
 	// Caching
 	
 	public static EList<Membership> cacheInheritedMembershipOf(Type type, Supplier<EList<Membership>> supplier) {	
-		TypeAdapter adapter = getTypeAdapter(type);
-		EList<Membership> membership = adapter.getInheritedMembership();
-		return membership == null? adapter.setInheritedMembership(supplier.get()): membership;
+		return getTypeAdapter(type).getInheritedMembership(supplier);
 	}
 	
 	// Supertypes
@@ -116,8 +114,19 @@ public class TypeUtil {
 		return generalTypes;
 	}
 
+	/**
+	 * Check whether the given subtype conforms to the given supertype, using the cached supertype
+	 * closure of the subtype.
+	 * 
+	 * @see TypeAdapter#getAllSupertypes()
+	 */
 	public static boolean conforms(Type subtype, Type supertype) {
-		return conforms(subtype, supertype, new HashSet<>());
+		return subtype == supertype ||
+			   subtype != null && supertype != null && getAllSupertypesOf(subtype).contains(supertype);
+	}
+	
+	public static Set<Type> getAllSupertypesOf(Type type) {
+		return getTypeAdapter(type).getAllSupertypes();
 	}
 	
 	// Note: Generalizations are allowed to be cyclic.
@@ -26,12 +26,18 @@ package org.omg.sysml.util;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.UUID;
 
+/**
+ * A generator of name-based UUIDs. A UUIDDigest may be shared between threads: each thread uses its
+ * own MessageDigest and reusable byte buffers, so hashing a name allocates only the resulting UUID.
+ */
 public class UUIDDigest {
-	private final MessageDigest md;
+	private final String algorithm;
+	private final ThreadLocal<Hasher> hasher;
 
 	private final long versionMask;
     private static final int VERSION_BIT = 12;
@@ -45,38 +51,117 @@ public class UUIDDigest {
 	}
     
 	public UUID hash(UUID ns, String str) {
-		byte[] nsBytes = makeNamespaceBytes(ns);
-		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
-		if (md == null) {
+		if (hasher == null) {
+			byte[] nsBytes = makeNamespaceBytes(ns);
+			byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
 			ByteBuffer bb = ByteBuffer.allocate(16 + bytes.length);
             bb.put(nsBytes);
             bb.put(bytes);
 			return UUID.nameUUIDFromBytes(bb.array());
 		} else {
-            md.reset();
-            md.update(nsBytes);
-            md.update(bytes);
-
-            ByteBuffer bb = ByteBuffer.wrap(md.digest());
-            long msb = (bb.getLong() & MSB_MASK) | versionMask;
-            long lsb = (bb.getLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
-
-            return new UUID(msb, lsb);
-        }
+			return hasher.get().hash(ns, str);
+		}
 	}
 	
 	public UUIDDigest(int version, String algorithm) {
 		this.versionMask = (version & 0x0F) << VERSION_BIT;
+		this.algorithm = algorithm;
+		
+		// Check the algorithm eagerly, so that an invalid one is reported on construction.
+		newMessageDigest(algorithm);
+		this.hasher = ThreadLocal.withInitial(Hasher::new);
+	}
+	
+	public UUIDDigest() {
+		this.versionMask = 0;
+		this.algorithm = null;
+		this.hasher = null;
+	}
+	
+	private static MessageDigest newMessageDigest(String algorithm) {
 		try {
-			this.md = MessageDigest.getInstance(algorithm);
+			return MessageDigest.getInstance(algorithm);
 		} catch (NoSuchAlgorithmException e) {
 			throw new IllegalArgumentException("Hash algorithm: " + algorithm + " could not be used");
 		}
 	}
 	
-	public UUIDDigest() {
-		this.versionMask = 0;
-		this.md = null;
+	/**
+	 * The per-thread state of a UUIDDigest.
+	 */
+	private class Hasher {
+		private final MessageDigest md = newMessageDigest(algorithm);
+		private final byte[] nsBytes = new byte[16];
+		private final byte[] digest = new byte[Math.max(16, md.getDigestLength())];
+		private byte[] bytes = new byte[256];
+		
+		private UUID hash(UUID ns, String str) {
+			putLong(nsBytes, 0, ns.getMostSignificantBits());
+			putLong(nsBytes, 8, ns.getLeastSignificantBits());
+			int length = encode(str);
+			
+			md.reset();
+			md.update(nsBytes);
+			md.update(bytes, 0, length);
+			try {
+				md.digest(digest, 0, digest.length);
+			} catch (DigestException e) {
+				throw new IllegalStateException(e);
+			}
+			
+			long msb = (getLong(digest, 0) & MSB_MASK) | versionMask;
+			long lsb = (getLong(digest, 8) & 0x3fffffffffffffffL) | 0x8000000000000000L;
+			return new UUID(msb, lsb);
+		}
+		
+		/**
+		 * Encode the given string as UTF-8 into the reusable byte buffer, returning the encoded length.
+		 */
+		private int encode(String str) {
+			int n = str.length();
+			if (bytes.length < 4 * n) {
+				bytes = new byte[4 * n];
+			}
+			int j = 0;
+			for (int i = 0; i < n; i++) {
+				char c = str.charAt(i);
+				if (c < 0x80) {
+					bytes[j++] = (byte)c;
+				} else if (c < 0x800) {
+					bytes[j++] = (byte)(0xC0 | c >> 6);
+					bytes[j++] = (byte)(0x80 | c & 0x3F);
+				} else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(str.charAt(i + 1))) {
+					int cp = Character.toCodePoint(c, str.charAt(++i));
+					bytes[j++] = (byte)(0xF0 | cp >> 18);
+					bytes[j++] = (byte)(0x80 | cp >> 12 & 0x3F);
+					bytes[j++] = (byte)(0x80 | cp >> 6 & 0x3F);
+					bytes[j++] = (byte)(0x80 | cp & 0x3F);
+				} else if (Character.isSurrogate(c)) {
+					// Unpaired surrogates are replaced with '?', as by String.getBytes.
+					bytes[j++] = (byte)'?';
+				} else {
+					bytes[j++] = (byte)(0xE0 | c >> 12);
+					bytes[j++] = (byte)(0x80 | c >> 6 & 0x3F);
+					bytes[j++] = (byte)(0x80 | c & 0x3F);
+				}
+			}
+			return j;
+		}
+	}
+	
+	private static void putLong(byte[] bytes, int offset, long value) {
+		for (int i = 7; i >= 0; i--) {
+			bytes[offset + i] = (byte)value;
+			value >>>= 8;
+		}
+	}
+	
+	private static long getLong(byte[] bytes, int offset) {
+		long value = 0;
+		for (int i = 0; i < 8; i++) {
+			value = value << 8 | bytes[offset + i] & 0xFF;
+		}
+		return value;
 	}
 
     public static void main(String[] args) {
@@ -23,12 +23,18 @@
  *****************************************************************************/
 package org.omg.sysml.util.traversal;
 
+import java.util.Collections;
+import java.util.Iterator;
+
 import org.omg.sysml.lang.sysml.Element;
 import org.omg.sysml.lang.sysml.Relationship;
 import org.omg.sysml.lang.sysml.impl.ElementImpl;
 import org.omg.sysml.util.ElementUtil;
+import org.omg.sysml.util.TreeWalker;
 import org.omg.sysml.util.traversal.facade.ElementProcessingFacade;
 
+import com.google.common.collect.Iterators;
+
 /**
  * This class implements a generic visitor for any kind of SysML v2 model Element.
  *  
@@ -52,6 +58,11 @@ public class ElementVisitor {
 	 */
 	private final ElementProcessingFacade facade;
 	
+	/**
+	 * The identifier produced by processing the Element.
+	 */
+	private Object identifier = null;
+	
 	/**
 	 * Create a visitor for the given Element, using the given traversal and facade objects.
 	 * 
@@ -96,15 +107,47 @@ public class ElementVisitor {
 	 * Process the Element being visited and record with the traversal that the Element has been visited.
 	 * Then visit each of the related Elements of the Element, if it is a Relationship, and all 
 	 * Relationships owned by the Element.
+	 * <p>
+	 * The Elements reached from the visited Element are walked using an explicit stack rather than
+	 * by recursive visits, so that deeply nested models can be traversed. The order of processing
+	 * is the same as for recursive visits: each Element is pre-processed and processed before the
+	 * Elements reached from it are visited, and it is post-processed after they have all been visited.
+	 * An Element that has already been visited when it is reached is not visited again.
 	 * 
 	 * @return	a unique identifier for the Element, to be used to avoid redundant processing of it
 	 */
 	public Object visit() {
+		VISITOR_WALKER.walk(this, 
+				visitor->{
+					visitor.enter();
+					return TreeWalker.Action.CONTINUE;
+				}, 
+				ElementVisitor::postProcess);
+		return this.identifier;
+	}
+	
+	private static final TreeWalker<ElementVisitor> VISITOR_WALKER = 
+			new TreeWalker<ElementVisitor>(ElementVisitor::getNextVisitors);
+	
+	/**
+	 * Pre-process and process the Element being visited, and record its identifier with the traversal.
+	 */
+	private void enter() {
 		this.preProcess();
-		Object identifier = this.process();
-		this.getTraversal().putIdentifier(this.getElement(), identifier);
-		this.postProcess();
-		return identifier;
+		this.identifier = this.process();
+		this.getTraversal().putIdentifier(this.getElement(), this.identifier);
+	}
+	
+	/**
+	 * Get visitors for the Elements to be visited after the Element being visited. Each visitor is only
+	 * created when the previous one has completed its visit, and only if its Element has not been visited
+	 * by then.
+	 */
+	private Iterator<ElementVisitor> getNextVisitors() {
+		Traversal traversal = this.getTraversal();
+		return Iterators.transform(
+				Iterators.filter(this.getNextElements(), element->traversal.getIdentifier(element) == null), 
+				traversal::createVisitor);
 	}
 	
 	/**
@@ -125,24 +168,30 @@ public class ElementVisitor {
 	}
 	
 	/**
-	 * Post-process the Element being visited. Unless the Element is a library model Element, this
-	 * includes at least visiting any related Elements of the Element, if it is a Relationship, and 
-	 * all Relationships owned by it. Relationships are not traversed for library Elements.
+	 * Get the Elements to be visited after the Element being visited. Unless the Element is a library 
+	 * model Element, these are any related Elements of the Element, if it is a Relationship, and all 
+	 * Relationships owned by it. Relationships are not traversed for library Elements.
+	 * 
+	 * @return	an iterator over the Elements to be visited next
 	 */
-	protected void postProcess() {
+	protected Iterator<Element> getNextElements() {
 		Element element = this.getElement();
-		if (!ElementUtil.isStandardLibraryElement(element)) {
-			Traversal traversal = this.getTraversal();
-			if (element instanceof Relationship) {
-				for (Element relatedElement: ((Relationship)element).getRelatedElement()) {
-					traversal.visit(relatedElement);
-				}
-			}
-			for (Relationship relationship: ((ElementImpl)element).getOwnedRelationship()) {
-				traversal.visit(relationship);
-			}
+		if (ElementUtil.isStandardLibraryElement(element)) {
+			return Collections.emptyIterator();
+		} else {
+			Iterator<Element> ownedRelationships = 
+					Collections.<Element>unmodifiableList(((ElementImpl)element).getOwnedRelationship()).iterator();
+			return element instanceof Relationship?
+					Iterators.concat(((Relationship)element).getRelatedElement().iterator(), ownedRelationships):
+					ownedRelationships;
 		}
-		this.getFacade().postProcess(element);
+	}
+	
+	/**
+	 * Post-process the Element being visited, after the Elements reached from it have been visited.
+	 */
+	protected void postProcess() {
+		this.getFacade().postProcess(this.getElement());
 	}
 
-}
+}
\ No newline at end of file
@@ -161,7 +161,7 @@ public class JsonElementProcessingFacade implements ElementProcessingFacade {
 	 * @return	an Identified object for the given Element (or null if the input is null).
 	 */
 	protected Identified getIdentified(Element element) {
-		return element == null? null: identified(UUID.fromString(element.getElementId()));
+		return element == null? null: identified(ElementUtil.getElementUUIDOf(element));
 	}
 	
 	/**
@@ -221,7 +221,7 @@ public class JsonElementProcessingFacade implements ElementProcessingFacade {
 			}
 		}
 		return new DataVersion().payload(apiElement).
-				identity(new DataIdentity().atId(UUID.fromString(element.getElementId())));
+				identity(new DataIdentity().atId(ElementUtil.getElementUUIDOf(element)));
 	}
 	
 	/**
@@ -266,7 +266,7 @@ public class JsonElementProcessingFacade implements ElementProcessingFacade {
 			}
 			elementCount++;
 		}
-		return UUID.fromString(element.getElementId());
+		return ElementUtil.getElementUUIDOf(element);
 	}
 	
 	/**
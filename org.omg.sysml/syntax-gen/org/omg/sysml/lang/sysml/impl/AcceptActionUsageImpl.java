@@ -55,28 +55,28 @@ public class AcceptActionUsageImpl extends ActionUsageImpl implements AcceptActi
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getReceiverArgument()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate RECEIVER_ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ACCEPT_ACTION_USAGE__RECEIVER_ARGUMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate RECEIVER_ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ACCEPT_ACTION_USAGE__RECEIVER_ARGUMENT).getSettingDelegate();
 	/**
 	 * The cached setting delegate for the '{@link #getPayloadParameter() <em>Payload Parameter</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getPayloadParameter()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate PAYLOAD_PARAMETER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ACCEPT_ACTION_USAGE__PAYLOAD_PARAMETER).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate PAYLOAD_PARAMETER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ACCEPT_ACTION_USAGE__PAYLOAD_PARAMETER).getSettingDelegate();
 	/**
 	 * The cached setting delegate for the '{@link #getPayloadArgument() <em>Payload Argument</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getPayloadArgument()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate PAYLOAD_ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ACCEPT_ACTION_USAGE__PAYLOAD_ARGUMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate PAYLOAD_ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ACCEPT_ACTION_USAGE__PAYLOAD_ARGUMENT).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
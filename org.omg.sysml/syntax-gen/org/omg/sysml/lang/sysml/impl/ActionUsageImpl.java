@@ -61,19 +61,19 @@ public class ActionUsageImpl extends OccurrenceUsageImpl implements ActionUsage
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getParameter()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate PARAMETER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.STEP__PARAMETER).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate PARAMETER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.STEP__PARAMETER).getSettingDelegate();
 	/**
 	 * The cached setting delegate for the '{@link #getActionDefinition() <em>Action Definition</em>}' reference list.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getActionDefinition()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate ACTION_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ACTION_USAGE__ACTION_DEFINITION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate ACTION_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ACTION_USAGE__ACTION_DEFINITION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -47,10 +47,10 @@ public class ActorMembershipImpl extends ParameterMembershipImpl implements Acto
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getOwnedActorParameter()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate OWNED_ACTOR_PARAMETER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ACTOR_MEMBERSHIP__OWNED_ACTOR_PARAMETER).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate OWNED_ACTOR_PARAMETER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ACTOR_MEMBERSHIP__OWNED_ACTOR_PARAMETER).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -51,10 +51,10 @@ public class AllocationDefinitionImpl extends ConnectionDefinitionImpl implement
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getAllocation()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate ALLOCATION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ALLOCATION_DEFINITION__ALLOCATION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate ALLOCATION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ALLOCATION_DEFINITION__ALLOCATION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -53,10 +53,10 @@ public class AllocationUsageImpl extends ConnectionUsageImpl implements Allocati
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getAllocationDefinition()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate ALLOCATION_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ALLOCATION_USAGE__ALLOCATION_DEFINITION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate ALLOCATION_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ALLOCATION_USAGE__ALLOCATION_DEFINITION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
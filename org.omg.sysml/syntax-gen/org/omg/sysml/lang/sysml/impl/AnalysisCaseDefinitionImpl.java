@@ -54,20 +54,20 @@ public class AnalysisCaseDefinitionImpl extends CaseDefinitionImpl implements An
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getAnalysisAction()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate ANALYSIS_ACTION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ANALYSIS_CASE_DEFINITION__ANALYSIS_ACTION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate ANALYSIS_ACTION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ANALYSIS_CASE_DEFINITION__ANALYSIS_ACTION).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getResultExpression() <em>Result Expression</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getResultExpression()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate RESULT_EXPRESSION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ANALYSIS_CASE_DEFINITION__RESULT_EXPRESSION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate RESULT_EXPRESSION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ANALYSIS_CASE_DEFINITION__RESULT_EXPRESSION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
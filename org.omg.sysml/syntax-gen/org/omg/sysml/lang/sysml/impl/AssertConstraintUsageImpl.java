@@ -71,10 +71,10 @@ public class AssertConstraintUsageImpl extends ConstraintUsageImpl implements As
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getAssertedConstraint()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate ASSERTED_CONSTRAINT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ASSERT_CONSTRAINT_USAGE__ASSERTED_CONSTRAINT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate ASSERTED_CONSTRAINT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ASSERT_CONSTRAINT_USAGE__ASSERTED_CONSTRAINT).getSettingDelegate();
 	/**
 	 * The cached value of the BindingConnector from the result of the
 	 * this ConstraintUsage to the result of a LiteralBoolean true.
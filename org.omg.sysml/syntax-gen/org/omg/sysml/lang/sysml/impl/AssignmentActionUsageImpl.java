@@ -49,30 +49,30 @@ public class AssignmentActionUsageImpl extends ActionUsageImpl implements Assign
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getTargetArgument()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate TARGET_ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ASSIGNMENT_ACTION_USAGE__TARGET_ARGUMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate TARGET_ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ASSIGNMENT_ACTION_USAGE__TARGET_ARGUMENT).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getValueExpression() <em>Value Expression</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getValueExpression()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate VALUE_EXPRESSION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ASSIGNMENT_ACTION_USAGE__VALUE_EXPRESSION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate VALUE_EXPRESSION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ASSIGNMENT_ACTION_USAGE__VALUE_EXPRESSION).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getReferent() <em>Referent</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getReferent()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate REFERENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ASSIGNMENT_ACTION_USAGE__REFERENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate REFERENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ASSIGNMENT_ACTION_USAGE__REFERENT).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
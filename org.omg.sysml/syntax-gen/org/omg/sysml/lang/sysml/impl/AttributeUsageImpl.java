@@ -51,10 +51,10 @@ public class AttributeUsageImpl extends UsageImpl implements AttributeUsage {
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getAttributeDefinition()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate ATTRIBUTE_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ATTRIBUTE_USAGE__ATTRIBUTE_DEFINITION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate ATTRIBUTE_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ATTRIBUTE_USAGE__ATTRIBUTE_DEFINITION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
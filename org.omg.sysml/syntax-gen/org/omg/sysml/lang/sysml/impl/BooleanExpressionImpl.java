@@ -49,10 +49,10 @@ public class BooleanExpressionImpl extends ExpressionImpl implements BooleanExpr
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getPredicate()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate PREDICATE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.BOOLEAN_EXPRESSION__PREDICATE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate PREDICATE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.BOOLEAN_EXPRESSION__PREDICATE).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -50,10 +50,10 @@ public class ClassifierImpl extends TypeImpl implements Classifier {
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getOwnedSubclassification()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate OWNED_SUBCLASSIFICATION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.CLASSIFIER__OWNED_SUBCLASSIFICATION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate OWNED_SUBCLASSIFICATION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.CLASSIFIER__OWNED_SUBCLASSIFICATION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
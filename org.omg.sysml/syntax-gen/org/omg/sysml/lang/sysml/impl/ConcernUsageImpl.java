@@ -47,10 +47,10 @@ public class ConcernUsageImpl extends RequirementUsageImpl implements ConcernUsa
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getConcernDefinition()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate CONCERN_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.CONCERN_USAGE__CONCERN_DEFINITION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate CONCERN_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.CONCERN_USAGE__CONCERN_DEFINITION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -83,10 +83,10 @@ public class ConjugationImpl extends RelationshipImpl implements Conjugation {
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getOwningType()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate OWNING_TYPE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.CONJUGATION__OWNING_TYPE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate OWNING_TYPE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.CONJUGATION__OWNING_TYPE).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -106,20 +106,20 @@ public abstract class ConnectorAsUsageImpl extends UsageImpl implements Connecto
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getRelatedFeature()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate RELATED_FEATURE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.CONNECTOR__RELATED_FEATURE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate RELATED_FEATURE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.CONNECTOR__RELATED_FEATURE).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getAssociation() <em>Association</em>}' reference list.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getAssociation()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate ASSOCIATION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.CONNECTOR__ASSOCIATION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate ASSOCIATION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.CONNECTOR__ASSOCIATION).getSettingDelegate();
 
 	/**
 	 * The default value of the '{@link #isDirected() <em>Is Directed</em>}' attribute.
@@ -146,30 +146,30 @@ public abstract class ConnectorAsUsageImpl extends UsageImpl implements Connecto
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getConnectorEnd()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate CONNECTOR_END__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.CONNECTOR__CONNECTOR_END).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate CONNECTOR_END__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.CONNECTOR__CONNECTOR_END).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getSourceFeature() <em>Source Feature</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getSourceFeature()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate SOURCE_FEATURE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.CONNECTOR__SOURCE_FEATURE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate SOURCE_FEATURE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.CONNECTOR__SOURCE_FEATURE).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getTargetFeature() <em>Target Feature</em>}' reference list.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getTargetFeature()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate TARGET_FEATURE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.CONNECTOR__TARGET_FEATURE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate TARGET_FEATURE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.CONNECTOR__TARGET_FEATURE).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -55,10 +55,10 @@ public class DifferencingImpl extends RelationshipImpl implements Differencing {
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getTypeDifferenced()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate TYPE_DIFFERENCED__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.DIFFERENCING__TYPE_DIFFERENCED).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate TYPE_DIFFERENCED__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.DIFFERENCING__TYPE_DIFFERENCED).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -84,10 +84,10 @@ public class DisjoiningImpl extends RelationshipImpl implements Disjoining {
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getOwningType()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate OWNING_TYPE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.DISJOINING__OWNING_TYPE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate OWNING_TYPE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.DISJOINING__OWNING_TYPE).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -50,10 +50,10 @@ public class DocumentationImpl extends CommentImpl implements Documentation {
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getDocumentedElement()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate DOCUMENTED_ELEMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.DOCUMENTATION__DOCUMENTED_ELEMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate DOCUMENTED_ELEMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.DOCUMENTATION__DOCUMENTED_ELEMENT).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -48,10 +48,10 @@ public class ElementFilterMembershipImpl extends OwningMembershipImpl implements
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getCondition()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate CONDITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT_FILTER_MEMBERSHIP__CONDITION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate CONDITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT_FILTER_MEMBERSHIP__CONDITION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
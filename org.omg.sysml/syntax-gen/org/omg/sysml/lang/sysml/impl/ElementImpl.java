@@ -36,6 +36,7 @@ import org.eclipse.emf.ecore.util.EDataTypeUniqueEList;
 import org.eclipse.emf.ecore.util.EObjectContainmentWithInverseEList;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.util.InternalEList;
+import org.omg.sysml.adapter.ElementAdapter;
 import org.omg.sysml.lang.sysml.Annotation;
 import org.omg.sysml.lang.sysml.Documentation;
 import org.omg.sysml.lang.sysml.Element;
@@ -92,20 +93,20 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getOwningMembership()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate OWNING_MEMBERSHIP__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__OWNING_MEMBERSHIP).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate OWNING_MEMBERSHIP__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__OWNING_MEMBERSHIP).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getOwningNamespace() <em>Owning Namespace</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getOwningNamespace()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate OWNING_NAMESPACE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__OWNING_NAMESPACE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate OWNING_NAMESPACE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__OWNING_NAMESPACE).getSettingDelegate();
 
 	/**
 	 * The default value of the '{@link #getElementId() <em>Element Id</em>}' attribute.
@@ -120,62 +121,97 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
 	/**
 	 * The cached value of the '{@link #getElementId() <em>Element Id</em>}' attribute.
 	 * <!-- begin-user-doc -->
+	 * This is only used if the elementId is not a UUID in canonical form. Otherwise, the UUID is
+	 * stored as two longs, and its String form is constructed when requested.
 	 * <!-- end-user-doc -->
 	 * @see #getElementId()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
 	protected String elementId = ELEMENT_ID_EDEFAULT;
 
+	/**
+	 * <!-- begin-user-doc -->
+	 * The most significant bits of the elementId UUID (valid if isElementUUID is true).
+	 * <!-- end-user-doc -->
+	 * @generated NOT
+	 */
+	protected long elementIdMostSigBits = 0L;
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * The least significant bits of the elementId UUID (valid if isElementUUID is true).
+	 * <!-- end-user-doc -->
+	 * @generated NOT
+	 */
+	protected long elementIdLeastSigBits = 0L;
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * Whether the elementId is stored as a UUID.
+	 * <!-- end-user-doc -->
+	 * @generated NOT
+	 */
+	protected volatile boolean isElementUUID = false;
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * The String form of the elementId UUID, constructed lazily when it is first requested (null
+	 * if it has not been requested or isElementUUID is false).
+	 * <!-- end-user-doc -->
+	 * @generated NOT
+	 */
+	protected volatile String elementUUIDString = null;
+
 	/**
 	 * The cached setting delegate for the '{@link #getOwner() <em>Owner</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getOwner()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate OWNER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__OWNER).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate OWNER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__OWNER).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getOwnedElement() <em>Owned Element</em>}' reference list.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getOwnedElement()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate OWNED_ELEMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__OWNED_ELEMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate OWNED_ELEMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__OWNED_ELEMENT).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getDocumentation() <em>Documentation</em>}' reference list.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getDocumentation()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate DOCUMENTATION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__DOCUMENTATION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate DOCUMENTATION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__DOCUMENTATION).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getOwnedAnnotation() <em>Owned Annotation</em>}' reference list.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getOwnedAnnotation()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate OWNED_ANNOTATION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__OWNED_ANNOTATION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate OWNED_ANNOTATION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__OWNED_ANNOTATION).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getTextualRepresentation() <em>Textual Representation</em>}' reference list.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getTextualRepresentation()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate TEXTUAL_REPRESENTATION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__TEXTUAL_REPRESENTATION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate TEXTUAL_REPRESENTATION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__TEXTUAL_REPRESENTATION).getSettingDelegate();
 
 	/**
 	 * The cached value of the '{@link #getAliasIds() <em>Alias Ids</em>}' attribute list.
@@ -232,30 +268,30 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getShortName()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate SHORT_NAME__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__SHORT_NAME).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate SHORT_NAME__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__SHORT_NAME).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getName() <em>Name</em>}' attribute.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getName()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate NAME__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__NAME).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate NAME__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__NAME).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getQualifiedName() <em>Qualified Name</em>}' attribute.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getQualifiedName()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate QUALIFIED_NAME__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__QUALIFIED_NAME).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate QUALIFIED_NAME__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__QUALIFIED_NAME).getSettingDelegate();
 
 	/**
 	 * The default value of the '{@link #isImpliedIncluded() <em>Is Implied Included</em>}' attribute.
@@ -282,10 +318,19 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #isLibraryElement()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate IS_LIBRARY_ELEMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__IS_LIBRARY_ELEMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate IS_LIBRARY_ELEMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ELEMENT__IS_LIBRARY_ELEMENT).getSettingDelegate();
+
+	/**
+	 * The ElementAdapter attached to this Element, if any, so that it can be accessed without
+	 * searching the adapter list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated NOT
+	 */
+	protected volatile ElementAdapter elementAdapter = null;
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -314,34 +359,136 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
 	 */
 	@Override
 	public String getElementId() {
-		if (elementId == null) {
+		String id = elementId;
+		if (id == null) {
+			id = elementUUIDString;
+			if (id == null) {
+				id = cacheElementUUIDString(getElementUUID());
+			}
+		}
+		return id;
+	}
+	
+	/**
+	 * Cache the String form of the given UUID, if it is still the elementId, and return it.
+	 */
+	private String cacheElementUUIDString(UUID uuid) {
+		String id = uuid.toString();
+		synchronized (this) {
+			if (isElementUUID && 
+					elementIdMostSigBits == uuid.getMostSignificantBits() && 
+					elementIdLeastSigBits == uuid.getLeastSignificantBits()) {
+				elementUUIDString = id;
+			}
+		}
+		return id;
+	}
+	
+	/**
+	 * <!-- begin-user-doc -->
+	 * Get the elementId as a UUID, without constructing its String form. If there is not elementId,
+	 * set it to a random UUID (or, for a standard library element, a UUID based on its qualified name).
+	 * <!-- end-user-doc -->
+	 * @generated NOT
+	 */
+	public UUID getElementUUID() {
+		String id = elementId;
+		if (id != null) {
+			return UUID.fromString(id);
+		}
+		if (!isElementUUID) {
 			UUID uuid = UUID.randomUUID();
 			if (ElementUtil.isStandardLibraryElement(this)) {
 				String qualifiedName = getQualifiedName();
 				if (qualifiedName != null) {
 					Namespace libraryNamespace = libraryNamespace();
 					if (this != libraryNamespace) {
-						UUID namespaceUUID = UUID.fromString(libraryNamespace.getElementId());
+						UUID namespaceUUID = ElementUtil.getElementUUIDOf(libraryNamespace);
 						uuid = ElementUtil.constructNameUUID(namespaceUUID, qualifiedName);
 					}
 				}
 			}
-			elementId = uuid.toString();
+			initElementUUID(uuid);
+			id = elementId;
+			if (id != null) {
+				return UUID.fromString(id);
+			}
 		}
-		return elementId;
+		return new UUID(elementIdMostSigBits, elementIdLeastSigBits);
+	}
+	
+	/**
+	 * <!-- begin-user-doc -->
+	 * Set the elementId to the given UUID, if there is not already an elementId, without notification
+	 * (since this is equivalent to the elementId being generated by getElementId).
+	 * <!-- end-user-doc -->
+	 * @generated NOT
+	 */
+	public synchronized boolean initElementUUID(UUID uuid) {
+		if (isElementUUID || elementId != null) {
+			return false;
+		} else {
+			basicSetElementUUID(uuid);
+			return true;
+		}
+	}
+	
+	protected void basicSetElementUUID(UUID uuid) {
+		elementId = null;
+		elementUUIDString = null;
+		elementIdMostSigBits = uuid.getMostSignificantBits();
+		elementIdLeastSigBits = uuid.getLeastSignificantBits();
+		isElementUUID = true;
+	}
+	
+	/**
+	 * <!-- begin-user-doc -->
+	 * Get the elementId, if it has been set, without generating one.
+	 * <!-- end-user-doc -->
+	 * @generated NOT
+	 */
+	protected String basicGetElementId() {
+		String id = elementId;
+		return id != null? id: 
+			   isElementUUID? getElementId(): 
+			   null;
 	}
 
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	@Override
 	public void setElementId(String newElementId) {
-		String oldElementId = elementId;
-		elementId = newElementId;
+		String oldElementId = basicGetElementId();
+		UUID uuid = toUUID(newElementId);
+		synchronized (this) {
+			if (uuid != null) {
+				basicSetElementUUID(uuid);
+			} else {
+				elementId = newElementId;
+				elementUUIDString = null;
+				isElementUUID = false;
+			}
+		}
 		if (eNotificationRequired())
-			eNotify(new ENotificationImpl(this, Notification.SET, SysMLPackage.ELEMENT__ELEMENT_ID, oldElementId, elementId));
+			eNotify(new ENotificationImpl(this, Notification.SET, SysMLPackage.ELEMENT__ELEMENT_ID, oldElementId, newElementId));
+	}
+	
+	/**
+	 * Convert the given ID to a UUID, if it is a UUID in canonical (lower case) form. Otherwise return null.
+	 */
+	private static UUID toUUID(String id) {
+		if (id == null || id.length() != 36) {
+			return null;
+		}
+		try {
+			UUID uuid = UUID.fromString(id);
+			return uuid.toString().equals(id)? uuid: null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
 	}
 
 	/**
@@ -713,6 +860,29 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
 		NAME__ESETTING_DELEGATE.dynamicSet(this, null, 0, newName);
 	}
 	
+	// Adapter
+	
+	/**
+	 * <!-- begin-user-doc -->
+	 * Get the ElementAdapter attached to this Element, or null if there is none.
+	 * <!-- end-user-doc -->
+	 * @generated NOT
+	 */
+	public ElementAdapter getElementAdapter() {
+		return elementAdapter;
+	}
+	
+	/**
+	 * <!-- begin-user-doc -->
+	 * Set the ElementAdapter slot of this Element. This is only to be used by the ElementAdapter
+	 * when it is added to or removed from this Element.
+	 * <!-- end-user-doc -->
+	 * @generated NOT
+	 */
+	public void setElementAdapter(ElementAdapter elementAdapter) {
+		this.elementAdapter = elementAdapter;
+	}
+	
 	// Operations
 
 	/**
@@ -1002,7 +1172,7 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	@Override
 	public boolean eIsSet(int featureID) {
@@ -1016,7 +1186,7 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
 			case SysMLPackage.ELEMENT__OWNING_NAMESPACE:
 				return OWNING_NAMESPACE__ESETTING_DELEGATE.dynamicIsSet(this, null, 0);
 			case SysMLPackage.ELEMENT__ELEMENT_ID:
-				return ELEMENT_ID_EDEFAULT == null ? elementId != null : !ELEMENT_ID_EDEFAULT.equals(elementId);
+				return elementId != null || isElementUUID;
 			case SysMLPackage.ELEMENT__OWNER:
 				return OWNER__ESETTING_DELEGATE.dynamicIsSet(this, null, 0);
 			case SysMLPackage.ELEMENT__OWNED_ELEMENT:
@@ -1070,7 +1240,7 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	@Override
 	public String toString() {
@@ -1078,7 +1248,7 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
 
 		StringBuilder result = new StringBuilder(super.toString());
 		result.append(" (elementId: ");
-		result.append(elementId);
+		result.append(basicGetElementId());
 		result.append(", aliasIds: ");
 		result.append(aliasIds);
 		result.append(", declaredShortName: ");
@@ -52,10 +52,10 @@ public class EnumerationDefinitionImpl extends AttributeDefinitionImpl implement
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getEnumeratedValue()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate ENUMERATED_VALUE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ENUMERATION_DEFINITION__ENUMERATED_VALUE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate ENUMERATED_VALUE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ENUMERATION_DEFINITION__ENUMERATED_VALUE).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
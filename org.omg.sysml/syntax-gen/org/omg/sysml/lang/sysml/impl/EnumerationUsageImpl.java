@@ -55,10 +55,10 @@ public class EnumerationUsageImpl extends AttributeUsageImpl implements Enumerat
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getEnumerationDefinition()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate ENUMERATION_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ENUMERATION_USAGE__ENUMERATION_DEFINITION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate ENUMERATION_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ENUMERATION_USAGE__ENUMERATION_DEFINITION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
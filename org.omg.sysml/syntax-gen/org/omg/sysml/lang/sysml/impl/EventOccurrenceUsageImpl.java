@@ -46,10 +46,10 @@ public class EventOccurrenceUsageImpl extends OccurrenceUsageImpl implements Eve
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getEventOccurrence()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate EVENT_OCCURRENCE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.EVENT_OCCURRENCE_USAGE__EVENT_OCCURRENCE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate EVENT_OCCURRENCE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.EVENT_OCCURRENCE_USAGE__EVENT_OCCURRENCE).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
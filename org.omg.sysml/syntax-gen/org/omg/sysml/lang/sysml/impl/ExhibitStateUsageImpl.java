@@ -53,10 +53,10 @@ public class ExhibitStateUsageImpl extends StateUsageImpl implements ExhibitStat
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getExhibitedState()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate EXHIBITED_STATE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.EXHIBIT_STATE_USAGE__EXHIBITED_STATE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate EXHIBITED_STATE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.EXHIBIT_STATE_USAGE__EXHIBITED_STATE).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
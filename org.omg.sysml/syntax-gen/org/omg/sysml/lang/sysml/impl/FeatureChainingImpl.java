@@ -72,10 +72,10 @@ public class FeatureChainingImpl extends RelationshipImpl implements FeatureChai
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getFeatureChained()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate FEATURE_CHAINED__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.FEATURE_CHAINING__FEATURE_CHAINED).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate FEATURE_CHAINED__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.FEATURE_CHAINING__FEATURE_CHAINED).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -84,10 +84,10 @@ public class FeatureInvertingImpl extends RelationshipImpl implements FeatureInv
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getOwningFeature()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate OWNING_FEATURE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.FEATURE_INVERTING__OWNING_FEATURE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate OWNING_FEATURE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.FEATURE_INVERTING__OWNING_FEATURE).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
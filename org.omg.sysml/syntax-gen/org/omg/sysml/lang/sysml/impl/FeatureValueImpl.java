@@ -53,19 +53,19 @@ public class FeatureValueImpl extends OwningMembershipImpl implements FeatureVal
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getFeatureWithValue()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate FEATURE_WITH_VALUE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.FEATURE_VALUE__FEATURE_WITH_VALUE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate FEATURE_WITH_VALUE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.FEATURE_VALUE__FEATURE_WITH_VALUE).getSettingDelegate();
 	/**
 	 * The cached setting delegate for the '{@link #getValue() <em>Value</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getValue()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate VALUE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.FEATURE_VALUE__VALUE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate VALUE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.FEATURE_VALUE__VALUE).getSettingDelegate();
 	/**
 	 * The default value of the '{@link #isInitial() <em>Is Initial</em>}' attribute.
 	 * <!-- begin-user-doc -->
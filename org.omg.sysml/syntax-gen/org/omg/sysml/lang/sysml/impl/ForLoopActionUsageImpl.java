@@ -48,20 +48,20 @@ public class ForLoopActionUsageImpl extends LoopActionUsageImpl implements ForLo
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getSeqArgument()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate SEQ_ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.FOR_LOOP_ACTION_USAGE__SEQ_ARGUMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate SEQ_ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.FOR_LOOP_ACTION_USAGE__SEQ_ARGUMENT).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getLoopVariable() <em>Loop Variable</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getLoopVariable()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate LOOP_VARIABLE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.FOR_LOOP_ACTION_USAGE__LOOP_VARIABLE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate LOOP_VARIABLE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.FOR_LOOP_ACTION_USAGE__LOOP_VARIABLE).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -49,30 +49,30 @@ public class IfActionUsageImpl extends ActionUsageImpl implements IfActionUsage
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getElseAction()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate ELSE_ACTION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.IF_ACTION_USAGE__ELSE_ACTION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate ELSE_ACTION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.IF_ACTION_USAGE__ELSE_ACTION).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getThenAction() <em>Then Action</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getThenAction()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate THEN_ACTION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.IF_ACTION_USAGE__THEN_ACTION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate THEN_ACTION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.IF_ACTION_USAGE__THEN_ACTION).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getIfArgument() <em>If Argument</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getIfArgument()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate IF_ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.IF_ACTION_USAGE__IF_ARGUMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate IF_ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.IF_ACTION_USAGE__IF_ARGUMENT).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -127,20 +127,20 @@ public abstract class ImportImpl extends RelationshipImpl implements Import {
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getImportedElement()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate IMPORTED_ELEMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.IMPORT__IMPORTED_ELEMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate IMPORTED_ELEMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.IMPORT__IMPORTED_ELEMENT).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getImportOwningNamespace() <em>Import Owning Namespace</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getImportOwningNamespace()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate IMPORT_OWNING_NAMESPACE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.IMPORT__IMPORT_OWNING_NAMESPACE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate IMPORT_OWNING_NAMESPACE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.IMPORT__IMPORT_OWNING_NAMESPACE).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc --> <!-- end-user-doc -->
@@ -51,10 +51,10 @@ public class IncludeUseCaseUsageImpl extends UseCaseUsageImpl implements Include
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getUseCaseIncluded()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate USE_CASE_INCLUDED__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.INCLUDE_USE_CASE_USAGE__USE_CASE_INCLUDED).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate USE_CASE_INCLUDED__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.INCLUDE_USE_CASE_USAGE__USE_CASE_INCLUDED).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
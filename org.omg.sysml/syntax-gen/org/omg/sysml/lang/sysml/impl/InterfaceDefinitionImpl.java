@@ -53,10 +53,10 @@ public class InterfaceDefinitionImpl extends ConnectionDefinitionImpl implements
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getInterfaceEnd()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate INTERFACE_END__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.INTERFACE_DEFINITION__INTERFACE_END).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate INTERFACE_END__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.INTERFACE_DEFINITION__INTERFACE_END).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -51,10 +51,10 @@ public class InterfaceUsageImpl extends ConnectionUsageImpl implements Interface
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getInterfaceDefinition()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate INTERFACE_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.INTERFACE_USAGE__INTERFACE_DEFINITION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate INTERFACE_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.INTERFACE_USAGE__INTERFACE_DEFINITION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
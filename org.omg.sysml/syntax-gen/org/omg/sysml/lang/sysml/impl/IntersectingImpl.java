@@ -55,10 +55,10 @@ public class IntersectingImpl extends RelationshipImpl implements Intersecting {
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getTypeIntersected()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate TYPE_INTERSECTED__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.INTERSECTING__TYPE_INTERSECTED).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate TYPE_INTERSECTED__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.INTERSECTING__TYPE_INTERSECTED).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
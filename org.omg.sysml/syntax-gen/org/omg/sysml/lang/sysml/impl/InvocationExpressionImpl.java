@@ -70,10 +70,10 @@ public class InvocationExpressionImpl extends ExpressionImpl implements Invocati
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getArgument()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.INVOCATION_EXPRESSION__ARGUMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.INVOCATION_EXPRESSION__ARGUMENT).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc --> <!-- end-user-doc -->
@@ -112,7 +112,7 @@ public class InvocationExpressionImpl extends ExpressionImpl implements Invocati
 		return type instanceof Function? (Function)type:
 			   type instanceof Expression? ((Expression)type).getFunction():
 			   (Function)SysMLLibraryUtil.getLibraryType(this, 
-					   ImplicitGeneralizationMap.getDefaultSupertypeFor(FunctionImpl.class, "base"));
+					   ImplicitGeneralizationMap.getDefaultSupertypeFor(SysMLPackage.Literals.FUNCTION));
 	}
 
 	@Override
@@ -52,10 +52,10 @@ public class ItemUsageImpl extends OccurrenceUsageImpl implements ItemUsage {
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getItemDefinition()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate ITEM_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ITEM_USAGE__ITEM_DEFINITION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate ITEM_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.ITEM_USAGE__ITEM_DEFINITION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
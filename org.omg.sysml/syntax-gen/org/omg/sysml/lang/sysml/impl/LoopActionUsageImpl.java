@@ -46,10 +46,10 @@ public abstract class LoopActionUsageImpl extends ActionUsageImpl implements Loo
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getBodyAction()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate BODY_ACTION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.LOOP_ACTION_USAGE__BODY_ACTION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate BODY_ACTION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.LOOP_ACTION_USAGE__BODY_ACTION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
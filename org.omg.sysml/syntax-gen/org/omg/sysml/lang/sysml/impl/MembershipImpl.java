@@ -66,20 +66,20 @@ public class MembershipImpl extends RelationshipImpl implements Membership {
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getMemberElementId()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate MEMBER_ELEMENT_ID__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.MEMBERSHIP__MEMBER_ELEMENT_ID).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate MEMBER_ELEMENT_ID__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.MEMBERSHIP__MEMBER_ELEMENT_ID).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getMembershipOwningNamespace() <em>Membership Owning Namespace</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getMembershipOwningNamespace()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate MEMBERSHIP_OWNING_NAMESPACE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.MEMBERSHIP__MEMBERSHIP_OWNING_NAMESPACE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate MEMBERSHIP_OWNING_NAMESPACE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.MEMBERSHIP__MEMBERSHIP_OWNING_NAMESPACE).getSettingDelegate();
 
 	/**
 	 * The default value of the '{@link #getMemberShortName() <em>Member Short Name</em>}' attribute.
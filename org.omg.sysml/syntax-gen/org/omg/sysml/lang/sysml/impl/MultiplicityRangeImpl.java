@@ -57,19 +57,19 @@ public class MultiplicityRangeImpl extends MultiplicityImpl implements Multiplic
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getLowerBound()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate LOWER_BOUND__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.MULTIPLICITY_RANGE__LOWER_BOUND).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate LOWER_BOUND__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.MULTIPLICITY_RANGE__LOWER_BOUND).getSettingDelegate();
 	/**
 	 * The cached setting delegate for the '{@link #getUpperBound() <em>Upper Bound</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getUpperBound()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate UPPER_BOUND__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.MULTIPLICITY_RANGE__UPPER_BOUND).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate UPPER_BOUND__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.MULTIPLICITY_RANGE__UPPER_BOUND).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
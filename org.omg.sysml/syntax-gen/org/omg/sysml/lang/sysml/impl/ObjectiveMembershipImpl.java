@@ -48,10 +48,10 @@ public class ObjectiveMembershipImpl extends FeatureMembershipImpl implements Ob
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getOwnedObjectiveRequirement()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate OWNED_OBJECTIVE_REQUIREMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.OBJECTIVE_MEMBERSHIP__OWNED_OBJECTIVE_REQUIREMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate OWNED_OBJECTIVE_REQUIREMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.OBJECTIVE_MEMBERSHIP__OWNED_OBJECTIVE_REQUIREMENT).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -49,10 +49,10 @@ public class OccurrenceDefinitionImpl extends DefinitionImpl implements Occurren
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getLifeClass()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate LIFE_CLASS__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.OCCURRENCE_DEFINITION__LIFE_CLASS).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate LIFE_CLASS__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.OCCURRENCE_DEFINITION__LIFE_CLASS).getSettingDelegate();
 
 	/**
 	 * The default value of the '{@link #isIndividual() <em>Is Individual</em>}' attribute.
@@ -31,6 +31,7 @@ import org.omg.sysml.lang.sysml.OperatorExpression;
 import org.omg.sysml.lang.sysml.SysMLPackage;
 import org.omg.sysml.lang.sysml.util.SysMLLibraryUtil;
 import org.omg.sysml.util.ExpressionUtil;
+import org.omg.sysml.util.NamePool;
 
 /**
  * <!-- begin-user-doc --> An implementation of the model object
@@ -92,12 +93,12 @@ public class OperatorExpressionImpl extends InvocationExpressionImpl implements
 
 	/**
 	 * <!-- begin-user-doc --> <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	@Override
 	public void setOperator(String newOperator) {
 		String oldOperator = operator;
-		operator = newOperator;
+		operator = NamePool.intern(newOperator);
 		if (eNotificationRequired())
 			eNotify(new ENotificationImpl(this, Notification.SET, SysMLPackage.OPERATOR_EXPRESSION__OPERATOR, oldOperator, operator));
 	}
@@ -55,10 +55,10 @@ public class PackageImpl extends NamespaceImpl implements org.omg.sysml.lang.sys
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getFilterCondition()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate FILTER_CONDITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.PACKAGE__FILTER_CONDITION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate FILTER_CONDITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.PACKAGE__FILTER_CONDITION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -52,10 +52,10 @@ public class PerformActionUsageImpl extends ActionUsageImpl implements PerformAc
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getPerformedAction()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate PERFORMED_ACTION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.PERFORM_ACTION_USAGE__PERFORMED_ACTION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate PERFORMED_ACTION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.PERFORM_ACTION_USAGE__PERFORMED_ACTION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
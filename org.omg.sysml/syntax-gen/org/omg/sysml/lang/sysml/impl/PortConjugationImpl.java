@@ -66,10 +66,10 @@ public class PortConjugationImpl extends ConjugationImpl implements PortConjugat
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getConjugatedPortDefinition()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate CONJUGATED_PORT_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.PORT_CONJUGATION__CONJUGATED_PORT_DEFINITION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate CONJUGATED_PORT_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.PORT_CONJUGATION__CONJUGATED_PORT_DEFINITION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -49,10 +49,10 @@ public class PortDefinitionImpl extends OccurrenceDefinitionImpl implements Port
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getConjugatedPortDefinition()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate CONJUGATED_PORT_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.PORT_DEFINITION__CONJUGATED_PORT_DEFINITION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate CONJUGATED_PORT_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.PORT_DEFINITION__CONJUGATED_PORT_DEFINITION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -44,10 +44,10 @@ public class ReferenceSubsettingImpl extends SubsettingImpl implements Reference
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getReferencingFeature()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate REFERENCING_FEATURE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REFERENCE_SUBSETTING__REFERENCING_FEATURE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate REFERENCING_FEATURE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REFERENCE_SUBSETTING__REFERENCING_FEATURE).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
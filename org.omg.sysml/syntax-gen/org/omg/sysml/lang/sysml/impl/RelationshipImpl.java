@@ -63,10 +63,10 @@ public abstract class RelationshipImpl extends ElementImpl implements Relationsh
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getRelatedElement()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate RELATED_ELEMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.RELATIONSHIP__RELATED_ELEMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate RELATED_ELEMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.RELATIONSHIP__RELATED_ELEMENT).getSettingDelegate();
 
 	/**
 	 * The cached value of the '{@link #getTarget() <em>Target</em>}' reference list.
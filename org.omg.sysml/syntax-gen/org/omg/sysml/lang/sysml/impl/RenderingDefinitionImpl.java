@@ -52,10 +52,10 @@ public class RenderingDefinitionImpl extends PartDefinitionImpl implements Rende
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getRendering()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate RENDERING__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.RENDERING_DEFINITION__RENDERING).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate RENDERING__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.RENDERING_DEFINITION__RENDERING).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -56,10 +56,10 @@ public class RenderingUsageImpl extends PartUsageImpl implements RenderingUsage
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getRenderingDefinition()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate RENDERING_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.RENDERING_USAGE__RENDERING_DEFINITION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate RENDERING_DEFINITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.RENDERING_USAGE__RENDERING_DEFINITION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
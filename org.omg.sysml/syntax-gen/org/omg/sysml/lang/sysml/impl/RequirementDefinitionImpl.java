@@ -86,70 +86,70 @@ public class RequirementDefinitionImpl extends ConstraintDefinitionImpl implemen
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getText()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate TEXT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_DEFINITION__TEXT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate TEXT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_DEFINITION__TEXT).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getSubjectParameter() <em>Subject Parameter</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getSubjectParameter()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate SUBJECT_PARAMETER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_DEFINITION__SUBJECT_PARAMETER).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate SUBJECT_PARAMETER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_DEFINITION__SUBJECT_PARAMETER).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getActorParameter() <em>Actor Parameter</em>}' reference list.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getActorParameter()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate ACTOR_PARAMETER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_DEFINITION__ACTOR_PARAMETER).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate ACTOR_PARAMETER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_DEFINITION__ACTOR_PARAMETER).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getStakeholderParameter() <em>Stakeholder Parameter</em>}' reference list.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getStakeholderParameter()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate STAKEHOLDER_PARAMETER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_DEFINITION__STAKEHOLDER_PARAMETER).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate STAKEHOLDER_PARAMETER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_DEFINITION__STAKEHOLDER_PARAMETER).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getAssumedConstraint() <em>Assumed Constraint</em>}' reference list.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getAssumedConstraint()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate ASSUMED_CONSTRAINT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_DEFINITION__ASSUMED_CONSTRAINT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate ASSUMED_CONSTRAINT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_DEFINITION__ASSUMED_CONSTRAINT).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getRequiredConstraint() <em>Required Constraint</em>}' reference list.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getRequiredConstraint()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate REQUIRED_CONSTRAINT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_DEFINITION__REQUIRED_CONSTRAINT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate REQUIRED_CONSTRAINT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_DEFINITION__REQUIRED_CONSTRAINT).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getFramedConcern() <em>Framed Concern</em>}' reference list.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getFramedConcern()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate FRAMED_CONCERN__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_DEFINITION__FRAMED_CONCERN).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate FRAMED_CONCERN__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_DEFINITION__FRAMED_CONCERN).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -51,19 +51,19 @@ public class RequirementVerificationMembershipImpl extends RequirementConstraint
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getOwnedRequirement()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate OWNED_REQUIREMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_VERIFICATION_MEMBERSHIP__OWNED_REQUIREMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate OWNED_REQUIREMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_VERIFICATION_MEMBERSHIP__OWNED_REQUIREMENT).getSettingDelegate();
 	/**
 	 * The cached setting delegate for the '{@link #getVerifiedRequirement() <em>Verified Requirement</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getVerifiedRequirement()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate VERIFIED_REQUIREMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_VERIFICATION_MEMBERSHIP__VERIFIED_REQUIREMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate VERIFIED_REQUIREMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.REQUIREMENT_VERIFICATION_MEMBERSHIP__VERIFIED_REQUIREMENT).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -75,20 +75,20 @@ public class SatisfyRequirementUsageImpl extends RequirementUsageImpl implements
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getSatisfiedRequirement()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate SATISFIED_REQUIREMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.SATISFY_REQUIREMENT_USAGE__SATISFIED_REQUIREMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate SATISFIED_REQUIREMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.SATISFY_REQUIREMENT_USAGE__SATISFIED_REQUIREMENT).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getSatisfyingFeature() <em>Satisfying Feature</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getSatisfyingFeature()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate SATISFYING_FEATURE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.SATISFY_REQUIREMENT_USAGE__SATISFYING_FEATURE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate SATISFYING_FEATURE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.SATISFY_REQUIREMENT_USAGE__SATISFYING_FEATURE).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -52,28 +52,28 @@ public class SendActionUsageImpl extends ActionUsageImpl implements SendActionUs
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getReceiverArgument()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate RECEIVER_ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.SEND_ACTION_USAGE__RECEIVER_ARGUMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate RECEIVER_ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.SEND_ACTION_USAGE__RECEIVER_ARGUMENT).getSettingDelegate();
 	/**
 	 * The cached setting delegate for the '{@link #getPayloadArgument() <em>Payload Argument</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getPayloadArgument()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate PAYLOAD_ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.SEND_ACTION_USAGE__PAYLOAD_ARGUMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate PAYLOAD_ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.SEND_ACTION_USAGE__PAYLOAD_ARGUMENT).getSettingDelegate();
 	/**
 	 * The cached setting delegate for the '{@link #getSenderArgument() <em>Sender Argument</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getSenderArgument()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate SENDER_ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.SEND_ACTION_USAGE__SENDER_ARGUMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate SENDER_ARGUMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.SEND_ACTION_USAGE__SENDER_ARGUMENT).getSettingDelegate();
 	/**
 	 * The cached value of the BindingConnector from the result of the target Expression of this SendAction to 
 	 * its ItemFeature.
@@ -81,10 +81,10 @@ public class SpecializationImpl extends RelationshipImpl implements Specializati
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getOwningType()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate OWNING_TYPE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.SPECIALIZATION__OWNING_TYPE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate OWNING_TYPE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.SPECIALIZATION__OWNING_TYPE).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
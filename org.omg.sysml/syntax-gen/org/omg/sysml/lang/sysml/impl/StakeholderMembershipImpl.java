@@ -47,10 +47,10 @@ public class StakeholderMembershipImpl extends ParameterMembershipImpl implement
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getOwnedStakeholderParameter()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate OWNED_STAKEHOLDER_PARAMETER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.STAKEHOLDER_MEMBERSHIP__OWNED_STAKEHOLDER_PARAMETER).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate OWNED_STAKEHOLDER_PARAMETER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.STAKEHOLDER_MEMBERSHIP__OWNED_STAKEHOLDER_PARAMETER).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -74,10 +74,10 @@ public class StateSubactionMembershipImpl extends FeatureMembershipImpl implemen
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getAction()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate ACTION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.STATE_SUBACTION_MEMBERSHIP__ACTION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate ACTION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.STATE_SUBACTION_MEMBERSHIP__ACTION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
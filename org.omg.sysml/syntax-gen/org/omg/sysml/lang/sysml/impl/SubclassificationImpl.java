@@ -75,10 +75,10 @@ public class SubclassificationImpl extends SpecializationImpl implements Subclas
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getOwningClassifier()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate OWNING_CLASSIFIER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.SUBCLASSIFICATION__OWNING_CLASSIFIER).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate OWNING_CLASSIFIER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.SUBCLASSIFICATION__OWNING_CLASSIFIER).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc --> <!-- end-user-doc -->
@@ -99,10 +99,10 @@ public class TextualRepresentationImpl extends AnnotatingElementImpl implements
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getRepresentedElement()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate REPRESENTED_ELEMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.TEXTUAL_REPRESENTATION__REPRESENTED_ELEMENT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate REPRESENTED_ELEMENT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.TEXTUAL_REPRESENTATION__REPRESENTED_ELEMENT).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -73,10 +73,10 @@ public class TransitionFeatureMembershipImpl extends FeatureMembershipImpl imple
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getTransitionFeature()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate TRANSITION_FEATURE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.TRANSITION_FEATURE_MEMBERSHIP__TRANSITION_FEATURE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate TRANSITION_FEATURE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.TRANSITION_FEATURE_MEMBERSHIP__TRANSITION_FEATURE).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
@@ -60,60 +60,60 @@ public class TransitionUsageImpl extends ActionUsageImpl implements TransitionUs
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getSource()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate SOURCE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.TRANSITION_USAGE__SOURCE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate SOURCE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.TRANSITION_USAGE__SOURCE).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getTarget() <em>Target</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getTarget()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate TARGET__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.TRANSITION_USAGE__TARGET).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate TARGET__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.TRANSITION_USAGE__TARGET).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getTriggerAction() <em>Trigger Action</em>}' reference list.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getTriggerAction()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate TRIGGER_ACTION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.TRANSITION_USAGE__TRIGGER_ACTION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate TRIGGER_ACTION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.TRANSITION_USAGE__TRIGGER_ACTION).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getGuardExpression() <em>Guard Expression</em>}' reference list.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getGuardExpression()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate GUARD_EXPRESSION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.TRANSITION_USAGE__GUARD_EXPRESSION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate GUARD_EXPRESSION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.TRANSITION_USAGE__GUARD_EXPRESSION).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getEffectAction() <em>Effect Action</em>}' reference list.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getEffectAction()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate EFFECT_ACTION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.TRANSITION_USAGE__EFFECT_ACTION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate EFFECT_ACTION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.TRANSITION_USAGE__EFFECT_ACTION).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getSuccession() <em>Succession</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getSuccession()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate SUCCESSION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.TRANSITION_USAGE__SUCCESSION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate SUCCESSION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.TRANSITION_USAGE__SUCCESSION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
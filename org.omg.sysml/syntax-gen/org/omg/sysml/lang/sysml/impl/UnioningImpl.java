@@ -55,10 +55,10 @@ public class UnioningImpl extends RelationshipImpl implements Unioning {
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getTypeUnioned()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate TYPE_UNIONED__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.UNIONING__TYPE_UNIONED).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate TYPE_UNIONED__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.UNIONING__TYPE_UNIONED).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
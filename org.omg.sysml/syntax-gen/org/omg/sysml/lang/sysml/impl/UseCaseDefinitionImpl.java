@@ -50,10 +50,10 @@ public class UseCaseDefinitionImpl extends CaseDefinitionImpl implements UseCase
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getIncludedUseCase()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate INCLUDED_USE_CASE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.USE_CASE_DEFINITION__INCLUDED_USE_CASE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate INCLUDED_USE_CASE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.USE_CASE_DEFINITION__INCLUDED_USE_CASE).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
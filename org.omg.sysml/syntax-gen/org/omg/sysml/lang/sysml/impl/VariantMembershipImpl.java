@@ -48,10 +48,10 @@ public class VariantMembershipImpl extends OwningMembershipImpl implements Varia
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getOwnedVariantUsage()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate OWNED_VARIANT_USAGE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.VARIANT_MEMBERSHIP__OWNED_VARIANT_USAGE).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate OWNED_VARIANT_USAGE__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.VARIANT_MEMBERSHIP__OWNED_VARIANT_USAGE).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
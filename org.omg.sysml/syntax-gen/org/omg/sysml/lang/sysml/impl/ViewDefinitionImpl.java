@@ -58,39 +58,39 @@ public class ViewDefinitionImpl extends PartDefinitionImpl implements ViewDefini
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getView()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate VIEW__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.VIEW_DEFINITION__VIEW).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate VIEW__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.VIEW_DEFINITION__VIEW).getSettingDelegate();
 	/**
 	 * The cached setting delegate for the '{@link #getSatisfiedViewpoint() <em>Satisfied Viewpoint</em>}' reference list.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getSatisfiedViewpoint()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate SATISFIED_VIEWPOINT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.VIEW_DEFINITION__SATISFIED_VIEWPOINT).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate SATISFIED_VIEWPOINT__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.VIEW_DEFINITION__SATISFIED_VIEWPOINT).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getViewRendering() <em>View Rendering</em>}' reference.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getViewRendering()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate VIEW_RENDERING__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.VIEW_DEFINITION__VIEW_RENDERING).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate VIEW_RENDERING__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.VIEW_DEFINITION__VIEW_RENDERING).getSettingDelegate();
 
 	/**
 	 * The cached setting delegate for the '{@link #getViewCondition() <em>View Condition</em>}' reference list.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getViewCondition()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate VIEW_CONDITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.VIEW_DEFINITION__VIEW_CONDITION).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate VIEW_CONDITION__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.VIEW_DEFINITION__VIEW_CONDITION).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->
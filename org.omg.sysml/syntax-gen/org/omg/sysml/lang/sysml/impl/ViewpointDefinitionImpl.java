@@ -51,10 +51,10 @@ public class ViewpointDefinitionImpl extends RequirementDefinitionImpl implement
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
 	 * @see #getViewpointStakeholder()
-	 * @generated
+	 * @generated NOT
 	 * @ordered
 	 */
-	protected EStructuralFeature.Internal.SettingDelegate VIEWPOINT_STAKEHOLDER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.VIEWPOINT_DEFINITION__VIEWPOINT_STAKEHOLDER).getSettingDelegate();
+	protected static final EStructuralFeature.Internal.SettingDelegate VIEWPOINT_STAKEHOLDER__ESETTING_DELEGATE = ((EStructuralFeature.Internal)SysMLPackage.Literals.VIEWPOINT_DEFINITION__VIEWPOINT_STAKEHOLDER).getSettingDelegate();
 
 	/**
 	 * <!-- begin-user-doc -->